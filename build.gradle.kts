@@ -4,6 +4,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.4"
     jacoco
     checkstyle
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -23,6 +24,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // Caching
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     // OpenAPI / Swagger
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
@@ -43,6 +48,30 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+tasks.register<JavaExec>("threadModeBenchmark") {
+    description = "Compares API throughput and p99 latency on platform and virtual threads (virtual needs Java 21)."
+    group = "verification"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.contact.benchmark.ThreadModeBenchmark")
+    // Forward -Pbenchmark.concurrency=..., -Pbenchmark.duration-seconds=... etc.
+    systemProperties(project.properties.filterKeys { it.startsWith("benchmark.") })
+}
+
+// Microbenchmarks in src/jmh/java: ./gradlew jmh [-Pjmh.includes=ContactDomain]
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    warmup.set("1s")
+    iterations.set(5)
+    timeOnIteration.set("1s")
+    // Reports gc.alloc.rate.norm (bytes per operation) next to the timing of every benchmark
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
+
 jacoco {
     toolVersion = "0.8.11"
 }
@@ -0,0 +1,57 @@
+package com.example.contact.benchmark;
+
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactChanges;
+import com.example.contact.domain.model.ContactId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contact construction and validation, run on every create and update request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ContactDomainBenchmark {
+
+    private Contact contact;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        contact = Contact.reconstitute(new ContactId(1L), "王小明", "0912345678", "台北市信義區", now, now, 1L);
+    }
+
+    @Benchmark
+    public Contact create() {
+        return Contact.create("王小明", "0912345678", "台北市信義區");
+    }
+
+    /**
+     * Alternates between two phone numbers so every call detects a change and writes.
+     */
+    @Benchmark
+    public ContactChanges updateInfoChanged() {
+        toggle = !toggle;
+        return contact.updateInfo("王小明", toggle ? "0987654321" : "0912345678", "台北市信義區");
+    }
+
+    @Benchmark
+    public ContactChanges updateInfoUnchanged() {
+        return contact.updateInfo("王小明", contact.getPhone(), "台北市信義區");
+    }
+
+    @Benchmark
+    public ContactId contactId() {
+        return new ContactId(42L);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.contact.benchmark;
+
+import com.example.contact.domain.event.ContactCreatedEvent;
+import com.example.contact.domain.event.ContactUpdatedEvent;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.example.contact.infrastructure.audit.AuditPayloadProperties;
+import com.example.contact.infrastructure.event.AuditEventListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain event construction and the audit listener's JSON serialization,
+ * both run once per write request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ContactEventBenchmark {
+
+    /** Audit payload format: full snapshots, or a merge patch of the changed fields. */
+    @Param({"snapshot", "diff"})
+    private String payloadFormat;
+
+    private Contact contact;
+    private Contact before;
+    private AuditEventListener listener;
+    private AuditLog lastWritten;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        contact = Contact.reconstitute(new ContactId(1L), "王大明", "0987654321", "台北市大安區", now, now, 2L);
+        before = Contact.reconstitute(new ContactId(1L), "王小明", "0912345678", "台北市信義區", now, now, 1L);
+        // Same ObjectMapper setup as Spring Boot's auto-configured one; the writer just keeps the last log
+        listener = new AuditEventListener(auditLog -> lastWritten = auditLog,
+            Jackson2ObjectMapperBuilder.json().build(), new AuditPayloadProperties(payloadFormat, 10));
+    }
+
+    @Benchmark
+    public ContactCreatedEvent createdEventSnapshot() {
+        return new ContactCreatedEvent(contact);
+    }
+
+    @Benchmark
+    public ContactUpdatedEvent updatedEventSnapshot() {
+        return new ContactUpdatedEvent(contact, ContactSnapshot.of(before));
+    }
+
+    /**
+     * Builds the audit log for an update: two snapshots, or one merge patch, serialized to JSON.
+     * A new event per invocation, as snapshots cache their JSON.
+     */
+    @Benchmark
+    public void auditUpdateToJson(Blackhole blackhole) {
+        listener.onContactUpdated(new ContactUpdatedEvent(contact, ContactSnapshot.of(before)));
+        blackhole.consume(lastWritten);
+    }
+}
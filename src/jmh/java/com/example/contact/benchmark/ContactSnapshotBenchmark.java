@@ -0,0 +1,61 @@
+package com.example.contact.benchmark;
+
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshotting a contact and serializing the snapshot for the two consumers of
+ * each event, the audit trail and the outbox: a {@code Map.of} serialized by
+ * Jackson per consumer, against a {@link ContactSnapshot} encoded once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ContactSnapshotBenchmark {
+
+    private Contact contact;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        contact = Contact.reconstitute(new ContactId(1L), "王大明", "0987654321", "台北市大安區", now, now, 2L);
+        // Same ObjectMapper setup as Spring Boot's auto-configured one
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public void mapSnapshotWithJackson(Blackhole blackhole) throws JsonProcessingException {
+        Map<String, Object> snapshot = Map.of(
+            "id", contact.getId().value(),
+            "name", contact.getName(),
+            "phone", contact.getPhone(),
+            "address", contact.getAddress() != null ? contact.getAddress() : ""
+        );
+        blackhole.consume(objectMapper.writeValueAsString(snapshot));
+        blackhole.consume(objectMapper.writeValueAsString(snapshot));
+    }
+
+    @Benchmark
+    public void contactSnapshot(Blackhole blackhole) {
+        ContactSnapshot snapshot = ContactSnapshot.of(contact);
+        blackhole.consume(snapshot.toJson());
+        blackhole.consume(snapshot.toJson());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.contact.benchmark;
+
+import com.example.contact.domain.model.IdGenerator;
+import com.example.contact.domain.model.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event/correlation ID generation under contention, as when every request thread
+ * creates domain events at once: {@link UUID#randomUUID()} against
+ * {@link TimeOrderedIdGenerator}, both from 32 threads sharing one generator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(32)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator random = IdGenerator.RANDOM;
+    private final IdGenerator timeOrdered = new TimeOrderedIdGenerator();
+
+    @Benchmark
+    public UUID randomUuid() {
+        return random.next();
+    }
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return timeOrdered.next();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.contact.benchmark;
+
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.in.web.dto.AuditLogResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.ContactResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Domain-to-DTO mapping of list responses, sized like a default and a maximum page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "500"})
+    private int size;
+
+    private List<Contact> contacts;
+    private List<AuditLog> auditLogs;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        contacts = LongStream.rangeClosed(1, size)
+            .mapToObj(i -> Contact.reconstitute(new ContactId(i), "聯絡人" + i, "0912345678", "台北市", now, now, 1L))
+            .toList();
+        auditLogs = LongStream.rangeClosed(1, size)
+            .mapToObj(i -> AuditLog.reconstitute(i, i, now, OperationType.UPDATE,
+                "{\"id\":" + i + ",\"name\":\"王小明\"}", "{\"id\":" + i + ",\"name\":\"王大明\"}"))
+            .toList();
+    }
+
+    @Benchmark
+    public List<ContactResponse> contactResponses() {
+        return contacts.stream().map(ContactResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<AuditLogResponse> auditLogResponses() {
+        return auditLogs.stream().map(AuditLogResponse::from).toList();
+    }
+}
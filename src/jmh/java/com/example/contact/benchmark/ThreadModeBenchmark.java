@@ -0,0 +1,191 @@
+package com.example.contact.benchmark;
+
+import com.example.contact.ContactApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Load benchmark comparing the API on platform threads and on virtual threads.
+ *
+ * <p>Starts the application once per thread mode on a random port, seeds contacts
+ * and drives a closed-loop read/write mix ({@code benchmark.write-ratio} PUTs, the
+ * rest GETs) from {@code benchmark.concurrency} clients. Only requests completed
+ * after the warm-up are measured. Prints throughput and p50/p99/max latency;
+ * errors are failed requests, including 503s from the concurrency limit.</p>
+ *
+ * <p>Not a JMH benchmark - it measures the whole server, not a method - but kept
+ * with them so that it is never picked up as a test. Run with
+ * {@code gradle threadModeBenchmark -Pbenchmark.concurrency=400}. The
+ * virtual run needs Java 21; on older runtimes both runs use platform threads.</p>
+ */
+public final class ThreadModeBenchmark {
+
+    private static final int SEED_CONTACTS = 200;
+
+    private final int concurrency = Integer.getInteger("benchmark.concurrency", 400);
+    private final Duration warmup = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 5));
+    private final Duration measurement = Duration.ofSeconds(Long.getLong("benchmark.duration-seconds", 20));
+    private final double writeRatio = Double.parseDouble(System.getProperty("benchmark.write-ratio", "0.2"));
+    private final int poolSize = Integer.getInteger("benchmark.pool-size", 10);
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ThreadModeBenchmark benchmark = new ThreadModeBenchmark();
+        if (Runtime.version().feature() < 21) {
+            System.out.println("WARNING: Java " + Runtime.version().feature()
+                + " has no virtual threads; the 'virtual' run will use platform threads");
+        }
+        List<Result> results = List.of(benchmark.run(false), benchmark.run(true));
+        System.out.printf("%nconcurrency=%d, pool=%d, writes=%.0f%%, measured %ds%n",
+            benchmark.concurrency, benchmark.poolSize, benchmark.writeRatio * 100, benchmark.measurement.toSeconds());
+        System.out.printf("%-9s %12s %10s %10s %10s %8s%n", "threads", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        results.forEach(Result::print);
+    }
+
+    private Result run(boolean virtual) throws Exception {
+        // Command-line arguments, so they win over any application.yml on the classpath
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ContactApplication.class)
+                .run(
+                    "--server.port=0",
+                    "--spring.threads.virtual.enabled=" + virtual,
+                    "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                    "--contact.audit.analytics.enabled=false",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.example.contact=WARN")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            seed(client, baseUrl);
+            return drive(virtual ? "virtual" : "platform", client, baseUrl);
+        }
+    }
+
+    private void seed(HttpClient client, String baseUrl) throws Exception {
+        String contacts = IntStream.range(0, SEED_CONTACTS)
+            .mapToObj(i -> "{\"name\":\"壓測" + i + "\",\"phone\":\"09" + String.format("%08d", i) + "\"}")
+            .collect(Collectors.joining(",", "{\"contacts\":[", "]}"));
+        HttpResponse<String> response = client.send(json(baseUrl + "/api/contacts/bulk")
+            .POST(HttpRequest.BodyPublishers.ofString(contacts)).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201 && response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding failed: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private Result drive(String mode, HttpClient client, String baseUrl) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + measurement.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Samples>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> clientLoop(client, baseUrl, measureFrom, end)));
+            }
+            Samples total = new Samples();
+            for (Future<Samples> future : futures) {
+                total.addAll(future.get());
+            }
+            return total.toResult(mode, measurement);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private Samples clientLoop(HttpClient client, String baseUrl, long measureFrom, long end) {
+        Samples samples = new Samples();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            long id = random.nextLong(1, SEED_CONTACTS + 1);
+            HttpRequest request = random.nextDouble() < writeRatio
+                ? json(baseUrl + "/api/contacts/" + id)
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\"壓測" + id + "\",\"phone\":\"09" + String.format("%08d", random.nextInt(100_000_000)) + "\"}"))
+                    .build()
+                : HttpRequest.newBuilder(URI.create(baseUrl + "/api/contacts/" + id)).GET().build();
+            boolean ok;
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                // 412 is a lost optimistic-concurrency race between clients, an expected outcome
+                ok = status < 400 || status == 412;
+            } catch (Exception e) {
+                ok = false;
+            }
+            if (now >= measureFrom) {
+                samples.record(System.nanoTime() - now, ok);
+            }
+        }
+        return samples;
+    }
+
+    private static HttpRequest.Builder json(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Content-Type", "application/json");
+    }
+
+    /** Latencies of successful requests in nanoseconds, plus an error count. */
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long latencyNanos, boolean ok) {
+            if (!ok) {
+                errors++;
+                return;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        Result toResult(String mode, Duration measurement) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Result(mode, size / (double) measurement.toSeconds(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                sorted.length > 0 ? sorted[sorted.length - 1] : 0, errors);
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+        }
+    }
+
+    private record Result(String mode, double throughput, long p50Nanos, long p99Nanos, long maxNanos, long errors) {
+        void print() {
+            System.out.printf(Locale.ROOT, "%-9s %12.1f %10.2f %10.2f %10.2f %8d%n",
+                mode, throughput, p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6, errors);
+        }
+    }
+}
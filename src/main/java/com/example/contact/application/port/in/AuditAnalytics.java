@@ -0,0 +1,29 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.model.OperationType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Audit log statistics computed from the archived months.
+ *
+ * @param total                 number of matching audit logs
+ * @param countsByOperationType matching audit logs per operation type
+ * @param mostEditedContacts    contacts with the most updates, most first
+ * @param editsPerDay           updates per day, oldest day first; days without updates are omitted
+ */
+public record AuditAnalytics(
+    long total,
+    Map<OperationType, Long> countsByOperationType,
+    List<ContactEdits> mostEditedContacts,
+    List<DailyEdits> editsPerDay
+) {
+
+    public record ContactEdits(Long contactId, long edits) {
+    }
+
+    public record DailyEdits(LocalDate date, long edits) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.exception.ValidationException;
+import com.example.contact.domain.model.OperationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query object for audit log statistics over the archived months.
+ *
+ * <p>Every filter is optional and filters combine with AND.</p>
+ *
+ * @param contactId     only audit logs of this contact
+ * @param operationType only audit logs of this operation type
+ * @param from          inclusive lower bound on operation time
+ * @param to            exclusive upper bound on operation time
+ * @param top           number of most edited contacts to return
+ */
+public record AuditAnalyticsQuery(
+    Long contactId,
+    OperationType operationType,
+    LocalDateTime from,
+    LocalDateTime to,
+    int top
+) {
+    public static final int DEFAULT_TOP = 10;
+    public static final int MAX_TOP = 100;
+
+    public AuditAnalyticsQuery {
+        if (top < 1 || top > MAX_TOP) {
+            throw new ValidationException("top", "排行筆數必須介於 1 到 " + MAX_TOP + " 之間");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ValidationException("from", "查詢起始時間必須早於結束時間");
+        }
+    }
+}
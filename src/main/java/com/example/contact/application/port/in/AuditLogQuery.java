@@ -0,0 +1,40 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.exception.ValidationException;
+import com.example.contact.domain.model.OperationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query object for filtered keyset pagination over audit logs,
+ * ordered by operation time then ID, newest first.
+ *
+ * <p>Every filter is optional and filters combine with AND.</p>
+ *
+ * @param contactId     only audit logs of this contact
+ * @param operationType only audit logs of this operation type
+ * @param from          inclusive lower bound on operation time
+ * @param to            exclusive upper bound on operation time
+ * @param after         opaque cursor returned by the previous page, or {@code null} for the first page
+ * @param limit         maximum number of audit logs to return
+ */
+public record AuditLogQuery(
+    Long contactId,
+    OperationType operationType,
+    LocalDateTime from,
+    LocalDateTime to,
+    String after,
+    int limit
+) {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    public AuditLogQuery {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit", "每頁筆數必須介於 1 到 " + MAX_LIMIT + " 之間");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ValidationException("from", "查詢起始時間必須早於結束時間");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.exception.ValidationException;
+import com.example.contact.domain.model.AuditStatsGranularity;
+import com.example.contact.domain.model.OperationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query object for rolled-up audit log counts.
+ *
+ * <p>The time range is required and bounded to {@value #MAX_BUCKETS} buckets,
+ * so every query reads a bounded number of rollup rows.</p>
+ *
+ * @param granularity   width of the time buckets
+ * @param from          buckets starting at or after this time
+ * @param to            buckets starting before this time
+ * @param operationType only this operation type, or {@code null} for all
+ * @param contactId     only audit logs of this contact, {@code null} for all; day granularity only
+ */
+public record AuditStatsQuery(
+    AuditStatsGranularity granularity,
+    LocalDateTime from,
+    LocalDateTime to,
+    OperationType operationType,
+    Long contactId
+) {
+    public static final int MAX_BUCKETS = 10_000;
+
+    public AuditStatsQuery {
+        if (granularity == null) {
+            throw new ValidationException("granularity", "統計粒度為必填欄位");
+        }
+        if (from == null || to == null) {
+            throw new ValidationException("from", "統計起訖時間為必填欄位");
+        }
+        if (!from.isBefore(to)) {
+            throw new ValidationException("from", "查詢起始時間必須早於結束時間");
+        }
+        if (granularity.unit().between(from, to) > MAX_BUCKETS) {
+            throw new ValidationException("to", "查詢區間不可超過 " + MAX_BUCKETS + " 個統計區間");
+        }
+        if (contactId != null && granularity != AuditStatsGranularity.DAY) {
+            throw new ValidationException("granularity", "依聯絡人統計僅支援 DAY 粒度");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.contact.application.port.in;
+
+import java.util.List;
+
+/**
+ * Input port for creating many contacts in one request.
+ */
+public interface BulkCreateContactsUseCase {
+
+    int MAX_BATCH_SIZE = 10_000;
+
+    /**
+     * Validates every command and creates the valid ones in a single transaction.
+     * Invalid commands are reported per item and do not prevent the others from being created.
+     *
+     * @throws com.example.contact.domain.exception.ValidationException if more than
+     *         {@link #MAX_BATCH_SIZE} commands are given
+     */
+    BulkCreateResult createContacts(List<CreateContactCommand> commands);
+}
@@ -0,0 +1,40 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.model.Contact;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk create, one item per command in request order.
+ */
+public record BulkCreateResult(List<Item> items) {
+
+    public long createdCount() {
+        return items.stream().filter(Item::created).count();
+    }
+
+    public long failedCount() {
+        return items.size() - createdCount();
+    }
+
+    /**
+     * @param index   position of the command in the request
+     * @param contact the created contact, or {@code null} if the command was rejected
+     * @param field   the invalid field when rejected, may be {@code null}
+     * @param error   the rejection reason, or {@code null} if created
+     */
+    public record Item(int index, Contact contact, String field, String error) {
+
+        public static Item created(int index, Contact contact) {
+            return new Item(index, contact, null, null);
+        }
+
+        public static Item failed(int index, String field, String error) {
+            return new Item(index, null, field, error);
+        }
+
+        public boolean created() {
+            return contact != null;
+        }
+    }
+}
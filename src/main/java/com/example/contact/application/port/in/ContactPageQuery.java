@@ -0,0 +1,27 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.exception.ValidationException;
+
+/**
+ * Query object for keyset pagination over contacts, ordered by ID.
+ *
+ * @param after opaque cursor returned by the previous page, or {@code null} for the first page
+ * @param limit maximum number of contacts to return
+ */
+public record ContactPageQuery(
+    String after,
+    int limit
+) {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    public ContactPageQuery {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit", "每頁筆數必須介於 1 到 " + MAX_LIMIT + " 之間");
+        }
+    }
+
+    public static ContactPageQuery firstPage(int limit) {
+        return new ContactPageQuery(null, limit);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.contact.application.port.in;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated result.
+ *
+ * <p>{@code nextCursor} is an opaque token to pass back as {@code after}
+ * to fetch the following page; it is {@code null} on the last page.</p>
+ */
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor
+) {
+    public CursorPage {
+        items = List.copyOf(items);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -6,5 +6,15 @@ import com.example.contact.domain.model.ContactId;
  * Input port for deleting contacts.
  */
 public interface DeleteContactUseCase {
-    void deleteContact(ContactId id);
+    default void deleteContact(ContactId id) {
+        deleteContact(id, null);
+    }
+
+    /**
+     * Deletes the contact if it is still at {@code expectedVersion}.
+     *
+     * @param expectedVersion version the deletion is based on; {@code null} to use the currently stored version
+     * @throws com.example.contact.domain.exception.ContactVersionConflictException if the contact has changed
+     */
+    void deleteContact(ContactId id, Long expectedVersion);
 }
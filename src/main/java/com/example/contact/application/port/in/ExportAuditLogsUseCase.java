@@ -0,0 +1,17 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.model.AuditLog;
+
+import java.util.function.Consumer;
+
+/**
+ * Input port for exporting every audit log without materialising the whole table.
+ */
+public interface ExportAuditLogsUseCase {
+
+    /**
+     * Passes every audit log, ordered by ID, to {@code sink} one at a time.
+     * The sink runs inside a read-only transaction; exceptions it throws abort the export.
+     */
+    void exportAuditLogs(Consumer<AuditLog> sink);
+}
@@ -0,0 +1,17 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.model.Contact;
+
+import java.util.function.Consumer;
+
+/**
+ * Input port for exporting every contact without materialising the whole table.
+ */
+public interface ExportContactsUseCase {
+
+    /**
+     * Passes every contact, ordered by ID, to {@code sink} one at a time.
+     * The sink runs inside a read-only transaction; exceptions it throws abort the export.
+     */
+    void exportContacts(Consumer<Contact> sink);
+}
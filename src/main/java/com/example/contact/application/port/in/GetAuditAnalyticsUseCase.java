@@ -0,0 +1,13 @@
+package com.example.contact.application.port.in;
+
+/**
+ * Input port for audit log statistics that never touch the primary database.
+ */
+public interface GetAuditAnalyticsUseCase {
+
+    /**
+     * Aggregates the archived audit logs matching the query. Months not yet
+     * archived, including the current one, are not counted.
+     */
+    AuditAnalytics getAuditAnalytics(AuditAnalyticsQuery query);
+}
@@ -12,4 +12,11 @@ public interface GetAuditLogUseCase {
     List<AuditLog> getAllAuditLogs();
     List<AuditLog> getAuditLogsByContactId(Long contactId);
     List<AuditLog> getAuditLogsByOperationType(OperationType operationType);
+
+    /**
+     * Returns one page of audit logs matching the query's filters.
+     *
+     * @throws com.example.contact.domain.exception.ValidationException if the cursor is malformed
+     */
+    CursorPage<AuditLog> searchAuditLogs(AuditLogQuery query);
 }
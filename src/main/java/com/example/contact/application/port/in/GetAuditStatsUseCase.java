@@ -0,0 +1,18 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.model.AuditStatsBucket;
+
+import java.util.List;
+
+/**
+ * Input port for audit log counts per time bucket, read from rollups
+ * rather than from the audit logs themselves.
+ */
+public interface GetAuditStatsUseCase {
+
+    /**
+     * Returns the non-empty buckets in the query range, ordered by bucket start
+     * then operation type.
+     */
+    List<AuditStatsBucket> getAuditStats(AuditStatsQuery query);
+}
@@ -0,0 +1,20 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactRevision;
+
+import java.time.LocalDateTime;
+
+/**
+ * Input port for looking up a contact as it was at a past point in time.
+ */
+public interface GetContactAsOfUseCase {
+
+    /**
+     * Reconstructs the contact from its audit trail as of {@code asOf}.
+     *
+     * @throws com.example.contact.domain.exception.ContactNotFoundException
+     *         if the contact did not exist at that time
+     */
+    ContactRevision getContactAsOf(ContactId id, LocalDateTime asOf);
+}
@@ -9,5 +9,15 @@ import java.util.List;
  */
 public interface GetContactUseCase {
     Contact getContactById(ContactId id);
+
+    /**
+     * Returns one keyset page of contacts ordered by ID.
+     */
+    CursorPage<Contact> getContacts(ContactPageQuery query);
+
+    /**
+     * Returns every contact in a single list.
+     * Loads the whole table; prefer {@link #getContacts(ContactPageQuery)}.
+     */
     List<Contact> getAllContacts();
 }
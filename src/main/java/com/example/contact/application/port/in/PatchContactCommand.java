@@ -0,0 +1,43 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.exception.ValidationException;
+import com.example.contact.domain.model.ContactChanges;
+import com.example.contact.domain.model.ContactId;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command object for a partial update with JSON Merge Patch (RFC 7396) semantics.
+ *
+ * <p>Only the fields present in {@code fields} are changed; a field mapped to
+ * {@code null} is cleared. Fields that are absent keep their current value.</p>
+ *
+ * @param expectedVersion version the change is based on; {@code null} to use the currently stored version
+ */
+public record PatchContactCommand(
+    ContactId id,
+    Map<String, String> fields,
+    Long expectedVersion
+) {
+    private static final Set<String> PATCHABLE_FIELDS =
+        Set.of(ContactChanges.NAME, ContactChanges.PHONE, ContactChanges.ADDRESS);
+
+    public PatchContactCommand {
+        if (id == null) {
+            throw new IllegalArgumentException("Contact ID is required");
+        }
+        if (fields == null || fields.isEmpty()) {
+            throw new ValidationException("請至少提供一個要修改的欄位");
+        }
+        for (String field : fields.keySet()) {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new ValidationException(field, "不支援修改的欄位: " + field);
+            }
+        }
+        // LinkedHashMap keeps null values, which Map.copyOf would reject
+        fields = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.contact.application.port.in;
+
+/**
+ * Input port for partially updating contacts.
+ */
+public interface PatchContactUseCase {
+    /**
+     * Applies only the supplied fields, validated as a whole, and writes only the columns that changed.
+     * A patch that changes nothing is a no-op: nothing is written, published or audited.
+     *
+     * @throws com.example.contact.domain.exception.ContactVersionConflictException if the contact has changed
+     */
+    UpdateContactResult patchContact(PatchContactCommand command);
+}
@@ -0,0 +1,18 @@
+package com.example.contact.application.port.in;
+
+import java.time.LocalDate;
+
+/**
+ * Input port for recomputing audit log rollups from the audit logs.
+ */
+public interface RebuildAuditStatsUseCase {
+
+    /**
+     * Replaces the rollups of the days {@code [from, to)} with counts of the audit
+     * logs currently stored for those days.
+     *
+     * @return the number of audit logs counted
+     * @throws com.example.contact.domain.exception.ValidationException if {@code from} is not before {@code to}
+     */
+    long rebuildAuditStats(LocalDate from, LocalDate to);
+}
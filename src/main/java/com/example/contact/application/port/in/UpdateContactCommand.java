@@ -4,16 +4,23 @@ import com.example.contact.domain.model.ContactId;
 
 /**
  * Command object for updating an existing contact.
+ *
+ * @param expectedVersion version the change is based on; {@code null} to use the currently stored version
  */
 public record UpdateContactCommand(
     ContactId id,
     String name,
     String phone,
-    String address
+    String address,
+    Long expectedVersion
 ) {
     public UpdateContactCommand {
         if (id == null) {
             throw new IllegalArgumentException("Contact ID is required");
         }
     }
+
+    public UpdateContactCommand(ContactId id, String name, String phone, String address) {
+        this(id, name, phone, address, null);
+    }
 }
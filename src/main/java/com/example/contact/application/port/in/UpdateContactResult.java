@@ -0,0 +1,17 @@
+package com.example.contact.application.port.in;
+
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactChanges;
+
+/**
+ * Outcome of an update: the contact as stored afterwards and what changed.
+ * When {@code changes} is empty nothing was written and no event was published.
+ */
+public record UpdateContactResult(
+    Contact contact,
+    ContactChanges changes
+) {
+    public boolean modified() {
+        return !changes.isEmpty();
+    }
+}
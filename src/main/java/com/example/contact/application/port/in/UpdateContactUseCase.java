@@ -6,5 +6,11 @@ import com.example.contact.domain.model.Contact;
  * Input port for updating contacts.
  */
 public interface UpdateContactUseCase {
-    Contact updateContact(UpdateContactCommand command);
+    /**
+     * Updates the contact with a single conditional write against the expected version.
+     * A command that changes no field is a no-op: nothing is written, published or audited.
+     *
+     * @throws com.example.contact.domain.exception.ContactVersionConflictException if the contact has changed
+     */
+    UpdateContactResult updateContact(UpdateContactCommand command);
 }
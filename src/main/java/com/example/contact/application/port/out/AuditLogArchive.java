@@ -0,0 +1,21 @@
+package com.example.contact.application.port.out;
+
+import com.example.contact.domain.model.AuditLog;
+
+import java.util.function.Consumer;
+
+/**
+ * Output port for the analytics copy of closed audit log months, kept outside
+ * the primary database.
+ *
+ * <p>The copy holds the contact ID, operation time and operation type of each
+ * audit log; payloads and request metadata stay in the primary database.</p>
+ */
+public interface AuditLogArchive {
+
+    /**
+     * Passes every archived audit log matching the filters of {@code criteria} to
+     * {@code action}, in no particular order. The keyset position is not applied.
+     */
+    void scan(AuditLogCriteria criteria, Consumer<AuditLog> action);
+}
@@ -0,0 +1,30 @@
+package com.example.contact.application.port.out;
+
+import com.example.contact.domain.model.OperationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters and keyset position for an audit log page lookup.
+ * Null components are not applied.
+ *
+ * @param contactId     only audit logs of this contact
+ * @param operationType only audit logs of this operation type
+ * @param from          inclusive lower bound on operation time
+ * @param to            exclusive upper bound on operation time
+ * @param after         return only audit logs ordered after this position
+ */
+public record AuditLogCriteria(
+    Long contactId,
+    OperationType operationType,
+    LocalDateTime from,
+    LocalDateTime to,
+    Position after
+) {
+
+    /**
+     * Position in the (operation time desc, id desc) ordering.
+     */
+    public record Position(LocalDateTime operationTime, Long id) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.contact.application.port.out;
+
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.ContactRevision;
+import com.example.contact.domain.model.OperationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Output port for audit log persistence.
+ *
+ * <p>All query methods return audit logs ordered by operation time, newest first,
+ * with complete before/after data whatever format it is stored in.</p>
+ */
+public interface AuditLogRepository {
+
+    AuditLog save(AuditLog auditLog);
+
+    /**
+     * Inserts several audit logs in one round of JDBC batches.
+     */
+    void saveAll(List<AuditLog> auditLogs);
+
+    List<AuditLog> findAll();
+
+    List<AuditLog> findByContactId(Long contactId);
+
+    List<AuditLog> findByOperationType(OperationType operationType);
+
+    /**
+     * Returns up to {@code limit} audit logs matching the criteria,
+     * ordered by operation time then ID, newest first.
+     */
+    List<AuditLog> findPage(AuditLogCriteria criteria, int limit);
+
+    /**
+     * Replays the audit trail of a contact up to {@code asOf}, starting from the
+     * latest checkpoint at or before it. Empty if the contact had no audit logs
+     * by then or had been deleted.
+     */
+    Optional<ContactRevision> findRevisionAsOf(Long contactId, LocalDateTime asOf);
+
+    /**
+     * Streams every audit log, ordered by ID, through a database cursor so that
+     * memory use does not grow with the table. Must be called inside a transaction.
+     * Payloads are passed on as stored; see {@link AuditLog#getPayloadFormat()}.
+     */
+    void forEach(Consumer<AuditLog> action);
+
+    /**
+     * Streams the audit logs with {@code from <= operationTime < to}, ordered by
+     * operation time then ID, like {@link #forEach}. Must be called inside a transaction.
+     */
+    void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<AuditLog> action);
+
+    /**
+     * Deletes every audit log, e.g. before the audit trail is rebuilt from stored events.
+     */
+    void deleteAll();
+}
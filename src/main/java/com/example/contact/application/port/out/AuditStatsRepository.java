@@ -0,0 +1,35 @@
+package com.example.contact.application.port.out;
+
+import com.example.contact.domain.model.AuditStatsBucket;
+import com.example.contact.domain.model.AuditStatsGranularity;
+import com.example.contact.domain.model.OperationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Output port for audit log rollups: counts per time bucket and operation type,
+ * overall and per contact.
+ *
+ * <p>Audit logs saved through {@link AuditLogRepository} are counted in the same
+ * transaction, so counts are exact as soon as it commits.</p>
+ */
+public interface AuditStatsRepository {
+
+    /**
+     * Returns the non-empty buckets starting in {@code [from, to)}, ordered by
+     * bucket start then operation type. Null filters are not applied; per-contact
+     * counts exist at {@link AuditStatsGranularity#DAY} granularity only.
+     */
+    List<AuditStatsBucket> findBuckets(AuditStatsGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                       OperationType operationType, Long contactId);
+
+    /**
+     * Replaces all rollups in {@code [from, to)} with counts of the audit logs stored
+     * in that range. Both bounds must be at the start of a day. Audit logs saved
+     * concurrently are counted exactly once.
+     *
+     * @return the number of audit logs counted
+     */
+    long rebuild(LocalDateTime from, LocalDateTime to);
+}
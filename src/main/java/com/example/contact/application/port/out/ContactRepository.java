@@ -0,0 +1,63 @@
+package com.example.contact.application.port.out;
+
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactChanges;
+import com.example.contact.domain.model.ContactId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Output port for contact persistence.
+ *
+ * <p>Infrastructure layer provides the implementation.</p>
+ */
+public interface ContactRepository {
+
+    Contact save(Contact contact);
+
+    /**
+     * Inserts new contacts in JDBC batches and returns them with their assigned IDs,
+     * in the same order. Clears the persistence context as it goes.
+     */
+    List<Contact> saveAll(List<Contact> contacts);
+
+    Optional<Contact> findById(ContactId id);
+
+    List<Contact> findAll();
+
+    /**
+     * Keyset page: up to {@code limit} contacts with an ID greater than
+     * {@code after}, ordered by ID ascending.
+     *
+     * @param after exclusive lower bound, or {@code null} to start from the first contact
+     */
+    List<Contact> findPageAfter(ContactId after, int limit);
+
+    /**
+     * Streams every contact, ordered by ID, through a database cursor so that
+     * memory use does not grow with the table. Must be called inside a transaction.
+     */
+    void forEach(Consumer<Contact> action);
+
+    void deleteById(ContactId id);
+
+    /**
+     * Writes the changed fields and increments the version in one statement,
+     * {@code UPDATE ... WHERE id = ? AND version = ?}, without locking the row first.
+     * Columns outside {@code changes} are left out of the statement.
+     *
+     * @return the contact at its new version, or empty if the row is gone or no longer at {@code expectedVersion}
+     */
+    Optional<Contact> updateIfVersion(Contact contact, ContactChanges changes, long expectedVersion);
+
+    /**
+     * Deletes the contact with {@code DELETE ... WHERE id = ? AND version = ?}.
+     *
+     * @return whether a row was deleted
+     */
+    boolean deleteIfVersion(ContactId id, long expectedVersion);
+
+    boolean existsById(ContactId id);
+}
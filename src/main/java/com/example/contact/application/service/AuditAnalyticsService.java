@@ -0,0 +1,64 @@
+package com.example.contact.application.service;
+
+import com.example.contact.application.port.in.AuditAnalytics;
+import com.example.contact.application.port.in.AuditAnalyticsQuery;
+import com.example.contact.application.port.in.GetAuditAnalyticsUseCase;
+import com.example.contact.application.port.out.AuditLogArchive;
+import com.example.contact.application.port.out.AuditLogCriteria;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.OperationType;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates audit logs from the archive in a single pass; only the per-contact
+ * and per-day counters are held in memory.
+ */
+@Service
+public class AuditAnalyticsService implements GetAuditAnalyticsUseCase {
+
+    private final AuditLogArchive auditLogArchive;
+
+    public AuditAnalyticsService(AuditLogArchive auditLogArchive) {
+        this.auditLogArchive = auditLogArchive;
+    }
+
+    @Override
+    public AuditAnalytics getAuditAnalytics(AuditAnalyticsQuery query) {
+        Map<OperationType, Long> countsByType = new EnumMap<>(OperationType.class);
+        Map<Long, Long> editsByContact = new HashMap<>();
+        Map<LocalDate, Long> editsByDay = new TreeMap<>();
+
+        auditLogArchive.scan(
+            new AuditLogCriteria(query.contactId(), query.operationType(), query.from(), query.to(), null),
+            auditLog -> count(auditLog, countsByType, editsByContact, editsByDay));
+
+        List<AuditAnalytics.ContactEdits> mostEdited = editsByContact.entrySet().stream()
+            .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(query.top())
+            .map(entry -> new AuditAnalytics.ContactEdits(entry.getKey(), entry.getValue()))
+            .toList();
+        List<AuditAnalytics.DailyEdits> perDay = editsByDay.entrySet().stream()
+            .map(entry -> new AuditAnalytics.DailyEdits(entry.getKey(), entry.getValue()))
+            .toList();
+        long total = countsByType.values().stream().mapToLong(Long::longValue).sum();
+        return new AuditAnalytics(total, countsByType, mostEdited, perDay);
+    }
+
+    private static void count(AuditLog auditLog, Map<OperationType, Long> countsByType,
+                              Map<Long, Long> editsByContact, Map<LocalDate, Long> editsByDay) {
+        countsByType.merge(auditLog.getOperationType(), 1L, Long::sum);
+        if (auditLog.getOperationType() == OperationType.UPDATE) {
+            editsByContact.merge(auditLog.getContactId(), 1L, Long::sum);
+            editsByDay.merge(auditLog.getOperationTime().toLocalDate(), 1L, Long::sum);
+        }
+    }
+}
@@ -1,17 +1,28 @@
 package com.example.contact.application.service;
 
+import com.example.contact.application.port.in.AuditLogQuery;
+import com.example.contact.application.port.in.CursorPage;
+import com.example.contact.application.port.in.ExportAuditLogsUseCase;
 import com.example.contact.application.port.in.GetAuditLogUseCase;
+import com.example.contact.application.port.in.GetContactAsOfUseCase;
+import com.example.contact.application.port.out.AuditLogCriteria;
 import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.exception.ContactNotFoundException;
 import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactRevision;
 import com.example.contact.domain.model.OperationType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @Transactional(readOnly = true)
-public class AuditLogService implements GetAuditLogUseCase {
+public class AuditLogService implements GetAuditLogUseCase, ExportAuditLogsUseCase, GetContactAsOfUseCase {
 
     private final AuditLogRepository auditLogRepository;
 
@@ -25,6 +36,7 @@ public class AuditLogService implements GetAuditLogUseCase {
     }
 
     @Override
+    @Coalesce
     public List<AuditLog> getAuditLogsByContactId(Long contactId) {
         return auditLogRepository.findByContactId(contactId);
     }
@@ -33,4 +45,45 @@ public class AuditLogService implements GetAuditLogUseCase {
     public List<AuditLog> getAuditLogsByOperationType(OperationType operationType) {
         return auditLogRepository.findByOperationType(operationType);
     }
+
+    @Override
+    public CursorPage<AuditLog> searchAuditLogs(AuditLogQuery query) {
+        AuditLogCriteria criteria = new AuditLogCriteria(
+            query.contactId(),
+            query.operationType(),
+            query.from(),
+            query.to(),
+            query.after() != null ? decodeAuditLogCursor(query.after()) : null
+        );
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<AuditLog> rows = auditLogRepository.findPage(criteria, query.limit() + 1);
+        if (rows.size() <= query.limit()) {
+            return new CursorPage<>(rows, null);
+        }
+        List<AuditLog> page = rows.subList(0, query.limit());
+        AuditLog last = page.get(page.size() - 1);
+        return new CursorPage<>(page,
+            CursorCodec.encode(last.getOperationTime().toString(), String.valueOf(last.getId())));
+    }
+
+    @Override
+    public void exportAuditLogs(Consumer<AuditLog> sink) {
+        auditLogRepository.forEach(sink);
+    }
+
+    @Override
+    public ContactRevision getContactAsOf(ContactId id, LocalDateTime asOf) {
+        return auditLogRepository.findRevisionAsOf(id.value(), asOf)
+                .orElseThrow(() -> new ContactNotFoundException(id));
+    }
+
+    private AuditLogCriteria.Position decodeAuditLogCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new AuditLogCriteria.Position(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw CursorCodec.invalidCursor();
+        }
+    }
 }
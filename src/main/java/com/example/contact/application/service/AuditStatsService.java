@@ -0,0 +1,39 @@
+package com.example.contact.application.service;
+
+import com.example.contact.application.port.in.AuditStatsQuery;
+import com.example.contact.application.port.in.GetAuditStatsUseCase;
+import com.example.contact.application.port.in.RebuildAuditStatsUseCase;
+import com.example.contact.application.port.out.AuditStatsRepository;
+import com.example.contact.domain.exception.ValidationException;
+import com.example.contact.domain.model.AuditStatsBucket;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class AuditStatsService implements GetAuditStatsUseCase, RebuildAuditStatsUseCase {
+
+    private final AuditStatsRepository auditStatsRepository;
+
+    public AuditStatsService(AuditStatsRepository auditStatsRepository) {
+        this.auditStatsRepository = auditStatsRepository;
+    }
+
+    @Override
+    public List<AuditStatsBucket> getAuditStats(AuditStatsQuery query) {
+        return auditStatsRepository.findBuckets(query.granularity(), query.from(), query.to(),
+            query.operationType(), query.contactId());
+    }
+
+    @Override
+    @Transactional
+    public long rebuildAuditStats(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("from", "重建起始日期必須早於結束日期");
+        }
+        return auditStatsRepository.rebuild(from.atStartOfDay(), to.atStartOfDay());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.contact.application.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only use case whose concurrent calls with equal arguments may share
+ * one execution: the first caller runs the method, callers arriving while it is in
+ * flight wait for and receive the same result (or exception).
+ *
+ * <p>Only allowed on methods running in a {@code @Transactional(readOnly = true)}
+ * context; the application refuses to start otherwise. Callers receive the same
+ * result instance, so it must not be modified.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+}
@@ -1,10 +1,18 @@
 package com.example.contact.application.service;
 
+import com.example.contact.application.port.in.BulkCreateContactsUseCase;
+import com.example.contact.application.port.in.BulkCreateResult;
+import com.example.contact.application.port.in.ContactPageQuery;
 import com.example.contact.application.port.in.CreateContactCommand;
 import com.example.contact.application.port.in.CreateContactUseCase;
+import com.example.contact.application.port.in.CursorPage;
 import com.example.contact.application.port.in.DeleteContactUseCase;
+import com.example.contact.application.port.in.ExportContactsUseCase;
 import com.example.contact.application.port.in.GetContactUseCase;
+import com.example.contact.application.port.in.PatchContactCommand;
+import com.example.contact.application.port.in.PatchContactUseCase;
 import com.example.contact.application.port.in.UpdateContactCommand;
+import com.example.contact.application.port.in.UpdateContactResult;
 import com.example.contact.application.port.in.UpdateContactUseCase;
 import com.example.contact.application.port.out.ContactRepository;
 import com.example.contact.application.port.out.DomainEventPublisher;
@@ -12,13 +20,19 @@ import com.example.contact.domain.event.ContactCreatedEvent;
 import com.example.contact.domain.event.ContactDeletedEvent;
 import com.example.contact.domain.event.ContactUpdatedEvent;
 import com.example.contact.domain.exception.ContactNotFoundException;
+import com.example.contact.domain.exception.ContactVersionConflictException;
+import com.example.contact.domain.exception.ValidationException;
 import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactChanges;
 import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactSnapshot;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Application service for Contact operations.
@@ -29,8 +43,9 @@ import java.util.Map;
  */
 @Service
 @Transactional
-public class ContactService implements CreateContactUseCase, GetContactUseCase,
-                                       UpdateContactUseCase, DeleteContactUseCase {
+public class ContactService implements CreateContactUseCase, BulkCreateContactsUseCase, GetContactUseCase,
+                                       UpdateContactUseCase, PatchContactUseCase, DeleteContactUseCase,
+                                       ExportContactsUseCase {
 
     private final ContactRepository contactRepository;
     private final DomainEventPublisher eventPublisher;
@@ -56,13 +71,62 @@ public class ContactService implements CreateContactUseCase, GetContactUseCase,
         return savedContact;
     }
 
+    @Override
+    public BulkCreateResult createContacts(List<CreateContactCommand> commands) {
+        if (commands.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("contacts", "單次最多新增 " + MAX_BATCH_SIZE + " 筆聯絡人");
+        }
+
+        BulkCreateResult.Item[] items = new BulkCreateResult.Item[commands.size()];
+        List<Contact> valid = new ArrayList<>(commands.size());
+        List<Integer> validIndexes = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            CreateContactCommand command = commands.get(i);
+            try {
+                valid.add(Contact.create(command.name(), command.phone(), command.address()));
+                validIndexes.add(i);
+            } catch (ValidationException e) {
+                items[i] = BulkCreateResult.Item.failed(i, e.getField(), e.getMessage());
+            }
+        }
+
+        List<Contact> saved = contactRepository.saveAll(valid);
+        for (int j = 0; j < saved.size(); j++) {
+            Contact contact = saved.get(j);
+            int index = validIndexes.get(j);
+            items[index] = BulkCreateResult.Item.created(index, contact);
+
+            // One event per contact keeps audit and other listeners unchanged;
+            // their inserts are batched at flush like the contacts themselves
+            eventPublisher.publish(new ContactCreatedEvent(contact));
+        }
+
+        return new BulkCreateResult(Arrays.asList(items));
+    }
+
     @Override
     @Transactional(readOnly = true)
+    @Coalesce
     public Contact getContactById(ContactId id) {
         return contactRepository.findById(id)
                 .orElseThrow(() -> new ContactNotFoundException(id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Contact> getContacts(ContactPageQuery query) {
+        ContactId after = query.after() != null ? decodeContactCursor(query.after()) : null;
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<Contact> rows = contactRepository.findPageAfter(after, query.limit() + 1);
+        if (rows.size() <= query.limit()) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Contact> page = rows.subList(0, query.limit());
+        Contact last = page.get(page.size() - 1);
+        return new CursorPage<>(page, CursorCodec.encode(String.valueOf(last.getId().value())));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Contact> getAllContacts() {
@@ -70,43 +134,93 @@ public class ContactService implements CreateContactUseCase, GetContactUseCase,
     }
 
     @Override
-    public Contact updateContact(UpdateContactCommand command) {
+    @Transactional(readOnly = true)
+    public void exportContacts(Consumer<Contact> sink) {
+        contactRepository.forEach(sink);
+    }
+
+    @Override
+    public UpdateContactResult updateContact(UpdateContactCommand command) {
         Contact existing = contactRepository.findById(command.id())
                 .orElseThrow(() -> new ContactNotFoundException(command.id()));
 
+        long expectedVersion = resolveExpectedVersion(existing, command.expectedVersion());
+
         // Capture before state
-        Map<String, Object> beforeSnapshot = createSnapshot(existing);
+        ContactSnapshot beforeSnapshot = ContactSnapshot.of(existing);
+
+        ContactChanges changes = existing.updateInfo(command.name(), command.phone(), command.address());
+        if (changes.isEmpty()) {
+            // Identical re-submission: no write, no event, no audit row
+            return new UpdateContactResult(existing, changes);
+        }
 
-        existing.updateInfo(command.name(), command.phone(), command.address());
-        Contact updatedContact = contactRepository.save(existing);
+        // The read above is a plain snapshot for the audit trail; the version check is in the UPDATE itself
+        Contact updatedContact = contactRepository.updateIfVersion(existing, changes, expectedVersion)
+                .orElseThrow(() -> new ContactVersionConflictException(command.id(), expectedVersion));
 
         // Publish domain event with before/after state
         eventPublisher.publish(new ContactUpdatedEvent(updatedContact, beforeSnapshot));
 
-        return updatedContact;
+        return new UpdateContactResult(updatedContact, changes);
     }
 
     @Override
-    public void deleteContact(ContactId id) {
+    public UpdateContactResult patchContact(PatchContactCommand command) {
+        Contact existing = contactRepository.findById(command.id())
+                .orElseThrow(() -> new ContactNotFoundException(command.id()));
+
+        long expectedVersion = resolveExpectedVersion(existing, command.expectedVersion());
+        ContactSnapshot beforeSnapshot = ContactSnapshot.of(existing);
+
+        ContactChanges changes = existing.patchInfo(command.fields());
+        if (changes.isEmpty()) {
+            return new UpdateContactResult(existing, changes);
+        }
+
+        Contact updatedContact = contactRepository.updateIfVersion(existing, changes, expectedVersion)
+                .orElseThrow(() -> new ContactVersionConflictException(command.id(), expectedVersion));
+
+        // Carry the changed fields so the audit entry records only those
+        eventPublisher.publish(new ContactUpdatedEvent(updatedContact, beforeSnapshot, changes.fields()));
+
+        return new UpdateContactResult(updatedContact, changes);
+    }
+
+    @Override
+    public void deleteContact(ContactId id, Long expectedVersion) {
         Contact existing = contactRepository.findById(id)
                 .orElseThrow(() -> new ContactNotFoundException(id));
+        long version = resolveExpectedVersion(existing, expectedVersion);
 
         // Capture state before deletion
-        Map<String, Object> snapshot = createSnapshot(existing);
+        ContactSnapshot snapshot = ContactSnapshot.of(existing);
         Long contactId = existing.getId().value();
 
-        contactRepository.deleteById(id);
+        if (!contactRepository.deleteIfVersion(id, version)) {
+            throw new ContactVersionConflictException(id, version);
+        }
 
         // Publish domain event
         eventPublisher.publish(new ContactDeletedEvent(contactId, snapshot));
     }
 
-    private Map<String, Object> createSnapshot(Contact contact) {
-        return Map.of(
-            "id", contact.getId().value(),
-            "name", contact.getName(),
-            "phone", contact.getPhone(),
-            "address", contact.getAddress() != null ? contact.getAddress() : ""
-        );
+    /**
+     * Fails fast when the caller's expected version is already stale; without one,
+     * the version just read guards against concurrent writes in between.
+     */
+    private long resolveExpectedVersion(Contact existing, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw new ContactVersionConflictException(existing.getId(), expectedVersion);
+        }
+        return existing.getVersion();
+    }
+
+    private ContactId decodeContactCursor(String cursor) {
+        long id = CursorCodec.decodeLong(cursor);
+        if (id <= 0) {
+            throw CursorCodec.invalidCursor();
+        }
+        return new ContactId(id);
     }
 }
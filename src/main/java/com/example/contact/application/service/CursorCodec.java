@@ -0,0 +1,56 @@
+package com.example.contact.application.service;
+
+import com.example.contact.domain.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe page cursors.
+ *
+ * <p>Clients must treat cursors as opaque; the encoding is an implementation
+ * detail and may change between releases.</p>
+ */
+final class CursorCodec {
+
+    private static final String SEPARATOR = ",";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    static String encode(String... parts) {
+        return ENCODER.encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into exactly {@code expectedParts} components.
+     *
+     * @throws ValidationException if the cursor is malformed
+     */
+    static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw invalidCursor();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    static long decodeLong(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    static ValidationException invalidCursor() {
+        return new ValidationException("after", "無效的分頁游標");
+    }
+}
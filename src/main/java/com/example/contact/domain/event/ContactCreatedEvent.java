@@ -1,6 +1,9 @@
 package com.example.contact.domain.event;
 
 import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactSnapshot;
+
+import java.time.LocalDateTime;
 
 /**
  * Event published when a new contact is created.
@@ -10,4 +13,12 @@ public class ContactCreatedEvent extends ContactEvent {
     public ContactCreatedEvent(Contact contact) {
         super(contact);
     }
+
+    /**
+     * Restores a previously recorded event, e.g. from the outbox.
+     */
+    public ContactCreatedEvent(String eventId, LocalDateTime occurredAt,
+                               Long contactId, ContactSnapshot snapshot) {
+        super(eventId, occurredAt, contactId, snapshot);
+    }
 }
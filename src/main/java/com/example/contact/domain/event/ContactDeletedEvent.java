@@ -1,13 +1,23 @@
 package com.example.contact.domain.event;
 
-import java.util.Map;
+import com.example.contact.domain.model.ContactSnapshot;
+
+import java.time.LocalDateTime;
 
 /**
  * Event published when a contact is deleted.
  */
 public class ContactDeletedEvent extends ContactEvent {
 
-    public ContactDeletedEvent(Long contactId, Map<String, Object> snapshot) {
+    public ContactDeletedEvent(Long contactId, ContactSnapshot snapshot) {
         super(contactId, snapshot);
     }
+
+    /**
+     * Restores a previously recorded event, e.g. from the outbox.
+     */
+    public ContactDeletedEvent(String eventId, LocalDateTime occurredAt,
+                               Long contactId, ContactSnapshot snapshot) {
+        super(eventId, occurredAt, contactId, snapshot);
+    }
 }
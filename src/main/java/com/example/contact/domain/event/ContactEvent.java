@@ -1,8 +1,9 @@
 package com.example.contact.domain.event;
 
 import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactSnapshot;
 
-import java.util.Map;
+import java.time.LocalDateTime;
 
 /**
  * Base class for all Contact-related domain events.
@@ -10,37 +11,35 @@ import java.util.Map;
 public abstract class ContactEvent extends DomainEvent {
 
     private final Long contactId;
-    private final Map<String, Object> snapshot;
+    private final ContactSnapshot snapshot;
 
     protected ContactEvent(Contact contact) {
         super();
         this.contactId = contact.getId() != null ? contact.getId().value() : null;
-        this.snapshot = createSnapshot(contact);
+        this.snapshot = ContactSnapshot.of(contact);
     }
 
-    protected ContactEvent(Long contactId, Map<String, Object> snapshot) {
+    protected ContactEvent(Long contactId, ContactSnapshot snapshot) {
         super();
         this.contactId = contactId;
         this.snapshot = snapshot;
     }
 
+    protected ContactEvent(String eventId, LocalDateTime occurredAt,
+                           Long contactId, ContactSnapshot snapshot) {
+        super(eventId, occurredAt);
+        this.contactId = contactId;
+        this.snapshot = snapshot;
+    }
+
     public Long getContactId() {
         return contactId;
     }
 
-    public Map<String, Object> getSnapshot() {
+    public ContactSnapshot getSnapshot() {
         return snapshot;
     }
 
-    private Map<String, Object> createSnapshot(Contact contact) {
-        return Map.of(
-            "id", contact.getId() != null ? contact.getId().value() : "",
-            "name", contact.getName(),
-            "phone", contact.getPhone(),
-            "address", contact.getAddress() != null ? contact.getAddress() : ""
-        );
-    }
-
     @Override
     public String getEventType() {
         return this.getClass().getSimpleName();
@@ -1,22 +1,62 @@
 package com.example.contact.domain.event;
 
 import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactSnapshot;
 
-import java.util.Map;
+import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * Event published when a contact is updated.
+ *
+ * <p>Snapshots always hold the full contact state. {@code changedFields} is set
+ * for partial updates so that consumers such as the audit trail can record only
+ * the fields that changed; it is {@code null} for full replacements.</p>
+ *
+ * <p>{@code version} is the contact's version after the update, or {@code null}
+ * when it is unknown.</p>
  */
 public class ContactUpdatedEvent extends ContactEvent {
 
-    private final Map<String, Object> beforeSnapshot;
+    private final ContactSnapshot beforeSnapshot;
+    private final Set<String> changedFields;
+    private final Long version;
 
-    public ContactUpdatedEvent(Contact contact, Map<String, Object> beforeSnapshot) {
+    public ContactUpdatedEvent(Contact contact, ContactSnapshot beforeSnapshot) {
+        this(contact, beforeSnapshot, null);
+    }
+
+    public ContactUpdatedEvent(Contact contact, ContactSnapshot beforeSnapshot, Set<String> changedFields) {
         super(contact);
         this.beforeSnapshot = beforeSnapshot;
+        this.changedFields = changedFields;
+        this.version = contact.getVersion();
+    }
+
+    /**
+     * Restores a previously recorded event, e.g. from the outbox.
+     */
+    public ContactUpdatedEvent(String eventId, LocalDateTime occurredAt, Long contactId,
+                               ContactSnapshot snapshot, ContactSnapshot beforeSnapshot,
+                               Set<String> changedFields, Long version) {
+        super(eventId, occurredAt, contactId, snapshot);
+        this.beforeSnapshot = beforeSnapshot;
+        this.changedFields = changedFields;
+        this.version = version;
     }
 
-    public Map<String, Object> getBeforeSnapshot() {
+    public ContactSnapshot getBeforeSnapshot() {
         return beforeSnapshot;
     }
+
+    /**
+     * Fields changed by a partial update, or {@code null} if the whole contact was replaced.
+     */
+    public Set<String> getChangedFields() {
+        return changedFields;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -1,7 +1,10 @@
 package com.example.contact.domain.event;
 
+import com.example.contact.domain.model.IdGenerator;
+import com.example.contact.domain.model.TimeOrderedIdGenerator;
+
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Objects;
 
 /**
  * Base class for all domain events.
@@ -9,17 +12,37 @@ import java.util.UUID;
  * <p>Domain events represent something meaningful that happened in the domain.
  * They are immutable and carry all the information needed to describe
  * what happened.</p>
+ *
+ * <p>New events are identified by the process-wide {@link IdGenerator}, time-ordered
+ * version 7 UUIDs unless {@link #useIdGenerator(IdGenerator)} installs another.</p>
  */
 public abstract class DomainEvent {
 
+    private static volatile IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
     private final String eventId;
     private final LocalDateTime occurredAt;
 
     protected DomainEvent() {
-        this.eventId = UUID.randomUUID().toString();
+        this.eventId = idGenerator.next().toString();
         this.occurredAt = LocalDateTime.now();
     }
 
+    /**
+     * Restores an event that was recorded earlier, keeping its original identity.
+     */
+    protected DomainEvent(String eventId, LocalDateTime occurredAt) {
+        this.eventId = eventId;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * Sets the generator that identifies events created from now on.
+     */
+    public static void useIdGenerator(IdGenerator generator) {
+        idGenerator = Objects.requireNonNull(generator, "generator");
+    }
+
     public String getEventId() {
         return eventId;
     }
@@ -0,0 +1,26 @@
+package com.example.contact.domain.exception;
+
+import com.example.contact.domain.model.ContactId;
+
+/**
+ * Exception thrown when a contact was changed since the version a write was based on.
+ */
+public class ContactVersionConflictException extends RuntimeException {
+
+    private final ContactId contactId;
+    private final long expectedVersion;
+
+    public ContactVersionConflictException(ContactId contactId, long expectedVersion) {
+        super("聯絡人已被修改: " + contactId.value() + "（預期版本 " + expectedVersion + "），請重新取得後再試");
+        this.contactId = contactId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public ContactId getContactId() {
+        return contactId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -14,15 +14,20 @@ public class AuditLog {
     private final OperationType operationType;
     private final String beforeData;
     private final String afterData;
+    private final AuditPayloadFormat payloadFormat;
+    private final RequestMetadata requestMetadata;
 
     private AuditLog(Long id, Long contactId, LocalDateTime operationTime,
-                     OperationType operationType, String beforeData, String afterData) {
+                     OperationType operationType, String beforeData, String afterData,
+                     AuditPayloadFormat payloadFormat, RequestMetadata requestMetadata) {
         this.id = id;
         this.contactId = contactId;
         this.operationTime = operationTime;
         this.operationType = operationType;
         this.beforeData = beforeData;
         this.afterData = afterData;
+        this.payloadFormat = payloadFormat != null ? payloadFormat : AuditPayloadFormat.SNAPSHOT;
+        this.requestMetadata = requestMetadata;
     }
 
     /**
@@ -30,13 +35,23 @@ public class AuditLog {
      */
     public static AuditLog create(Long contactId, OperationType operationType,
                                   String beforeData, String afterData) {
+        return create(contactId, operationType, beforeData, afterData, AuditPayloadFormat.SNAPSHOT);
+    }
+
+    /**
+     * Factory method for creating a new audit log entry stored in the given format.
+     */
+    public static AuditLog create(Long contactId, OperationType operationType,
+                                  String beforeData, String afterData, AuditPayloadFormat payloadFormat) {
         return new AuditLog(
             null,
             contactId,
             LocalDateTime.now(),
             operationType,
             beforeData,
-            afterData
+            afterData,
+            payloadFormat,
+            null
         );
     }
 
@@ -45,7 +60,44 @@ public class AuditLog {
      */
     public static AuditLog reconstitute(Long id, Long contactId, LocalDateTime operationTime,
                                         OperationType operationType, String beforeData, String afterData) {
-        return new AuditLog(id, contactId, operationTime, operationType, beforeData, afterData);
+        return reconstitute(id, contactId, operationTime, operationType, beforeData, afterData,
+            AuditPayloadFormat.SNAPSHOT, null);
+    }
+
+    /**
+     * Reconstruct AuditLog from persistence, including its storage format and originating request.
+     */
+    public static AuditLog reconstitute(Long id, Long contactId, LocalDateTime operationTime,
+                                        OperationType operationType, String beforeData, String afterData,
+                                        AuditPayloadFormat payloadFormat, RequestMetadata requestMetadata) {
+        return new AuditLog(id, contactId, operationTime, operationType, beforeData, afterData,
+            payloadFormat, requestMetadata);
+    }
+
+    /**
+     * Returns a copy of this audit log attributed to the given API request.
+     */
+    public AuditLog withRequestMetadata(RequestMetadata requestMetadata) {
+        return new AuditLog(id, contactId, operationTime, operationType, beforeData, afterData,
+            payloadFormat, requestMetadata);
+    }
+
+    /**
+     * Returns a copy of this audit log dated at the given time, e.g. the time of
+     * the recorded event it is rebuilt from.
+     */
+    public AuditLog withOperationTime(LocalDateTime operationTime) {
+        return new AuditLog(id, contactId, operationTime, operationType, beforeData, afterData,
+            payloadFormat, requestMetadata);
+    }
+
+    /**
+     * Returns a copy of this audit log with complete before/after views
+     * rebuilt from a compact payload; the stored format is kept.
+     */
+    public AuditLog withRehydratedData(String beforeData, String afterData) {
+        return new AuditLog(id, contactId, operationTime, operationType, beforeData, afterData,
+            payloadFormat, requestMetadata);
     }
 
     // Getters
@@ -72,4 +124,16 @@ public class AuditLog {
     public String getAfterData() {
         return afterData;
     }
+
+    public AuditPayloadFormat getPayloadFormat() {
+        return payloadFormat;
+    }
+
+    /**
+     * The API request that caused this operation, or {@code null} when it did
+     * not originate from the web adapter.
+     */
+    public RequestMetadata getRequestMetadata() {
+        return requestMetadata;
+    }
 }
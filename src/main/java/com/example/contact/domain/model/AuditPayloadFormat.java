@@ -0,0 +1,16 @@
+package com.example.contact.domain.model;
+
+/**
+ * How the before/after data of an audit log is stored.
+ */
+public enum AuditPayloadFormat {
+
+    /** Before and after JSON objects as recorded; partial updates hold only the changed fields. */
+    SNAPSHOT,
+
+    /** Full before and after JSON objects; a starting point for replaying later entries. */
+    CHECKPOINT,
+
+    /** After data is a JSON Merge Patch (RFC 7396) against the previous version; no before data. */
+    MERGE_PATCH
+}
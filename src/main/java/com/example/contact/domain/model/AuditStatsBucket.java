@@ -0,0 +1,17 @@
+package com.example.contact.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of audit logs of one operation type within one time bucket.
+ *
+ * @param bucketStart   start of the bucket, truncated to its granularity
+ * @param operationType the operation type counted
+ * @param count         number of audit logs
+ */
+public record AuditStatsBucket(
+    LocalDateTime bucketStart,
+    OperationType operationType,
+    long count
+) {
+}
@@ -0,0 +1,33 @@
+package com.example.contact.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Width of the time buckets that audit log counts are rolled up into.
+ */
+public enum AuditStatsGranularity {
+
+    MINUTE(ChronoUnit.MINUTES),
+
+    HOUR(ChronoUnit.HOURS),
+
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    AuditStatsGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public ChronoUnit unit() {
+        return unit;
+    }
+
+    /**
+     * Start of the bucket containing {@code time}.
+     */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
@@ -2,6 +2,10 @@ package com.example.contact.domain.model;
 
 import com.example.contact.domain.exception.ValidationException;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Contact domain entity - Aggregate Root.
@@ -19,15 +23,17 @@ public class Contact {
     private String address;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final Long version;
 
     private Contact(ContactId id, String name, String phone, String address,
-                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+                   LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
         this.id = id;
         this.name = name;
         this.phone = phone;
         this.address = address;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     /**
@@ -43,7 +49,8 @@ public class Contact {
             phone.trim(),
             address != null ? address.trim() : null,
             now,
-            now
+            now,
+            null
         );
     }
 
@@ -51,26 +58,69 @@ public class Contact {
      * Reconstruct Contact from persistence.
      */
     public static Contact reconstitute(ContactId id, String name, String phone, String address,
-                                       LocalDateTime createdAt, LocalDateTime updatedAt) {
-        return new Contact(id, name, phone, address, createdAt, updatedAt);
+                                       LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        return new Contact(id, name, phone, address, createdAt, updatedAt, version);
     }
 
     /**
      * Update contact information with validation.
+     * Values are compared after normalisation; {@code updatedAt} only moves when something changed.
+     *
+     * @return the fields whose values changed, empty if the update is a no-op
      */
-    public void updateInfo(String name, String phone, String address) {
+    public ContactChanges updateInfo(String name, String phone, String address) {
         validate(name, phone, address);
-        this.name = name.trim();
-        this.phone = phone.trim();
-        this.address = address != null ? address.trim() : null;
+        String newName = name.trim();
+        String newPhone = phone.trim();
+        String newAddress = address != null ? address.trim() : null;
+
+        Set<String> changed = new LinkedHashSet<>();
+        if (!newName.equals(this.name)) {
+            changed.add(ContactChanges.NAME);
+        }
+        if (!newPhone.equals(this.phone)) {
+            changed.add(ContactChanges.PHONE);
+        }
+        if (!Objects.equals(newAddress, this.address)) {
+            changed.add(ContactChanges.ADDRESS);
+        }
+        if (changed.isEmpty()) {
+            return ContactChanges.NONE;
+        }
+
+        this.name = newName;
+        this.phone = newPhone;
+        this.address = newAddress;
         this.updatedAt = LocalDateTime.now();
+        return new ContactChanges(changed);
+    }
+
+    /**
+     * Apply a partial update: fields absent from {@code fields} keep their current value,
+     * fields mapped to {@code null} are cleared. The merged result is validated as a whole.
+     *
+     * @return the fields whose values changed, empty if the patch is a no-op
+     */
+    public ContactChanges patchInfo(Map<String, String> fields) {
+        return updateInfo(
+            fields.containsKey(ContactChanges.NAME) ? fields.get(ContactChanges.NAME) : this.name,
+            fields.containsKey(ContactChanges.PHONE) ? fields.get(ContactChanges.PHONE) : this.phone,
+            fields.containsKey(ContactChanges.ADDRESS) ? fields.get(ContactChanges.ADDRESS) : this.address
+        );
     }
 
     /**
      * Create a new Contact instance with the assigned ID.
      */
     public Contact withId(ContactId id) {
-        return new Contact(id, this.name, this.phone, this.address, this.createdAt, this.updatedAt);
+        return new Contact(id, this.name, this.phone, this.address, this.createdAt, this.updatedAt, this.version);
+    }
+
+    /**
+     * Create a new Contact instance with the given persisted version.
+     */
+    public Contact withVersion(Long version) {
+        return new Contact(this.id, this.name, this.phone, this.address, this.createdAt, this.updatedAt, version);
     }
 
     private static void validate(String name, String phone, String address) {
@@ -115,4 +165,12 @@ public class Contact {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    /**
+     * Version of the persisted state this instance was read at, incremented on every change.
+     * {@code null} until the contact has been saved.
+     */
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,30 @@
+package com.example.contact.domain.model;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Value object listing which contact fields an update actually changed.
+ * Field names match the keys of contact snapshots: name, phone, address.
+ */
+public record ContactChanges(Set<String> fields) {
+
+    public static final String NAME = "name";
+    public static final String PHONE = "phone";
+    public static final String ADDRESS = "address";
+
+    public static final ContactChanges NONE = new ContactChanges(Set.of());
+
+    public ContactChanges {
+        fields = Collections.unmodifiableSet(new LinkedHashSet<>(fields));
+    }
+
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    public boolean contains(String field) {
+        return fields.contains(field);
+    }
+}
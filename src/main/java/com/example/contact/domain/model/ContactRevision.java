@@ -0,0 +1,21 @@
+package com.example.contact.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * State of a contact as recorded by the audit trail at some point in time.
+ *
+ * @param id        the contact
+ * @param name      name at that time
+ * @param phone     phone at that time
+ * @param address   address at that time, {@code null} if none
+ * @param changedAt operation time of the audit log that produced this state
+ */
+public record ContactRevision(
+    ContactId id,
+    String name,
+    String phone,
+    String address,
+    LocalDateTime changedAt
+) {
+}
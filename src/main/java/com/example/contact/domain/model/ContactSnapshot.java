@@ -0,0 +1,159 @@
+package com.example.contact.domain.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable state of a contact captured for a domain event.
+ *
+ * <p>One snapshot is taken per contact state and shared by the service, the
+ * events and their listeners. Its JSON form is encoded on first use and cached,
+ * so the audit trail and the outbox reuse a single serialization. The encoding
+ * is written directly, without reflection, as
+ * {@code {"id":1,"name":"...","phone":"...","address":"..."}} with a missing
+ * address recorded as an empty string.</p>
+ */
+public final class ContactSnapshot {
+
+    private final Long id;
+    private final String name;
+    private final String phone;
+    private final String address;
+
+    /** Racy single-check cache: recomputing yields an equal String, so no synchronization is needed. */
+    private String json;
+
+    private ContactSnapshot(Long id, String name, String phone, String address) {
+        this.id = id;
+        this.name = name;
+        this.phone = phone;
+        this.address = address;
+    }
+
+    public static ContactSnapshot of(Contact contact) {
+        return of(
+            contact.getId() != null ? contact.getId().value() : null,
+            contact.getName(),
+            contact.getPhone(),
+            contact.getAddress()
+        );
+    }
+
+    /**
+     * Restores a snapshot, e.g. from a stored event; an empty address means none.
+     */
+    public static ContactSnapshot of(Long id, String name, String phone, String address) {
+        return new ContactSnapshot(id, name, phone, address == null || address.isEmpty() ? null : address);
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String phone() {
+        return phone;
+    }
+
+    /**
+     * The address, or {@code null} if none.
+     */
+    public String address() {
+        return address;
+    }
+
+    /**
+     * Value of a field as it appears in the JSON form, or {@code null} for an unknown field.
+     */
+    public Object get(String field) {
+        return switch (field) {
+            case "id" -> id;
+            case "name" -> name;
+            case "phone" -> phone;
+            case "address" -> address != null ? address : "";
+            default -> null;
+        };
+    }
+
+    /**
+     * The fields of the JSON form, in order.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("name", name);
+        map.put("phone", phone);
+        map.put("address", address != null ? address : "");
+        return map;
+    }
+
+    /**
+     * The JSON form, encoded once and cached.
+     */
+    public String toJson() {
+        String encoded = json;
+        if (encoded == null) {
+            encoded = encode();
+            json = encoded;
+        }
+        return encoded;
+    }
+
+    private String encode() {
+        StringBuilder out = new StringBuilder(128);
+        out.append("{\"id\":").append(id);
+        out.append(",\"name\":");
+        appendString(out, name);
+        out.append(",\"phone\":");
+        appendString(out, phone);
+        out.append(",\"address\":");
+        appendString(out, address != null ? address : "");
+        return out.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ContactSnapshot other && Objects.equals(id, other.id) && Objects.equals(name, other.name)
+            && Objects.equals(phone, other.phone) && Objects.equals(address, other.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, phone, address);
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.contact.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Source of unique identifiers for domain events and request correlation.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Random (version 4) UUIDs from {@link UUID#randomUUID()}.
+     */
+    IdGenerator RANDOM = UUID::randomUUID;
+
+    UUID next();
+}
@@ -0,0 +1,30 @@
+package com.example.contact.domain.model;
+
+/**
+ * Value object describing the API request that caused an audited operation.
+ *
+ * <p>{@code responseStatus} and {@code executionTimeMs} are only known once the
+ * request has completed; they are {@code null} on audit logs written before that,
+ * i.e. inside the business transaction.</p>
+ */
+public record RequestMetadata(
+    String apiEndpoint,
+    String httpMethod,
+    Integer responseStatus,
+    Long executionTimeMs,
+    String clientIp,
+    String userAgent
+) {
+
+    public static final int MAX_API_ENDPOINT_LENGTH = 255;
+    public static final int MAX_USER_AGENT_LENGTH = 500;
+
+    public RequestMetadata {
+        apiEndpoint = truncate(apiEndpoint, MAX_API_ENDPOINT_LENGTH);
+        userAgent = truncate(userAgent, MAX_USER_AGENT_LENGTH);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -1,19 +1,42 @@
 package com.example.contact.infrastructure.adapter.in.web;
 
+import com.example.contact.application.port.in.AuditAnalyticsQuery;
+import com.example.contact.application.port.in.AuditLogQuery;
+import com.example.contact.application.port.in.AuditStatsQuery;
+import com.example.contact.application.port.in.CursorPage;
+import com.example.contact.application.port.in.ExportAuditLogsUseCase;
+import com.example.contact.application.port.in.GetAuditAnalyticsUseCase;
 import com.example.contact.application.port.in.GetAuditLogUseCase;
+import com.example.contact.application.port.in.GetAuditStatsUseCase;
 import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.AuditStatsGranularity;
 import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.in.web.dto.AuditAnalyticsResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.AuditLogPageResponse;
 import com.example.contact.infrastructure.adapter.in.web.dto.AuditLogResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.AuditStatsResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.ErrorResponse;
+import com.example.contact.infrastructure.adapter.in.web.export.ExportFormat;
+import com.example.contact.infrastructure.adapter.in.web.export.RecordExporter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,17 +46,65 @@ import java.util.stream.Collectors;
 public class AuditLogController {
 
     private final GetAuditLogUseCase getAuditLogUseCase;
+    private final ExportAuditLogsUseCase exportAuditLogsUseCase;
+    private final GetAuditAnalyticsUseCase getAuditAnalyticsUseCase;
+    private final GetAuditStatsUseCase getAuditStatsUseCase;
+    private final RecordExporter recordExporter;
 
-    public AuditLogController(GetAuditLogUseCase getAuditLogUseCase) {
+    public AuditLogController(GetAuditLogUseCase getAuditLogUseCase,
+                              ExportAuditLogsUseCase exportAuditLogsUseCase,
+                              GetAuditAnalyticsUseCase getAuditAnalyticsUseCase,
+                              GetAuditStatsUseCase getAuditStatsUseCase,
+                              RecordExporter recordExporter) {
         this.getAuditLogUseCase = getAuditLogUseCase;
+        this.exportAuditLogsUseCase = exportAuditLogsUseCase;
+        this.getAuditAnalyticsUseCase = getAuditAnalyticsUseCase;
+        this.getAuditStatsUseCase = getAuditStatsUseCase;
+        this.recordExporter = recordExporter;
     }
 
     @Operation(
-        summary = "查詢所有稽核日誌",
-        description = "取得系統中所有稽核日誌記錄，按操作時間降序排列"
+        summary = "分頁查詢稽核日誌",
+        description = "依操作時間與 ID 降序排列，以游標（keyset）分頁取得稽核日誌；"
+            + "可組合聯絡人 ID、操作類型與時間區間 [from, to) 篩選，將回應中的 nextCursor 作為 after 參數即可取得下一頁"
     )
-    @ApiResponse(responseCode = "200", description = "成功取得稽核日誌列表")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "成功取得稽核日誌分頁",
+            content = @Content(schema = @Schema(implementation = AuditLogPageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "查詢或分頁參數無效",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
     @GetMapping
+    public ResponseEntity<AuditLogPageResponse> searchAuditLogs(
+            @Parameter(description = "聯絡人 ID", example = "1")
+            @RequestParam(required = false) Long contactId,
+            @Parameter(description = "操作類型", example = "UPDATE")
+            @RequestParam(required = false) OperationType operationType,
+            @Parameter(description = "起始時間（含），ISO-8601 格式", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "結束時間（不含），ISO-8601 格式", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "上一頁回傳的 nextCursor，省略時從第一頁開始")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "每頁筆數（1-500）", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        CursorPage<AuditLog> page = getAuditLogUseCase.searchAuditLogs(
+            new AuditLogQuery(contactId, operationType, from, to, after, limit));
+        return ResponseEntity.ok(AuditLogPageResponse.from(page));
+    }
+
+    @Operation(
+        summary = "查詢所有稽核日誌（不分頁）",
+        description = "取得系統中所有稽核日誌記錄，按操作時間降序排列；資料量大時請改用分頁查詢"
+    )
+    @ApiResponse(responseCode = "200", description = "成功取得稽核日誌列表")
+    @GetMapping(params = "unpaged=true")
     public ResponseEntity<List<AuditLogResponse>> getAllAuditLogs() {
         List<AuditLog> auditLogs = getAuditLogUseCase.getAllAuditLogs();
         List<AuditLogResponse> responses = auditLogs.stream()
@@ -42,9 +113,98 @@ public class AuditLogController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+        summary = "稽核日誌時間區間統計",
+        description = "依分鐘、小時或日回傳各操作類型的稽核日誌筆數，讀取隨稽核日誌寫入即時累加的彙總表，"
+            + "查詢時間與稽核日誌總量無關；區間 [from, to) 最多 10000 個統計區間，指定聯絡人時僅支援 DAY"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "成功取得統計",
+            content = @Content(schema = @Schema(implementation = AuditStatsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "查詢參數無效",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<AuditStatsResponse> getAuditStats(
+            @Parameter(description = "統計粒度：MINUTE、HOUR 或 DAY", example = "HOUR")
+            @RequestParam(defaultValue = "HOUR") AuditStatsGranularity granularity,
+            @Parameter(description = "起始時間（含），ISO-8601 格式", example = "2024-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "結束時間（不含），ISO-8601 格式", example = "2024-01-16T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "操作類型", example = "UPDATE")
+            @RequestParam(required = false) OperationType operationType,
+            @Parameter(description = "聯絡人 ID", example = "1")
+            @RequestParam(required = false) Long contactId) {
+        return ResponseEntity.ok(AuditStatsResponse.from(granularity, getAuditStatsUseCase.getAuditStats(
+            new AuditStatsQuery(granularity, from, to, operationType, contactId))));
+    }
+
+    @Operation(
+        summary = "稽核日誌統計",
+        description = "掃描已匯出的月份欄式檔案，回傳各操作類型筆數、修改最多的聯絡人與每日修改次數；"
+            + "不查詢主資料庫，尚未結束的當月不列入統計"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "成功取得稽核日誌統計",
+            content = @Content(schema = @Schema(implementation = AuditAnalyticsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "查詢參數無效",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/analytics")
+    public ResponseEntity<AuditAnalyticsResponse> getAuditAnalytics(
+            @Parameter(description = "聯絡人 ID", example = "1")
+            @RequestParam(required = false) Long contactId,
+            @Parameter(description = "操作類型", example = "UPDATE")
+            @RequestParam(required = false) OperationType operationType,
+            @Parameter(description = "起始時間（含），ISO-8601 格式", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "結束時間（不含），ISO-8601 格式", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "修改最多聯絡人的排行筆數（1-100）", example = "10")
+            @RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(AuditAnalyticsResponse.from(getAuditAnalyticsUseCase.getAuditAnalytics(
+            new AuditAnalyticsQuery(contactId, operationType, from, to, top))));
+    }
+
+    @Operation(
+        summary = "匯出稽核日誌",
+        description = "以資料庫游標串流輸出稽核日誌（依 ID 遞增），記憶體用量不隨資料量成長；"
+            + "format 可為 ndjson 或 csv，請求帶 Accept-Encoding: gzip 時以 gzip 壓縮"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "串流輸出稽核日誌"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "不支援的匯出格式",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @Parameter(description = "匯出格式：ndjson 或 csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        return recordExporter.export("audit-logs", AuditLogResponse.class, exportFormat, acceptEncoding,
+            sink -> exportAuditLogsUseCase.exportAuditLogs(auditLog -> sink.accept(AuditLogResponse.from(auditLog))));
+    }
+
     @Operation(
         summary = "依聯絡人 ID 查詢稽核日誌",
-        description = "取得指定聯絡人的所有操作記錄"
+        description = "取得指定聯絡人的所有操作記錄（不分頁）；資料量大時請改用分頁查詢的 contactId 參數"
     )
     @ApiResponse(responseCode = "200", description = "成功取得該聯絡人的稽核日誌")
     @GetMapping("/contact/{contactId}")
@@ -60,7 +220,7 @@ public class AuditLogController {
 
     @Operation(
         summary = "依操作類型查詢稽核日誌",
-        description = "取得指定操作類型（CREATE、UPDATE、DELETE）的所有記錄"
+        description = "取得指定操作類型（CREATE、UPDATE、DELETE）的所有記錄（不分頁）；資料量大時請改用分頁查詢的 operationType 參數"
     )
     @ApiResponse(responseCode = "200", description = "成功取得該類型的稽核日誌")
     @GetMapping("/operation/{operationType}")
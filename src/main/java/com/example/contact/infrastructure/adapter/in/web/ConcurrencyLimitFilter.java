@@ -0,0 +1,99 @@
+package com.example.contact.infrastructure.adapter.in.web;
+
+import com.example.contact.infrastructure.adapter.in.web.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead that caps the number of API requests in flight.
+ *
+ * <p>With platform threads Tomcat's thread pool bounds concurrency; with virtual
+ * threads every connection gets its own thread, so a burst would otherwise pile
+ * up thousands of requests waiting on a handful of pooled JDBC connections and
+ * time out there instead. Sizing the limit to the connection pool keeps waiting
+ * requests parked cheaply here, and sheds them with {@code 503} once
+ * {@code acquireTimeout} passes.</p>
+ *
+ * <p>The permit covers the request thread only; a streaming export keeps writing
+ * on the async thread after it is released.</p>
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int limit;
+    private final Duration acquireTimeout;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimitFilter(int limit, Duration acquireTimeout, ObjectMapper objectMapper) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        this.permits = new Semaphore(limit);
+        this.limit = limit;
+        this.acquireTimeout = acquireTimeout;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            reject(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse body = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            "系統忙碌中，請稍後再試",
+            request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.contact.infrastructure.adapter.in.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the API concurrency limit, bound from {@code contact.concurrency.*}.
+ * The limit is only installed when virtual threads are enabled.
+ *
+ * @param maxConcurrentRequests API requests allowed in flight at once; {@code 0} to use
+ *                              the datasource's maximum pool size
+ * @param acquireTimeout        how long a request waits for a slot before it is rejected with 503
+ */
+@ConfigurationProperties(prefix = "contact.concurrency")
+public record ConcurrencyLimitProperties(
+    @DefaultValue("0") int maxConcurrentRequests,
+    @DefaultValue("2s") Duration acquireTimeout
+) {
+    public ConcurrencyLimitProperties {
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("maxConcurrentRequests must not be negative");
+        }
+    }
+}
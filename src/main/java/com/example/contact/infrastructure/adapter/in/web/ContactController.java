@@ -1,17 +1,34 @@
 package com.example.contact.infrastructure.adapter.in.web;
 
+import com.example.contact.application.port.in.BulkCreateContactsUseCase;
+import com.example.contact.application.port.in.BulkCreateResult;
+import com.example.contact.application.port.in.ContactPageQuery;
 import com.example.contact.application.port.in.CreateContactCommand;
 import com.example.contact.application.port.in.CreateContactUseCase;
+import com.example.contact.application.port.in.CursorPage;
 import com.example.contact.application.port.in.DeleteContactUseCase;
+import com.example.contact.application.port.in.ExportContactsUseCase;
+import com.example.contact.application.port.in.GetContactAsOfUseCase;
 import com.example.contact.application.port.in.GetContactUseCase;
+import com.example.contact.application.port.in.PatchContactCommand;
+import com.example.contact.application.port.in.PatchContactUseCase;
 import com.example.contact.application.port.in.UpdateContactCommand;
+import com.example.contact.application.port.in.UpdateContactResult;
 import com.example.contact.application.port.in.UpdateContactUseCase;
+import com.example.contact.domain.exception.ValidationException;
 import com.example.contact.domain.model.Contact;
 import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactRevision;
+import com.example.contact.infrastructure.adapter.in.web.dto.BulkCreateContactsRequest;
+import com.example.contact.infrastructure.adapter.in.web.dto.BulkCreateContactsResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.ContactPageResponse;
 import com.example.contact.infrastructure.adapter.in.web.dto.ContactResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.ContactRevisionResponse;
 import com.example.contact.infrastructure.adapter.in.web.dto.CreateContactRequest;
 import com.example.contact.infrastructure.adapter.in.web.dto.ErrorResponse;
 import com.example.contact.infrastructure.adapter.in.web.dto.UpdateContactRequest;
+import com.example.contact.infrastructure.adapter.in.web.export.ExportFormat;
+import com.example.contact.infrastructure.adapter.in.web.export.RecordExporter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,18 +37,28 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -39,19 +66,41 @@ import java.util.stream.Collectors;
 @Tag(name = "聯絡人管理", description = "聯絡人 CRUD 操作 API")
 public class ContactController {
 
+    /** Whether a PUT actually changed the contact; false for an identical re-submission. */
+    static final String HEADER_CONTACT_MODIFIED = "X-Contact-Modified";
+    /** Comma-separated names of the fields a PUT changed. */
+    static final String HEADER_CHANGED_FIELDS = "X-Changed-Fields";
+    /** JSON Merge Patch media type, RFC 7396. */
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final CreateContactUseCase createContactUseCase;
+    private final BulkCreateContactsUseCase bulkCreateContactsUseCase;
     private final GetContactUseCase getContactUseCase;
+    private final GetContactAsOfUseCase getContactAsOfUseCase;
     private final UpdateContactUseCase updateContactUseCase;
+    private final PatchContactUseCase patchContactUseCase;
     private final DeleteContactUseCase deleteContactUseCase;
+    private final ExportContactsUseCase exportContactsUseCase;
+    private final RecordExporter recordExporter;
 
     public ContactController(CreateContactUseCase createContactUseCase,
+                           BulkCreateContactsUseCase bulkCreateContactsUseCase,
                            GetContactUseCase getContactUseCase,
+                           GetContactAsOfUseCase getContactAsOfUseCase,
                            UpdateContactUseCase updateContactUseCase,
-                           DeleteContactUseCase deleteContactUseCase) {
+                           PatchContactUseCase patchContactUseCase,
+                           DeleteContactUseCase deleteContactUseCase,
+                           ExportContactsUseCase exportContactsUseCase,
+                           RecordExporter recordExporter) {
         this.createContactUseCase = createContactUseCase;
+        this.bulkCreateContactsUseCase = bulkCreateContactsUseCase;
         this.getContactUseCase = getContactUseCase;
+        this.getContactAsOfUseCase = getContactAsOfUseCase;
         this.updateContactUseCase = updateContactUseCase;
+        this.patchContactUseCase = patchContactUseCase;
         this.deleteContactUseCase = deleteContactUseCase;
+        this.exportContactsUseCase = exportContactsUseCase;
+        this.recordExporter = recordExporter;
     }
 
     @Operation(
@@ -79,18 +128,75 @@ public class ContactController {
             request.address()
         );
         Contact contact = createContactUseCase.createContact(command);
-        return ResponseEntity.status(HttpStatus.CREATED).body(ContactResponse.from(contact));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ContactETags.of(contact))
+                .body(ContactResponse.from(contact));
+    }
+
+    @Operation(
+        summary = "批次新增聯絡人",
+        description = "一次新增多筆聯絡人（最多 10000 筆）；每筆獨立驗證，驗證失敗的項目會在結果中標示，"
+            + "其餘項目仍會在同一交易中以 JDBC 批次寫入"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "已處理所有項目，逐筆結果見 results",
+            content = @Content(schema = @Schema(implementation = BulkCreateContactsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "清單為空或超過筆數上限",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateContactsResponse> createContacts(
+            @Valid @RequestBody BulkCreateContactsRequest request) {
+        List<CreateContactCommand> commands = request.contacts().stream()
+                .map(item -> item != null
+                    ? new CreateContactCommand(item.name(), item.phone(), item.address())
+                    : new CreateContactCommand(null, null, null))
+                .toList();
+        BulkCreateResult result = bulkCreateContactsUseCase.createContacts(commands);
+        return ResponseEntity.ok(BulkCreateContactsResponse.from(result));
     }
 
     @Operation(
-        summary = "查詢所有聯絡人",
-        description = "取得系統中所有聯絡人的列表"
+        summary = "分頁查詢聯絡人",
+        description = "依 ID 遞增排序，以游標（keyset）分頁取得聯絡人；將回應中的 nextCursor 作為 after 參數即可取得下一頁"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "成功取得聯絡人分頁",
+            content = @Content(schema = @Schema(implementation = ContactPageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "分頁參數無效",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping
+    public ResponseEntity<ContactPageResponse> getContacts(
+            @Parameter(description = "上一頁回傳的 nextCursor，省略時從第一頁開始")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "每頁筆數（1-500）", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        CursorPage<Contact> page = getContactUseCase.getContacts(new ContactPageQuery(after, limit));
+        return ResponseEntity.ok(ContactPageResponse.from(page));
+    }
+
+    @Operation(
+        summary = "查詢所有聯絡人（不分頁）",
+        description = "一次取得系統中所有聯絡人的列表；資料量大時請改用分頁查詢"
     )
     @ApiResponse(
         responseCode = "200",
         description = "成功取得聯絡人列表"
     )
-    @GetMapping
+    @GetMapping(params = "unpaged=true")
     public ResponseEntity<List<ContactResponse>> getAllContacts() {
         List<Contact> contacts = getContactUseCase.getAllContacts();
         List<ContactResponse> responses = contacts.stream()
@@ -99,6 +205,29 @@ public class ContactController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+        summary = "匯出聯絡人",
+        description = "以資料庫游標串流輸出聯絡人（依 ID 遞增），記憶體用量不隨資料量成長；"
+            + "format 可為 ndjson 或 csv，請求帶 Accept-Encoding: gzip 時以 gzip 壓縮"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "串流輸出聯絡人"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "不支援的匯出格式",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContacts(
+            @Parameter(description = "匯出格式：ndjson 或 csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        return recordExporter.export("contacts", ContactResponse.class, exportFormat, acceptEncoding,
+            sink -> exportContactsUseCase.exportContacts(contact -> sink.accept(ContactResponse.from(contact))));
+    }
+
     @Operation(
         summary = "查詢單一聯絡人",
         description = "根據 ID 查詢特定聯絡人的詳細資訊"
@@ -120,17 +249,45 @@ public class ContactController {
             @Parameter(description = "聯絡人 ID", required = true, example = "1")
             @PathVariable Long id) {
         Contact contact = getContactUseCase.getContactById(new ContactId(id));
-        return ResponseEntity.ok(ContactResponse.from(contact));
+        return ResponseEntity.ok()
+                .eTag(ContactETags.of(contact))
+                .body(ContactResponse.from(contact));
+    }
+
+    @Operation(
+        summary = "查詢聯絡人過去的狀態",
+        description = "依稽核日誌重建聯絡人在指定時間點的資料，從該時間點前最近的檢查點開始重播"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "成功重建聯絡人在該時間點的資料",
+            content = @Content(schema = @Schema(implementation = ContactRevisionResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "聯絡人在該時間點不存在",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping(value = "/{id}", params = "asOf")
+    public ResponseEntity<ContactRevisionResponse> getContactAsOf(
+            @Parameter(description = "聯絡人 ID", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "時間點 (ISO-8601)", example = "2024-01-15T12:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        ContactRevision revision = getContactAsOfUseCase.getContactAsOf(new ContactId(id), asOf);
+        return ResponseEntity.ok(ContactRevisionResponse.from(revision, asOf));
     }
 
     @Operation(
         summary = "修改聯絡人",
-        description = "更新現有聯絡人的資訊"
+        description = "更新現有聯絡人的資訊；帶 If-Match 時僅在版本相符時更新，否則回傳 412"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "聯絡人更新成功",
+            description = "聯絡人更新成功；內容與現有資料相同時不寫入，X-Contact-Modified 為 false",
             content = @Content(schema = @Schema(implementation = ContactResponse.class))
         ),
         @ApiResponse(
@@ -142,26 +299,99 @@ public class ContactController {
             responseCode = "404",
             description = "聯絡人不存在",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "聯絡人已被修改，If-Match 版本不符",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
     @PutMapping("/{id}")
     public ResponseEntity<ContactResponse> updateContact(
             @Parameter(description = "聯絡人 ID", required = true, example = "1")
             @PathVariable Long id,
+            @Parameter(description = "先前取得的 ETag，例如 \"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateContactRequest request) {
         UpdateContactCommand command = new UpdateContactCommand(
             new ContactId(id),
             request.name(),
             request.phone(),
-            request.address()
+            request.address(),
+            ContactETags.parseIfMatch(ifMatch)
+        );
+        return toUpdateResponse(updateContactUseCase.updateContact(command));
+    }
+
+    @Operation(
+        summary = "部分修改聯絡人",
+        description = "以 JSON Merge Patch（RFC 7396）僅修改請求中提供的欄位；欄位值為 null 表示清除（僅地址可清除）。"
+            + "資料庫只更新有變動的欄位，稽核日誌也只記錄變動的欄位"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "聯絡人更新成功；內容與現有資料相同時不寫入，X-Contact-Modified 為 false",
+            content = @Content(schema = @Schema(implementation = ContactResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "請求參數驗證失敗或包含不支援的欄位",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "聯絡人不存在",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "聯絡人已被修改，If-Match 版本不符",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ContactResponse> patchContact(
+            @Parameter(description = "聯絡人 ID", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "先前取得的 ETag，例如 \"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Map<String, Object> patch) {
+        PatchContactCommand command = new PatchContactCommand(
+            new ContactId(id),
+            toPatchFields(patch),
+            ContactETags.parseIfMatch(ifMatch)
         );
-        Contact contact = updateContactUseCase.updateContact(command);
-        return ResponseEntity.ok(ContactResponse.from(contact));
+        return toUpdateResponse(patchContactUseCase.patchContact(command));
+    }
+
+    private ResponseEntity<ContactResponse> toUpdateResponse(UpdateContactResult result) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(ContactETags.of(result.contact()))
+                .header(HEADER_CONTACT_MODIFIED, String.valueOf(result.modified()));
+        if (result.modified()) {
+            response.header(HEADER_CHANGED_FIELDS, String.join(",", result.changes().fields()));
+        }
+        return response.body(ContactResponse.from(result.contact()));
+    }
+
+    /**
+     * Contact fields are all strings; a merge patch member is either a string or null.
+     */
+    private static Map<String, String> toPatchFields(Map<String, Object> patch) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        patch.forEach((field, value) -> {
+            if (value != null && !(value instanceof String)) {
+                throw new ValidationException(field, "欄位值必須為字串或 null: " + field);
+            }
+            fields.put(field, (String) value);
+        });
+        return fields;
     }
 
     @Operation(
         summary = "刪除聯絡人",
-        description = "從系統中移除指定的聯絡人"
+        description = "從系統中移除指定的聯絡人；帶 If-Match 時僅在版本相符時刪除，否則回傳 412"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -172,13 +402,20 @@ public class ContactController {
             responseCode = "404",
             description = "聯絡人不存在",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "聯絡人已被修改，If-Match 版本不符",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteContact(
             @Parameter(description = "聯絡人 ID", required = true, example = "1")
-            @PathVariable Long id) {
-        deleteContactUseCase.deleteContact(new ContactId(id));
+            @PathVariable Long id,
+            @Parameter(description = "先前取得的 ETag，例如 \"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        deleteContactUseCase.deleteContact(new ContactId(id), ContactETags.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
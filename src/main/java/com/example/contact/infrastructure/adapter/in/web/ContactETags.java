@@ -0,0 +1,42 @@
+package com.example.contact.infrastructure.adapter.in.web;
+
+import com.example.contact.domain.exception.ValidationException;
+import com.example.contact.domain.model.Contact;
+
+/**
+ * Maps contact versions to strong entity tags and back.
+ */
+final class ContactETags {
+
+    private ContactETags() {
+    }
+
+    static String of(Contact contact) {
+        return "\"" + contact.getVersion() + "\"";
+    }
+
+    /**
+     * Parses an {@code If-Match} header into the expected version.
+     *
+     * @return the version, or {@code null} when the header is absent or {@code *}
+     * @throws ValidationException if the header is not a single strong entity tag
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw invalidIfMatch();
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw invalidIfMatch();
+        }
+    }
+
+    private static ValidationException invalidIfMatch() {
+        return new ValidationException("If-Match", "If-Match 必須是單一的強式 ETag，例如 \"3\"");
+    }
+}
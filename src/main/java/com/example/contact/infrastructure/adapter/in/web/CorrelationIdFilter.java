@@ -0,0 +1,51 @@
+package com.example.contact.infrastructure.adapter.in.web;
+
+import com.example.contact.domain.model.IdGenerator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Tags every API request with a correlation ID.
+ *
+ * <p>A well-formed {@value #HEADER} request header is kept, so that a caller's ID
+ * follows the request through; otherwise a new ID is generated. The ID is put in
+ * the logging MDC as {@value #MDC_KEY} for the duration of the request and echoed
+ * in the {@value #HEADER} response header.</p>
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    /** Bounded and log-safe: no whitespace or control characters can be injected into log lines. */
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final IdGenerator idGenerator;
+
+    public CorrelationIdFilter(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String correlationId = request.getHeader(HEADER);
+        if (correlationId == null || !VALID_ID.matcher(correlationId).matches()) {
+            correlationId = idGenerator.next().toString();
+        }
+        response.setHeader(HEADER, correlationId);
+        MDC.put(MDC_KEY, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
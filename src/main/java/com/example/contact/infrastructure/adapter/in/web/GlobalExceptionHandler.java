@@ -1,6 +1,7 @@
 package com.example.contact.infrastructure.adapter.in.web;
 
 import com.example.contact.domain.exception.ContactNotFoundException;
+import com.example.contact.domain.exception.ContactVersionConflictException;
 import com.example.contact.domain.exception.ValidationException;
 import com.example.contact.infrastructure.adapter.in.web.dto.ErrorResponse;
 import com.example.contact.infrastructure.adapter.in.web.dto.ValidationError;
@@ -10,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +31,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler(ContactVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(
+            ContactVersionConflictException ex, HttpServletRequest request) {
+        ErrorResponse response = new ErrorResponse(
+            HttpStatus.PRECONDITION_FAILED.value(),
+            "Precondition Failed",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidation(
             ValidationException ex, HttpServletRequest request) {
@@ -65,6 +79,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleArgumentTypeMismatch(
+            MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        String message = "參數格式錯誤: " + ex.getName();
+
+        ErrorResponse response = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            message,
+            request.getRequestURI(),
+            List.of(new ValidationError(ex.getName(), message))
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneral(
             Exception ex, HttpServletRequest request) {
@@ -0,0 +1,95 @@
+package com.example.contact.infrastructure.adapter.in.web;
+
+import com.example.contact.infrastructure.audit.HttpAuditContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Captures the HTTP request behind each mutating API call for the audit trail.
+ *
+ * <p>Wraps the {@code POST}, {@code PUT}, {@code PATCH} and {@code DELETE} handlers
+ * of the REST controllers. Before the handler runs it copies the request URI,
+ * method, client address and {@code User-Agent} into an {@link HttpAuditContext};
+ * afterwards it completes the context with the response status and elapsed time.
+ * Request bodies are never read here, and read-only handlers are not wrapped.</p>
+ *
+ * <p>When the handler throws, the status is only known once an exception handler
+ * has mapped it, so the context is completed by {@link #afterCompletion} with the
+ * status actually sent; an exception nothing handled counts as a 500.</p>
+ *
+ * <p>The client address is the servlet remote address; behind a proxy set
+ * {@code server.forward-headers-strategy} so that it reflects {@code X-Forwarded-For}.</p>
+ */
+@Aspect
+@Component
+public class HttpAuditAspect implements HandlerInterceptor {
+
+    private static final String PENDING_CONTEXT = HttpAuditAspect.class.getName() + ".PENDING_CONTEXT";
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController) && ("
+        + "@annotation(org.springframework.web.bind.annotation.PostMapping)"
+        + " || @annotation(org.springframework.web.bind.annotation.PutMapping)"
+        + " || @annotation(org.springframework.web.bind.annotation.PatchMapping)"
+        + " || @annotation(org.springframework.web.bind.annotation.DeleteMapping))")
+    public Object captureRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return joinPoint.proceed();
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        HttpAuditContext context = HttpAuditContext.open(
+            request.getRequestURI(),
+            request.getMethod(),
+            request.getRemoteAddr(),
+            request.getHeader(HttpHeaders.USER_AGENT)
+        );
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            // A handler that throws after its transaction committed still produced audit logs
+            request.setAttribute(PENDING_CONTEXT, context);
+            throw e;
+        }
+        context.complete(statusOf(result, (MethodSignature) joinPoint.getSignature()));
+        return result;
+    }
+
+    /**
+     * Completes the context of a handler that threw, once the response is final.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PENDING_CONTEXT) instanceof HttpAuditContext context) {
+            request.removeAttribute(PENDING_CONTEXT);
+            context.complete(ex != null ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus());
+        }
+    }
+
+    private int statusOf(Object result, MethodSignature signature) {
+        if (result instanceof ResponseEntity<?> entity) {
+            return entity.getStatusCode().value();
+        }
+        ResponseStatus responseStatus =
+            AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), ResponseStatus.class);
+        if (responseStatus != null) {
+            return responseStatus.code().value();
+        }
+        return HttpStatus.OK.value();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.contact.infrastructure.adapter.in.web.dto;
+
+import com.example.contact.application.port.in.AuditAnalytics;
+import com.example.contact.domain.model.OperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "稽核日誌統計回應")
+public record AuditAnalyticsResponse(
+    @Schema(description = "符合條件的稽核日誌筆數", example = "1250")
+    long total,
+
+    @Schema(description = "各操作類型筆數")
+    Map<OperationType, Long> countsByOperationType,
+
+    @Schema(description = "修改次數最多的聯絡人，依次數降序")
+    List<ContactEdits> mostEditedContacts,
+
+    @Schema(description = "每日修改次數，依日期升序；無修改的日期不列出")
+    List<DailyEdits> editsPerDay
+) {
+    public static AuditAnalyticsResponse from(AuditAnalytics analytics) {
+        return new AuditAnalyticsResponse(
+            analytics.total(),
+            analytics.countsByOperationType(),
+            analytics.mostEditedContacts().stream()
+                .map(edits -> new ContactEdits(edits.contactId(), edits.edits()))
+                .toList(),
+            analytics.editsPerDay().stream()
+                .map(edits -> new DailyEdits(edits.date(), edits.edits()))
+                .toList()
+        );
+    }
+
+    @Schema(description = "聯絡人修改次數")
+    public record ContactEdits(
+        @Schema(description = "聯絡人 ID", example = "1")
+        Long contactId,
+
+        @Schema(description = "修改次數", example = "42")
+        long edits
+    ) {
+    }
+
+    @Schema(description = "單日修改次數")
+    public record DailyEdits(
+        @Schema(description = "日期", example = "2024-01-15")
+        LocalDate date,
+
+        @Schema(description = "修改次數", example = "87")
+        long edits
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.contact.infrastructure.adapter.in.web.dto;
+
+import com.example.contact.application.port.in.CursorPage;
+import com.example.contact.domain.model.AuditLog;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "稽核日誌分頁回應")
+public record AuditLogPageResponse(
+    @Schema(description = "本頁稽核日誌")
+    List<AuditLogResponse> items,
+
+    @Schema(description = "下一頁游標，最後一頁時為 null")
+    String nextCursor
+) {
+    public static AuditLogPageResponse from(CursorPage<AuditLog> page) {
+        return new AuditLogPageResponse(
+            page.items().stream().map(AuditLogResponse::from).toList(),
+            page.nextCursor()
+        );
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.contact.infrastructure.adapter.in.web.dto;
 
 import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.AuditPayloadFormat;
 import com.example.contact.domain.model.OperationType;
+import com.example.contact.domain.model.RequestMetadata;
 
 import java.time.LocalDateTime;
 
@@ -11,16 +13,31 @@ public record AuditLogResponse(
     LocalDateTime operationTime,
     OperationType operationType,
     String beforeData,
-    String afterData
+    String afterData,
+    AuditPayloadFormat payloadFormat,
+    String apiEndpoint,
+    String httpMethod,
+    Integer responseStatus,
+    Long executionTimeMs,
+    String clientIp,
+    String userAgent
 ) {
     public static AuditLogResponse from(AuditLog auditLog) {
+        RequestMetadata request = auditLog.getRequestMetadata();
         return new AuditLogResponse(
             auditLog.getId(),
             auditLog.getContactId(),
             auditLog.getOperationTime(),
             auditLog.getOperationType(),
             auditLog.getBeforeData(),
-            auditLog.getAfterData()
+            auditLog.getAfterData(),
+            auditLog.getPayloadFormat(),
+            request != null ? request.apiEndpoint() : null,
+            request != null ? request.httpMethod() : null,
+            request != null ? request.responseStatus() : null,
+            request != null ? request.executionTimeMs() : null,
+            request != null ? request.clientIp() : null,
+            request != null ? request.userAgent() : null
         );
     }
 }
@@ -0,0 +1,47 @@
+package com.example.contact.infrastructure.adapter.in.web.dto;
+
+import com.example.contact.domain.model.AuditStatsBucket;
+import com.example.contact.domain.model.AuditStatsGranularity;
+import com.example.contact.domain.model.OperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "稽核日誌時間區間統計回應")
+public record AuditStatsResponse(
+    @Schema(description = "統計粒度", example = "HOUR")
+    AuditStatsGranularity granularity,
+
+    @Schema(description = "有資料的統計區間，依起始時間升序；無資料的區間不列出")
+    List<Bucket> buckets
+) {
+    public static AuditStatsResponse from(AuditStatsGranularity granularity, List<AuditStatsBucket> rollups) {
+        Map<LocalDateTime, Map<OperationType, Long>> byStart = new LinkedHashMap<>();
+        for (AuditStatsBucket rollup : rollups) {
+            byStart.computeIfAbsent(rollup.bucketStart(), start -> new EnumMap<>(OperationType.class))
+                .put(rollup.operationType(), rollup.count());
+        }
+        return new AuditStatsResponse(granularity, byStart.entrySet().stream()
+            .map(entry -> new Bucket(entry.getKey(),
+                entry.getValue().values().stream().mapToLong(Long::longValue).sum(),
+                entry.getValue()))
+            .toList());
+    }
+
+    @Schema(description = "單一統計區間")
+    public record Bucket(
+        @Schema(description = "區間起始時間", example = "2024-01-15T10:00:00")
+        LocalDateTime bucketStart,
+
+        @Schema(description = "區間內稽核日誌筆數", example = "42")
+        long total,
+
+        @Schema(description = "各操作類型筆數")
+        Map<OperationType, Long> countsByOperationType
+    ) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.contact.infrastructure.adapter.in.web.dto;
+
+import com.example.contact.application.port.in.BulkCreateContactsUseCase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "批次新增聯絡人請求")
+public record BulkCreateContactsRequest(
+    @Schema(description = "要新增的聯絡人（逐筆驗證，單筆錯誤不影響其他筆）", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "聯絡人清單不可為空")
+    @Size(max = BulkCreateContactsUseCase.MAX_BATCH_SIZE,
+          message = "單次最多新增 " + BulkCreateContactsUseCase.MAX_BATCH_SIZE + " 筆聯絡人")
+    List<CreateContactRequest> contacts
+) {
+}
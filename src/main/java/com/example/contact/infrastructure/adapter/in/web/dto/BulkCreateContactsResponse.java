@@ -0,0 +1,47 @@
+package com.example.contact.infrastructure.adapter.in.web.dto;
+
+import com.example.contact.application.port.in.BulkCreateResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "批次新增聯絡人回應")
+public record BulkCreateContactsResponse(
+    @Schema(description = "成功新增筆數", example = "2")
+    long createdCount,
+
+    @Schema(description = "驗證失敗筆數", example = "1")
+    long failedCount,
+
+    @Schema(description = "逐筆結果，順序與請求相同")
+    List<Item> results
+) {
+    public static BulkCreateContactsResponse from(BulkCreateResult result) {
+        return new BulkCreateContactsResponse(
+            result.createdCount(),
+            result.failedCount(),
+            result.items().stream().map(Item::from).toList()
+        );
+    }
+
+    @Schema(description = "單筆新增結果")
+    public record Item(
+        @Schema(description = "在請求清單中的位置（從 0 開始）", example = "0")
+        int index,
+
+        @Schema(description = "CREATED 或 FAILED", example = "CREATED")
+        String status,
+
+        @Schema(description = "新增成功的聯絡人")
+        ContactResponse contact,
+
+        @Schema(description = "驗證失敗原因")
+        ValidationError error
+    ) {
+        static Item from(BulkCreateResult.Item item) {
+            return item.created()
+                ? new Item(item.index(), "CREATED", ContactResponse.from(item.contact()), null)
+                : new Item(item.index(), "FAILED", null, new ValidationError(item.field(), item.error()));
+        }
+    }
+}
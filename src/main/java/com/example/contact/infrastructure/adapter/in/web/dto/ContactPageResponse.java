@@ -0,0 +1,23 @@
+package com.example.contact.infrastructure.adapter.in.web.dto;
+
+import com.example.contact.application.port.in.CursorPage;
+import com.example.contact.domain.model.Contact;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "聯絡人分頁回應")
+public record ContactPageResponse(
+    @Schema(description = "本頁聯絡人")
+    List<ContactResponse> items,
+
+    @Schema(description = "下一頁游標，最後一頁時為 null", example = "MjA")
+    String nextCursor
+) {
+    public static ContactPageResponse from(CursorPage<Contact> page) {
+        return new ContactPageResponse(
+            page.items().stream().map(ContactResponse::from).toList(),
+            page.nextCursor()
+        );
+    }
+}
@@ -23,7 +23,10 @@ public record ContactResponse(
     LocalDateTime createdAt,
 
     @Schema(description = "更新時間", example = "2024-01-15T10:30:00")
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+
+    @Schema(description = "版本，與 ETag 相同，修改或刪除時可放入 If-Match", example = "0")
+    Long version
 ) {
     public static ContactResponse from(Contact contact) {
         return new ContactResponse(
@@ -32,7 +35,8 @@ public record ContactResponse(
             contact.getPhone(),
             contact.getAddress(),
             contact.getCreatedAt(),
-            contact.getUpdatedAt()
+            contact.getUpdatedAt(),
+            contact.getVersion()
         );
     }
 }
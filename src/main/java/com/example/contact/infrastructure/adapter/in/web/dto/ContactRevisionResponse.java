@@ -0,0 +1,38 @@
+package com.example.contact.infrastructure.adapter.in.web.dto;
+
+import com.example.contact.domain.model.ContactRevision;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "聯絡人在指定時間點的狀態")
+public record ContactRevisionResponse(
+    @Schema(description = "聯絡人 ID", example = "1")
+    Long id,
+
+    @Schema(description = "聯絡人姓名", example = "王小明")
+    String name,
+
+    @Schema(description = "聯絡人電話", example = "0912345678")
+    String phone,
+
+    @Schema(description = "聯絡人地址", example = "台北市信義區信義路五段7號")
+    String address,
+
+    @Schema(description = "查詢的時間點", example = "2024-01-15T12:00:00")
+    LocalDateTime asOf,
+
+    @Schema(description = "產生此狀態的最後一次異動時間", example = "2024-01-15T10:30:00")
+    LocalDateTime changedAt
+) {
+    public static ContactRevisionResponse from(ContactRevision revision, LocalDateTime asOf) {
+        return new ContactRevisionResponse(
+            revision.id().value(),
+            revision.name(),
+            revision.phone(),
+            revision.address(),
+            asOf,
+            revision.changedAt()
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.contact.infrastructure.adapter.in.web.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes records as RFC 4180 CSV. The header row and column order follow the
+ * record's components, so response DTOs export without per-type mapping code.
+ */
+class CsvRecordWriter<T extends Record> implements RecordWriter<T> {
+
+    private static final String LINE_END = "\r\n";
+
+    private final Writer writer;
+    private final Method[] accessors;
+
+    CsvRecordWriter(Class<T> type, OutputStream out) throws IOException {
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        RecordComponent[] components = type.getRecordComponents();
+        this.accessors = Arrays.stream(components).map(RecordComponent::getAccessor).toArray(Method[]::new);
+        for (Method accessor : accessors) {
+            accessor.setAccessible(true);
+        }
+        for (int i = 0; i < components.length; i++) {
+            writeField(i, components[i].getName());
+        }
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void write(T record) throws IOException {
+        for (int i = 0; i < accessors.length; i++) {
+            writeField(i, read(accessors[i], record));
+        }
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(int index, Object value) throws IOException {
+        if (index > 0) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (needsQuoting(text)) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object read(Method accessor, Object record) {
+        try {
+            return accessor.invoke(record);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + accessor.getName(), e);
+        }
+    }
+}
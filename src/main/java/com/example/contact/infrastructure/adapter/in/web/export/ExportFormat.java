@@ -0,0 +1,46 @@
+package com.example.contact.infrastructure.adapter.in.web.export;
+
+import com.example.contact.domain.exception.ValidationException;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+/**
+ * Line-oriented formats supported by the export endpoints.
+ */
+public enum ExportFormat {
+
+    /** One JSON object per line (application/x-ndjson). */
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+
+    /** RFC 4180 CSV with a header row. */
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolves the {@code format} request parameter, case-insensitively.
+     *
+     * @throws ValidationException if the format is not supported
+     */
+    public static ExportFormat fromParameter(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("format", "不支援的匯出格式: " + value));
+    }
+}
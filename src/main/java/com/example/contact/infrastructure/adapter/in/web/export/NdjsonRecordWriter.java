@@ -0,0 +1,38 @@
+package com.example.contact.infrastructure.adapter.in.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes each record as a single-line JSON object followed by a newline.
+ */
+class NdjsonRecordWriter<T> implements RecordWriter<T> {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    NdjsonRecordWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Records are newline-terminated instead of space-separated
+        this.generator.setRootValueSeparator(null);
+        // Leave flushing to the buffered stream underneath rather than flushing every row
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(T record) throws IOException {
+        writer.writeValue(generator, record);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
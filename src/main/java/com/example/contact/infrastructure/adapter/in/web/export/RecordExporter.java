@@ -0,0 +1,101 @@
+package com.example.contact.infrastructure.adapter.in.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds streaming export responses.
+ *
+ * <p>Records are written to the response as the source produces them, through a
+ * fixed-size buffer, so memory use is independent of the number of records.
+ * The source runs on the MVC async thread that writes the response; a client
+ * disconnect surfaces as an {@link IOException} and aborts the source.</p>
+ *
+ * <p>The body is gzip-encoded when the client sends {@code Accept-Encoding: gzip}.</p>
+ */
+@Component
+public class RecordExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public RecordExporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param name           base file name suggested to the client
+     * @param type           record type; its components become the CSV columns
+     * @param format         output format
+     * @param acceptEncoding the request's {@code Accept-Encoding} header, may be {@code null}
+     * @param source         feeds every record to the given sink, then returns
+     */
+    public <T extends Record> ResponseEntity<StreamingResponseBody> export(
+            String name, Class<T> type, ExportFormat format, String acceptEncoding,
+            Consumer<Consumer<T>> source) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = responseStream -> {
+            OutputStream out = gzip
+                ? new GZIPOutputStream(responseStream, BUFFER_SIZE)
+                : new BufferedOutputStream(responseStream, BUFFER_SIZE);
+            RecordWriter<T> writer = format == ExportFormat.CSV
+                ? new CsvRecordWriter<>(type, out)
+                : new NdjsonRecordWriter<>(objectMapper, out);
+            try {
+                source.accept(record -> {
+                    try {
+                        writer.write(record);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+            out.flush();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(name + "." + format.getExtension())
+                    .build()
+                    .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")
+                    && !(parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.contact.infrastructure.adapter.in.web.export;
+
+import java.io.IOException;
+
+/**
+ * Writes records one at a time to an export stream.
+ *
+ * @param <T> record type
+ */
+interface RecordWriter<T> {
+
+    void write(T record) throws IOException;
+
+    /**
+     * Flushes buffered output; does not close the underlying stream.
+     */
+    void finish() throws IOException;
+}
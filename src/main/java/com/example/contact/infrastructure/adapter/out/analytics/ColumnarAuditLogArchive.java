@@ -0,0 +1,139 @@
+package com.example.contact.infrastructure.adapter.out.analytics;
+
+import com.example.contact.application.port.out.AuditLogArchive;
+import com.example.contact.application.port.out.AuditLogCriteria;
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.model.AuditLog;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * {@link AuditLogArchive} kept as one {@link ColumnarAuditLogFile} per closed month
+ * in a local directory, e.g. {@code audit-logs-2024-01.acol}.
+ *
+ * <p>A scan opens only the files of months overlapping the criteria's time range,
+ * and within them only the row groups whose statistics can match.</p>
+ *
+ * <p>A month is exported once, from a database cursor, into a temporary file that
+ * is moved into place when complete; scans never see a partial month.</p>
+ */
+public class ColumnarAuditLogArchive implements AuditLogArchive {
+
+    private static final Pattern FILE_NAME = Pattern.compile("audit-logs-(\\d{4}-\\d{2})\\.acol");
+
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionOperations transactionOperations;
+    private final Path directory;
+    private final int rowGroupSize;
+
+    private final LongAdder rowGroupsRead = new LongAdder();
+    private final LongAdder rowGroupsSkipped = new LongAdder();
+
+    public ColumnarAuditLogArchive(AuditLogRepository auditLogRepository,
+                                   TransactionOperations transactionOperations,
+                                   Path directory, int rowGroupSize) {
+        this.auditLogRepository = auditLogRepository;
+        this.transactionOperations = transactionOperations;
+        this.directory = directory;
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    @Override
+    public void scan(AuditLogCriteria criteria, Consumer<AuditLog> action) {
+        for (Path file : filesOverlapping(criteria.from(), criteria.to())) {
+            ColumnarAuditLogFile.ScanResult result = ColumnarAuditLogFile.scan(file, criteria, action);
+            rowGroupsRead.add(result.rowGroupsRead());
+            rowGroupsSkipped.add(result.rowGroupsSkipped());
+        }
+    }
+
+    public boolean isExported(YearMonth month) {
+        return Files.exists(fileOf(month));
+    }
+
+    /**
+     * Writes the audit logs of {@code month} to its file, replacing any previous export.
+     *
+     * @return the number of audit logs exported
+     */
+    public long export(YearMonth month) {
+        Path target = fileOf(month);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            long rows;
+            try (ColumnarAuditLogFile.Writer writer = ColumnarAuditLogFile.create(temporary, rowGroupSize)) {
+                transactionOperations.executeWithoutResult(status -> auditLogRepository.forEachBetween(
+                    month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay(), writer::append));
+                rows = writer.getRowCount();
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export audit logs of " + month, e);
+        } finally {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+                // A leftover temporary file is overwritten by the next export
+            }
+        }
+    }
+
+    private List<Path> filesOverlapping(LocalDateTime from, LocalDateTime to) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    YearMonth month = monthOf(file);
+                    return month != null
+                        && (from == null || month.plusMonths(1).atDay(1).atStartOfDay().isAfter(from))
+                        && (to == null || month.atDay(1).atStartOfDay().isBefore(to));
+                })
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list " + directory, e);
+        }
+    }
+
+    private Path fileOf(YearMonth month) {
+        return directory.resolve("audit-logs-" + month + ".acol");
+    }
+
+    private static YearMonth monthOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(matcher.group(1));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public long getRowGroupsRead() {
+        return rowGroupsRead.sum();
+    }
+
+    public long getRowGroupsSkipped() {
+        return rowGroupsSkipped.sum();
+    }
+}
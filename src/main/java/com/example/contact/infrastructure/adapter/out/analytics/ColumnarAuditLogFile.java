@@ -0,0 +1,397 @@
+package com.example.contact.infrastructure.adapter.out.analytics;
+
+import com.example.contact.application.port.out.AuditLogCriteria;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.OperationType;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed columnar file holding the audit logs of one month.
+ *
+ * <p>Layout: magic, row groups, footer, footer length, magic. Each row group stores
+ * its columns - ID, contact ID, operation time, operation type - as separate
+ * deflate-compressed chunks. Longs are delta and zigzag varint encoded, which
+ * shrinks the time-ordered ID and time columns to a byte or two per row.</p>
+ *
+ * <p>The footer holds, per row group, the chunk offsets, min/max contact ID and
+ * operation time, and the set of operation types present. A scan reads only the
+ * footer to skip row groups that cannot match, and inflates the ID chunk only for
+ * row groups with matching rows.</p>
+ */
+final class ColumnarAuditLogFile {
+
+    private static final byte[] MAGIC = {'A', 'C', 'O', 'L'};
+    private static final byte VERSION = 1;
+
+    private static final int ID = 0;
+    private static final int CONTACT_ID = 1;
+    private static final int OPERATION_TIME = 2;
+    private static final int OPERATION_TYPE = 3;
+    private static final int COLUMNS = 4;
+
+    private static final OperationType[] OPERATION_TYPES = OperationType.values();
+
+    private ColumnarAuditLogFile() {
+    }
+
+    static Writer create(Path file, int rowGroupSize) {
+        try {
+            return new Writer(Files.newOutputStream(file), rowGroupSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create " + file, e);
+        }
+    }
+
+    /**
+     * Passes the audit logs in {@code file} matching the filters of {@code criteria}
+     * to {@code action}, in file order.
+     *
+     * @return the number of row groups read and skipped
+     */
+    static ScanResult scan(Path file, AuditLogCriteria criteria, Consumer<AuditLog> action) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read = 0;
+            int skipped = 0;
+            readHeader(channel);
+            for (RowGroup group : readFooter(channel)) {
+                if (!group.mayMatch(criteria)) {
+                    skipped++;
+                    continue;
+                }
+                read++;
+                scanRowGroup(channel, group, criteria, action);
+            }
+            return new ScanResult(read, skipped);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + file, e);
+        }
+    }
+
+    record ScanResult(int rowGroupsRead, int rowGroupsSkipped) {
+    }
+
+    private static void scanRowGroup(FileChannel channel, RowGroup group, AuditLogCriteria criteria,
+                                     Consumer<AuditLog> action) throws IOException {
+        long[] contactIds = decodeLongs(readChunk(channel, group, CONTACT_ID), group.rows());
+        long[] times = decodeLongs(readChunk(channel, group, OPERATION_TIME), group.rows());
+        byte[] types = readChunk(channel, group, OPERATION_TYPE);
+
+        long from = criteria.from() != null ? toMicros(criteria.from()) : Long.MIN_VALUE;
+        long to = criteria.to() != null ? toMicros(criteria.to()) : Long.MAX_VALUE;
+        boolean[] selected = new boolean[group.rows()];
+        boolean any = false;
+        for (int row = 0; row < group.rows(); row++) {
+            selected[row] = times[row] >= from && times[row] < to
+                && (criteria.contactId() == null || contactIds[row] == criteria.contactId())
+                && (criteria.operationType() == null || types[row] == criteria.operationType().ordinal());
+            any |= selected[row];
+        }
+        if (!any) {
+            return;
+        }
+        long[] ids = decodeLongs(readChunk(channel, group, ID), group.rows());
+        for (int row = 0; row < group.rows(); row++) {
+            if (selected[row]) {
+                action.accept(AuditLog.reconstitute(ids[row], contactIds[row], fromMicros(times[row]),
+                    OPERATION_TYPES[types[row]], null, null));
+            }
+        }
+    }
+
+    private static void readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = read(channel, 0, MAGIC.length + 1);
+        byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a columnar audit log file");
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported columnar audit log file version " + version);
+        }
+    }
+
+    private static List<RowGroup> readFooter(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer trailer = read(channel, size - Integer.BYTES - MAGIC.length, Integer.BYTES + MAGIC.length);
+        int footerLength = trailer.getInt();
+        byte[] magic = new byte[MAGIC.length];
+        trailer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a columnar audit log file");
+        }
+        ByteBuffer footer = read(channel, size - Integer.BYTES - MAGIC.length - footerLength, footerLength);
+        int groupCount = footer.getInt();
+        List<RowGroup> groups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            int rows = footer.getInt();
+            long minContactId = footer.getLong();
+            long maxContactId = footer.getLong();
+            long minTime = footer.getLong();
+            long maxTime = footer.getLong();
+            int typeMask = footer.getInt();
+            long[] offsets = new long[COLUMNS];
+            int[] lengths = new int[COLUMNS];
+            int[] rawLengths = new int[COLUMNS];
+            for (int column = 0; column < COLUMNS; column++) {
+                offsets[column] = footer.getLong();
+                lengths[column] = footer.getInt();
+                rawLengths[column] = footer.getInt();
+            }
+            groups.add(new RowGroup(rows, minContactId, maxContactId, minTime, maxTime, typeMask,
+                offsets, lengths, rawLengths));
+        }
+        return groups;
+    }
+
+    private static byte[] readChunk(FileChannel channel, RowGroup group, int column) throws IOException {
+        ByteBuffer compressed = read(channel, group.offsets()[column], group.lengths()[column]);
+        byte[] raw = new byte[group.rawLengths()[column]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+            while (inflated < raw.length) {
+                int count = inflater.inflate(raw, inflated, raw.length - inflated);
+                // Nothing inflated with room left: the chunk is truncated or shorter than its footer entry
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Corrupt column chunk");
+                }
+                inflated += count;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt column chunk", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Truncated columnar audit log file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static long[] decodeLongs(byte[] raw, int count) {
+        long[] values = new long[count];
+        long previous = 0;
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            long zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = raw[position++];
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+            (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Row group statistics and chunk locations from the footer.
+     */
+    private record RowGroup(int rows, long minContactId, long maxContactId, long minTime, long maxTime,
+                            int typeMask, long[] offsets, int[] lengths, int[] rawLengths) {
+
+        boolean mayMatch(AuditLogCriteria criteria) {
+            if (criteria.contactId() != null
+                    && (criteria.contactId() < minContactId || criteria.contactId() > maxContactId)) {
+                return false;
+            }
+            if (criteria.operationType() != null && (typeMask & (1 << criteria.operationType().ordinal())) == 0) {
+                return false;
+            }
+            if (criteria.from() != null && maxTime < toMicros(criteria.from())) {
+                return false;
+            }
+            return criteria.to() == null || minTime < toMicros(criteria.to());
+        }
+    }
+
+    /**
+     * Buffers up to {@code rowGroupSize} rows and writes them out as one row group.
+     * The footer is written on close.
+     */
+    static final class Writer implements Closeable {
+
+        private final OutputStream out;
+        private final int rowGroupSize;
+        private final long[] ids;
+        private final long[] contactIds;
+        private final long[] times;
+        private final byte[] types;
+        private final List<RowGroup> groups = new ArrayList<>();
+        private final Deflater deflater = new Deflater();
+
+        private int size;
+        private long position;
+        private long rowCount;
+
+        private Writer(OutputStream out, int rowGroupSize) throws IOException {
+            this.out = new BufferedOutputStream(out);
+            this.rowGroupSize = rowGroupSize;
+            this.ids = new long[rowGroupSize];
+            this.contactIds = new long[rowGroupSize];
+            this.times = new long[rowGroupSize];
+            this.types = new byte[rowGroupSize];
+            write(MAGIC);
+            write(new byte[] {VERSION});
+        }
+
+        void append(AuditLog auditLog) {
+            ids[size] = auditLog.getId();
+            contactIds[size] = auditLog.getContactId();
+            times[size] = toMicros(auditLog.getOperationTime());
+            types[size] = (byte) auditLog.getOperationType().ordinal();
+            size++;
+            rowCount++;
+            if (size == rowGroupSize) {
+                try {
+                    flushRowGroup();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to write row group", e);
+                }
+            }
+        }
+
+        long getRowCount() {
+            return rowCount;
+        }
+
+        private void flushRowGroup() throws IOException {
+            long minContactId = Long.MAX_VALUE;
+            long maxContactId = Long.MIN_VALUE;
+            long minTime = Long.MAX_VALUE;
+            long maxTime = Long.MIN_VALUE;
+            int typeMask = 0;
+            for (int row = 0; row < size; row++) {
+                minContactId = Math.min(minContactId, contactIds[row]);
+                maxContactId = Math.max(maxContactId, contactIds[row]);
+                minTime = Math.min(minTime, times[row]);
+                maxTime = Math.max(maxTime, times[row]);
+                typeMask |= 1 << types[row];
+            }
+            long[] offsets = new long[COLUMNS];
+            int[] lengths = new int[COLUMNS];
+            int[] rawLengths = new int[COLUMNS];
+            writeChunk(ID, encodeLongs(ids), offsets, lengths, rawLengths);
+            writeChunk(CONTACT_ID, encodeLongs(contactIds), offsets, lengths, rawLengths);
+            writeChunk(OPERATION_TIME, encodeLongs(times), offsets, lengths, rawLengths);
+            writeChunk(OPERATION_TYPE, Arrays.copyOf(types, size), offsets, lengths, rawLengths);
+            groups.add(new RowGroup(size, minContactId, maxContactId, minTime, maxTime, typeMask,
+                offsets, lengths, rawLengths));
+            size = 0;
+        }
+
+        private void writeChunk(int column, byte[] raw, long[] offsets, int[] lengths, int[] rawLengths)
+                throws IOException {
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] buffer = new byte[8192];
+            offsets[column] = position;
+            rawLengths[column] = raw.length;
+            int length = 0;
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+                length += n;
+            }
+            position += length;
+            lengths[column] = length;
+        }
+
+        private byte[] encodeLongs(long[] values) {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(size * 2);
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                long delta = values[i] - previous;
+                previous = values[i];
+                long zigzag = (delta << 1) ^ (delta >> 63);
+                while ((zigzag & ~0x7FL) != 0) {
+                    raw.write((int) ((zigzag & 0x7F) | 0x80));
+                    zigzag >>>= 7;
+                }
+                raw.write((int) zigzag);
+            }
+            return raw.toByteArray();
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+            position += bytes.length;
+        }
+
+        @Override
+        public void close() {
+            try (OutputStream stream = out) {
+                if (size > 0) {
+                    flushRowGroup();
+                }
+                ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+                DataOutputStream footer = new DataOutputStream(footerBytes);
+                footer.writeInt(groups.size());
+                for (RowGroup group : groups) {
+                    footer.writeInt(group.rows());
+                    footer.writeLong(group.minContactId());
+                    footer.writeLong(group.maxContactId());
+                    footer.writeLong(group.minTime());
+                    footer.writeLong(group.maxTime());
+                    footer.writeInt(group.typeMask());
+                    for (int column = 0; column < COLUMNS; column++) {
+                        footer.writeLong(group.offsets()[column]);
+                        footer.writeInt(group.lengths()[column]);
+                        footer.writeInt(group.rawLengths()[column]);
+                    }
+                }
+                write(footerBytes.toByteArray());
+                write(ByteBuffer.allocate(Integer.BYTES).putInt(footerBytes.size()).array());
+                write(MAGIC);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write columnar audit log file", e);
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
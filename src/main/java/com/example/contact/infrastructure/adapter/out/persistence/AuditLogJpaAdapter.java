@@ -0,0 +1,129 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.application.port.out.AuditLogCriteria;
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.ContactRevision;
+import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.AuditLogJpaEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * JPA adapter implementing the {@link AuditLogRepository} output port.
+ *
+ * <p>Query methods return complete before/after views for audit logs stored as
+ * merge patches; {@link #forEach} and {@link #forEachBetween} stream the stored payloads as they are.</p>
+ *
+ * <p>Saving records the audit logs as {@link AuditLogRollups} deltas in the same transaction;
+ * deleting them all clears the rollups as well.</p>
+ *
+ * <p>When audit_logs is partitioned by month (see {@link AuditLogPartitions}),
+ * lookups bounded on operation time - pages with a time range or keyset position,
+ * point-in-time replays - are pruned by PostgreSQL to the matching partitions;
+ * unbounded lookups read the retained months only.</p>
+ */
+@Component
+public class AuditLogJpaAdapter implements AuditLogRepository {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("operationTime"), Sort.Order.desc("id"));
+
+    private final AuditLogJpaRepository jpaRepository;
+    private final AuditLogMapper mapper;
+    private final EntityManager entityManager;
+    private final AuditLogRehydrator rehydrator;
+    private final AuditLogRollups rollups;
+
+    public AuditLogJpaAdapter(AuditLogJpaRepository jpaRepository, AuditLogMapper mapper,
+                              EntityManager entityManager, AuditLogRehydrator rehydrator,
+                              AuditLogRollups rollups) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.rehydrator = rehydrator;
+        this.rollups = rollups;
+    }
+
+    @Override
+    public AuditLog save(AuditLog auditLog) {
+        AuditLog saved = mapper.toDomain(jpaRepository.save(mapper.toEntity(auditLog)));
+        rollups.add(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public void saveAll(List<AuditLog> auditLogs) {
+        jpaRepository.saveAll(auditLogs.stream().map(mapper::toEntity).toList());
+        rollups.add(auditLogs);
+    }
+
+    @Override
+    public List<AuditLog> findAll() {
+        return rehydrator.rehydrate(jpaRepository.findAllByOrderByOperationTimeDesc().stream()
+                .map(mapper::toDomain)
+                .toList());
+    }
+
+    @Override
+    public List<AuditLog> findByContactId(Long contactId) {
+        return rehydrator.rehydrate(jpaRepository.findByContactIdOrderByOperationTimeDesc(contactId).stream()
+                .map(mapper::toDomain)
+                .toList());
+    }
+
+    @Override
+    public List<AuditLog> findByOperationType(OperationType operationType) {
+        return rehydrator.rehydrate(jpaRepository.findByOperationTypeOrderByOperationTimeDesc(operationType).stream()
+                .map(mapper::toDomain)
+                .toList());
+    }
+
+    @Override
+    public List<AuditLog> findPage(AuditLogCriteria criteria, int limit) {
+        return rehydrator.rehydrate(jpaRepository.findBy(AuditLogSpecifications.matching(criteria),
+                        query -> query.sortBy(NEWEST_FIRST).limit(limit).all())
+                .stream()
+                .map(mapper::toDomain)
+                .toList());
+    }
+
+    @Override
+    public Optional<ContactRevision> findRevisionAsOf(Long contactId, LocalDateTime asOf) {
+        return rehydrator.revisionAsOf(contactId, asOf);
+    }
+
+    @Override
+    public void forEach(Consumer<AuditLog> action) {
+        forEachDetached(jpaRepository.streamAllByOrderByIdAsc(), action);
+    }
+
+    @Override
+    public void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<AuditLog> action) {
+        forEachDetached(jpaRepository
+            .streamByOperationTimeGreaterThanEqualAndOperationTimeLessThanOrderByOperationTimeAscIdAsc(from, to),
+            action);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAllInBatch();
+        rollups.clear();
+    }
+
+    private void forEachDetached(Stream<AuditLogJpaEntity> stream, Consumer<AuditLog> action) {
+        try (Stream<AuditLogJpaEntity> entities = stream) {
+            entities.forEach(entity -> {
+                // Detach so the persistence context stays empty however many rows are read
+                entityManager.detach(entity);
+                action.accept(mapper.toDomain(entity));
+            });
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.AuditLogJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data repository for {@link AuditLogJpaEntity}.
+ */
+public interface AuditLogJpaRepository extends JpaRepository<AuditLogJpaEntity, Long>,
+        JpaSpecificationExecutor<AuditLogJpaEntity> {
+
+    List<AuditLogJpaEntity> findAllByOrderByOperationTimeDesc();
+
+    List<AuditLogJpaEntity> findByContactIdOrderByOperationTimeDesc(Long contactId);
+
+    List<AuditLogJpaEntity> findByOperationTypeOrderByOperationTimeDesc(OperationType operationType);
+
+    List<AuditLogJpaEntity> findByOperationType(OperationType operationType);
+
+    /**
+     * Full scan in ID order, fetched from a server-side cursor in chunks of
+     * {@value PersistenceHints#STREAM_FETCH_SIZE} rows. The stream must be closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PersistenceHints.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AuditLogJpaEntity> streamAllByOrderByIdAsc();
+
+    /**
+     * Range scan over {@code [from, to)} in operation time order, fetched like
+     * {@link #streamAllByOrderByIdAsc()}. The stream must be closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PersistenceHints.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AuditLogJpaEntity> streamByOperationTimeGreaterThanEqualAndOperationTimeLessThanOrderByOperationTimeAscIdAsc(
+        LocalDateTime from, LocalDateTime to);
+}
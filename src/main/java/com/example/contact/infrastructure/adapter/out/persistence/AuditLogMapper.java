@@ -0,0 +1,59 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.RequestMetadata;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.AuditLogJpaEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps between the {@link AuditLog} domain entity and {@link AuditLogJpaEntity}.
+ */
+@Component
+public class AuditLogMapper {
+
+    public AuditLogJpaEntity toEntity(AuditLog auditLog) {
+        RequestMetadata request = auditLog.getRequestMetadata();
+        return new AuditLogJpaEntity(
+            auditLog.getId(),
+            auditLog.getContactId(),
+            auditLog.getOperationTime(),
+            auditLog.getOperationType(),
+            auditLog.getBeforeData(),
+            auditLog.getAfterData(),
+            auditLog.getPayloadFormat(),
+            request != null ? request.apiEndpoint() : null,
+            request != null ? request.httpMethod() : null,
+            request != null ? request.responseStatus() : null,
+            request != null ? request.executionTimeMs() : null,
+            request != null ? request.clientIp() : null,
+            request != null ? request.userAgent() : null
+        );
+    }
+
+    public AuditLog toDomain(AuditLogJpaEntity entity) {
+        return AuditLog.reconstitute(
+            entity.getId(),
+            entity.getContactId(),
+            entity.getOperationTime(),
+            entity.getOperationType(),
+            entity.getBeforeData(),
+            entity.getAfterData(),
+            entity.getPayloadFormat(),
+            toRequestMetadata(entity)
+        );
+    }
+
+    private RequestMetadata toRequestMetadata(AuditLogJpaEntity entity) {
+        if (entity.getHttpMethod() == null) {
+            return null;
+        }
+        return new RequestMetadata(
+            entity.getApiEndpoint(),
+            entity.getHttpMethod(),
+            entity.getResponseStatus(),
+            entity.getExecutionTimeMs(),
+            entity.getClientIp(),
+            entity.getUserAgent()
+        );
+    }
+}
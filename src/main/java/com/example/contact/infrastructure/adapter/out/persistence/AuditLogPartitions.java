@@ -0,0 +1,36 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import java.time.YearMonth;
+
+/**
+ * Physical layout of the audit_logs table by month of {@code operation_time}.
+ *
+ * <p>On PostgreSQL with the partitioned schema in
+ * {@code db/postgresql/audit_logs_partitioned.sql} each month is its own partition:
+ * queries bounded on operation time only touch the matching partitions, and
+ * expired months are detached and moved aside without deleting rows. Elsewhere,
+ * e.g. on H2, the table is a single heap and expiry falls back to batched deletes.</p>
+ */
+public interface AuditLogPartitions {
+
+    /**
+     * Whether months are stored in separate partitions.
+     */
+    boolean isPartitioned();
+
+    /**
+     * Creates any missing partitions from the current month through {@code through}.
+     * A no-op on a single table.
+     */
+    void ensurePartitions(YearMonth through);
+
+    /**
+     * Removes every audit log of the months before {@code cutoff} from the audit_logs table.
+     * Partitions are detached and archived; a single table deletes the rows. Either way each
+     * contact's latest CREATE entry or checkpoint before the cutoff, and every entry after it,
+     * stays, so that merge patches and point-in-time lookups still have a starting point.
+     *
+     * @return the number of partitions archived, or of rows deleted on a single table
+     */
+    long archiveBefore(YearMonth cutoff);
+}
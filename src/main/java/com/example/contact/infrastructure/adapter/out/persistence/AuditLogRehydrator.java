@@ -0,0 +1,223 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.application.port.out.AuditLogCriteria;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.AuditPayloadFormat;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactRevision;
+import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.AuditLogJpaEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds contact state by replaying the audit trail: complete before/after
+ * views for audit logs stored as merge patches, and point-in-time revisions.
+ *
+ * <p>For each contact with merge-patch entries among the audit logs read, the
+ * contact's state is replayed from the latest CREATE entry or checkpoint at or
+ * before the earliest of them, up to the latest of them, touching at most
+ * {@code checkpointInterval} entries per patch read. The contacts are batched:
+ * one grouped query finds the starting points of up to {@value #CONTACTS_PER_QUERY}
+ * contacts, one more reads their histories.</p>
+ *
+ * <p>If no such starting point exists, e.g. because older audit logs were purged,
+ * the replay starts from the contact's first remaining audit log and the views
+ * contain only the fields seen since.</p>
+ *
+ * <p>A point-in-time lookup likewise replays only the entries since the latest
+ * CREATE entry or checkpoint at or before that time.</p>
+ */
+@Component
+class AuditLogRehydrator {
+
+    /** Keeps the bind parameters of both queries well below the PostgreSQL limit of 65535. */
+    private static final int CONTACTS_PER_QUERY = 500;
+
+    private static final Sort OLDEST_FIRST = Sort.by(Sort.Order.asc("operationTime"), Sort.Order.asc("id"));
+
+    private static final Comparator<AuditLog> BY_POSITION =
+        Comparator.comparing(AuditLog::getOperationTime).thenComparing(AuditLog::getId);
+
+    private static final TypeReference<LinkedHashMap<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private final AuditLogJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    AuditLogRehydrator(AuditLogJpaRepository jpaRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the audit logs in the same order, merge-patch entries replaced by
+     * copies carrying full before/after JSON.
+     */
+    List<AuditLog> rehydrate(List<AuditLog> auditLogs) {
+        Map<Long, List<AuditLog>> patchesByContact = auditLogs.stream()
+            .filter(auditLog -> auditLog.getPayloadFormat() == AuditPayloadFormat.MERGE_PATCH)
+            .collect(Collectors.groupingBy(AuditLog::getContactId));
+        if (patchesByContact.isEmpty()) {
+            return auditLogs;
+        }
+        Map<Long, AuditLog> rehydrated = new HashMap<>();
+        List<Long> contactIds = List.copyOf(patchesByContact.keySet());
+        for (int start = 0; start < contactIds.size(); start += CONTACTS_PER_QUERY) {
+            Map<Long, AuditLogCriteria.Position> firstByContact = new HashMap<>();
+            Map<Long, AuditLogCriteria.Position> lastByContact = new HashMap<>();
+            for (Long contactId : contactIds.subList(start, Math.min(start + CONTACTS_PER_QUERY, contactIds.size()))) {
+                List<AuditLog> patches = patchesByContact.get(contactId);
+                firstByContact.put(contactId, positionOf(patches.stream().min(BY_POSITION).orElseThrow()));
+                lastByContact.put(contactId, positionOf(patches.stream().max(BY_POSITION).orElseThrow()));
+            }
+            historiesSinceBase(firstByContact, lastByContact).forEach((contactId, history) ->
+                rehydrateContact(history, patchesByContact.get(contactId), rehydrated));
+        }
+        return auditLogs.stream()
+            .map(auditLog -> rehydrated.getOrDefault(auditLog.getId(), auditLog))
+            .toList();
+    }
+
+    private void rehydrateContact(List<AuditLogJpaEntity> history, List<AuditLog> patches,
+                                  Map<Long, AuditLog> rehydrated) {
+        Map<Long, AuditLog> patchesById = patches.stream()
+            .collect(Collectors.toMap(AuditLog::getId, auditLog -> auditLog));
+        Map<String, Object> state = new LinkedHashMap<>();
+        for (AuditLogJpaEntity entity : history) {
+            AuditLog patch = patchesById.get(entity.getId());
+            String before = patch != null ? toJson(state) : null;
+            apply(entity, state);
+            if (patch != null) {
+                rehydrated.put(patch.getId(), patch.withRehydratedData(before, toJson(state)));
+            }
+        }
+    }
+
+    /**
+     * The contact as left by its last audit log at or before {@code asOf}.
+     */
+    Optional<ContactRevision> revisionAsOf(Long contactId, LocalDateTime asOf) {
+        Map<Long, AuditLogCriteria.Position> upTo =
+            Map.of(contactId, new AuditLogCriteria.Position(asOf, Long.MAX_VALUE));
+        List<AuditLogJpaEntity> history = historiesSinceBase(upTo, upTo).getOrDefault(contactId, List.of());
+        if (history.isEmpty()) {
+            return Optional.empty();
+        }
+        AuditLogJpaEntity last = history.get(history.size() - 1);
+        if (last.getOperationType() == OperationType.DELETE) {
+            return Optional.empty();
+        }
+        Map<String, Object> state = new LinkedHashMap<>();
+        history.forEach(entity -> apply(entity, state));
+        return Optional.of(new ContactRevision(
+            new ContactId(contactId),
+            text(state.get("name")),
+            text(state.get("phone")),
+            text(state.get("address")),
+            last.getOperationTime()
+        ));
+    }
+
+    /**
+     * Audit logs of each contact up to its position in {@code lastByContact}, oldest
+     * first, starting at the time of its latest CREATE entry or checkpoint at or before
+     * its position in {@code firstByContact}. Contacts without audit logs are left out.
+     *
+     * <p>Entries at that time but before the starting point are read too: replaying
+     * them is harmless, as the starting point then replaces the whole state.</p>
+     */
+    private Map<Long, List<AuditLogJpaEntity>> historiesSinceBase(Map<Long, AuditLogCriteria.Position> firstByContact,
+                                                                  Map<Long, AuditLogCriteria.Position> lastByContact) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<AuditLogJpaEntity> root = query.from(AuditLogJpaEntity.class);
+        Path<Long> contactId = root.get("contactId");
+        Expression<LocalDateTime> baseTime = cb.greatest(root.<LocalDateTime>get("operationTime"));
+        query.multiselect(contactId, baseTime)
+            .where(AuditLogSpecifications.rehydrationBases(firstByContact).toPredicate(root, query, cb))
+            .groupBy(contactId);
+        Map<Long, LocalDateTime> sinceByContact = entityManager.createQuery(query).getResultStream()
+            .collect(Collectors.toMap(row -> row.get(contactId), row -> row.get(baseTime)));
+
+        return jpaRepository.findBy(AuditLogSpecifications.histories(sinceByContact, lastByContact),
+                fluentQuery -> fluentQuery.sortBy(OLDEST_FIRST).all())
+            .stream()
+            .collect(Collectors.groupingBy(AuditLogJpaEntity::getContactId));
+    }
+
+    private void apply(AuditLogJpaEntity entity, Map<String, Object> state) {
+        if (entity.getOperationType() == OperationType.DELETE) {
+            state.clear();
+            return;
+        }
+        Map<String, Object> after = parse(entity.getAfterData());
+        if (entity.getPayloadFormat() == AuditPayloadFormat.MERGE_PATCH) {
+            after.forEach((field, value) -> {
+                if (value == null) {
+                    state.remove(field);
+                } else {
+                    state.put(field, value);
+                }
+            });
+            return;
+        }
+        if (entity.getOperationType() == OperationType.CREATE
+                || entity.getPayloadFormat() == AuditPayloadFormat.CHECKPOINT) {
+            state.clear();
+        }
+        // Snapshot entries of partial updates hold only the changed fields
+        state.putAll(after);
+    }
+
+    /**
+     * Snapshots record a missing address as an empty string.
+     */
+    private static String text(Object value) {
+        return value == null || "".equals(value) ? null : value.toString();
+    }
+
+    private static AuditLogCriteria.Position positionOf(AuditLog auditLog) {
+        return new AuditLogCriteria.Position(auditLog.getOperationTime(), auditLog.getId());
+    }
+
+    private Map<String, Object> parse(String json) {
+        if (json == null) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return objectMapper.readValue(json, JSON_OBJECT);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable audit log payload: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private String toJson(Map<String, Object> state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize rehydrated audit log", e);
+        }
+    }
+}
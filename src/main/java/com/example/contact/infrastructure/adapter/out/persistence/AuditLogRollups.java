@@ -0,0 +1,289 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.application.port.out.AuditStatsRepository;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.AuditStatsBucket;
+import com.example.contact.domain.model.AuditStatsGranularity;
+import com.example.contact.domain.model.OperationType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Audit log rollups in audit_log_rollups and audit_log_contact_rollups.
+ *
+ * <p>Saving audit logs only inserts delta rows into audit_log_rollup_deltas, one
+ * per contact, minute and operation type of the saved batch, in the saving
+ * transaction. Inserts take no shared row locks, so concurrent writers never wait
+ * on each other's rollup rows. {@link #compact} later folds committed deltas into
+ * the rollups, summed per rollup row and upserted in key order; queries add the
+ * deltas not yet compacted, so counts are exact either way.</p>
+ *
+ * <p>PostgreSQL uses {@code INSERT ... ON CONFLICT}; other databases the standard
+ * {@code MERGE}.</p>
+ */
+public class AuditLogRollups implements AuditStatsRepository {
+
+    private static final String PG_UPSERT = """
+        INSERT INTO audit_log_rollups (granularity, bucket_start, operation_type, operation_count)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (granularity, bucket_start, operation_type)
+        DO UPDATE SET operation_count = audit_log_rollups.operation_count + EXCLUDED.operation_count""";
+
+    private static final String PG_CONTACT_UPSERT = """
+        INSERT INTO audit_log_contact_rollups (contact_id, bucket_start, operation_type, operation_count)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (contact_id, bucket_start, operation_type)
+        DO UPDATE SET operation_count = audit_log_contact_rollups.operation_count + EXCLUDED.operation_count""";
+
+    private static final String MERGE = """
+        MERGE INTO audit_log_rollups r
+        USING (VALUES (CAST(? AS VARCHAR(6)), CAST(? AS TIMESTAMP), CAST(? AS VARCHAR(10)), CAST(? AS BIGINT)))
+            AS s (granularity, bucket_start, operation_type, operation_count)
+        ON r.granularity = s.granularity AND r.bucket_start = s.bucket_start AND r.operation_type = s.operation_type
+        WHEN MATCHED THEN UPDATE SET operation_count = r.operation_count + s.operation_count
+        WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, operation_type, operation_count)
+            VALUES (s.granularity, s.bucket_start, s.operation_type, s.operation_count)""";
+
+    private static final String CONTACT_MERGE = """
+        MERGE INTO audit_log_contact_rollups r
+        USING (VALUES (CAST(? AS BIGINT), CAST(? AS TIMESTAMP), CAST(? AS VARCHAR(10)), CAST(? AS BIGINT)))
+            AS s (contact_id, bucket_start, operation_type, operation_count)
+        ON r.contact_id = s.contact_id AND r.bucket_start = s.bucket_start AND r.operation_type = s.operation_type
+        WHEN MATCHED THEN UPDATE SET operation_count = r.operation_count + s.operation_count
+        WHEN NOT MATCHED THEN INSERT (contact_id, bucket_start, operation_type, operation_count)
+            VALUES (s.contact_id, s.bucket_start, s.operation_type, s.operation_count)""";
+
+    private static final String SELECT_BUCKETS = """
+        SELECT bucket_start, operation_type, operation_count FROM audit_log_rollups
+        WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?""";
+
+    private static final String SELECT_CONTACT_BUCKETS = """
+        SELECT bucket_start, operation_type, operation_count FROM audit_log_contact_rollups
+        WHERE contact_id = ? AND bucket_start >= ? AND bucket_start < ?""";
+
+    private static final String INSERT_DELTA = """
+        INSERT INTO audit_log_rollup_deltas (contact_id, minute_start, operation_type, operation_count)
+        VALUES (?, ?, ?, ?)""";
+
+    /** Locks the oldest deltas: a concurrent compaction waits, then finds them deleted. */
+    private static final String SELECT_DELTAS = """
+        SELECT id, contact_id, minute_start, operation_type, operation_count FROM audit_log_rollup_deltas
+        ORDER BY id FETCH FIRST ? ROWS ONLY FOR UPDATE""";
+
+    private static final String DELETE_DELTA = "DELETE FROM audit_log_rollup_deltas WHERE id = ?";
+
+    // Bucket expressions come from the enum, never from input
+    private static final String SELECT_DELTA_BUCKETS = """
+        SELECT DATE_TRUNC('%1$s', minute_start) AS bucket_start, operation_type,
+            SUM(operation_count) AS operation_count
+        FROM audit_log_rollup_deltas
+        WHERE DATE_TRUNC('%1$s', minute_start) >= ? AND DATE_TRUNC('%1$s', minute_start) < ?""";
+
+    private static final String DELTA_GROUPING = " GROUP BY DATE_TRUNC('%1$s', minute_start), operation_type";
+
+    private static final String REBUILD = """
+        INSERT INTO audit_log_rollups (granularity, bucket_start, operation_type, operation_count)
+        SELECT '%1$s', DATE_TRUNC('%2$s', operation_time), operation_type, COUNT(*) FROM audit_logs
+        WHERE operation_time >= ? AND operation_time < ?
+        GROUP BY DATE_TRUNC('%2$s', operation_time), operation_type""";
+
+    private static final String REBUILD_CONTACTS = """
+        INSERT INTO audit_log_contact_rollups (contact_id, bucket_start, operation_type, operation_count)
+        SELECT contact_id, DATE_TRUNC('day', operation_time), operation_type, COUNT(*) FROM audit_logs
+        WHERE operation_time >= ? AND operation_time < ?
+        GROUP BY contact_id, DATE_TRUNC('day', operation_time), operation_type""";
+
+    private static final RowMapper<Delta> DELTA = (rs, rowNum) -> new Delta(
+        rs.getLong("id"),
+        rs.getLong("contact_id"),
+        rs.getTimestamp("minute_start").toLocalDateTime(),
+        OperationType.valueOf(rs.getString("operation_type")),
+        rs.getLong("operation_count"));
+
+    private static final RowMapper<AuditStatsBucket> BUCKET = (rs, rowNum) -> new AuditStatsBucket(
+        rs.getTimestamp("bucket_start").toLocalDateTime(),
+        OperationType.valueOf(rs.getString("operation_type")),
+        rs.getLong("operation_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsert;
+    private final String contactUpsert;
+    private final boolean postgres;
+
+    /**
+     * @param postgres whether the database is PostgreSQL
+     */
+    public AuditLogRollups(JdbcTemplate jdbcTemplate, boolean postgres) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsert = postgres ? PG_UPSERT : MERGE;
+        this.contactUpsert = postgres ? PG_CONTACT_UPSERT : CONTACT_MERGE;
+        this.postgres = postgres;
+    }
+
+    /**
+     * Records the audit logs as deltas. Must run in the transaction that saves them.
+     */
+    void add(List<AuditLog> auditLogs) {
+        Map<ContactBucketKey, Long> deltas = new TreeMap<>();
+        for (AuditLog auditLog : auditLogs) {
+            deltas.merge(new ContactBucketKey(auditLog.getContactId(),
+                AuditStatsGranularity.MINUTE.bucketOf(auditLog.getOperationTime()),
+                auditLog.getOperationType()), 1L, Long::sum);
+        }
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, count) -> rows.add(new Object[] {
+            key.contactId(), Timestamp.valueOf(key.bucketStart()), key.operationType().name(), count}));
+        jdbcTemplate.batchUpdate(INSERT_DELTA, rows);
+    }
+
+    /**
+     * Folds up to {@code limit} of the oldest deltas into the rollups and deletes
+     * them. Must run in a transaction.
+     *
+     * @return the number of deltas folded
+     */
+    public int compact(int limit) {
+        List<Delta> deltas = jdbcTemplate.query(SELECT_DELTAS, DELTA, limit);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        Map<BucketKey, Long> buckets = new TreeMap<>();
+        Map<ContactBucketKey, Long> contactBuckets = new TreeMap<>();
+        for (Delta delta : deltas) {
+            for (AuditStatsGranularity granularity : AuditStatsGranularity.values()) {
+                buckets.merge(new BucketKey(granularity, granularity.bucketOf(delta.minuteStart()),
+                    delta.operationType()), delta.count(), Long::sum);
+            }
+            contactBuckets.merge(new ContactBucketKey(delta.contactId(),
+                AuditStatsGranularity.DAY.bucketOf(delta.minuteStart()),
+                delta.operationType()), delta.count(), Long::sum);
+        }
+        List<Object[]> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, count) -> rows.add(new Object[] {
+            key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.operationType().name(), count}));
+        jdbcTemplate.batchUpdate(upsert, rows);
+
+        List<Object[]> contactRows = new ArrayList<>(contactBuckets.size());
+        contactBuckets.forEach((key, count) -> contactRows.add(new Object[] {
+            key.contactId(), Timestamp.valueOf(key.bucketStart()), key.operationType().name(), count}));
+        jdbcTemplate.batchUpdate(contactUpsert, contactRows);
+
+        jdbcTemplate.batchUpdate(DELETE_DELTA, deltas.stream().map(delta -> new Object[] {delta.id()}).toList());
+        return deltas.size();
+    }
+
+    /**
+     * Removes all rollups and deltas, together with the audit logs they count.
+     */
+    void clear() {
+        jdbcTemplate.update("DELETE FROM audit_log_rollup_deltas");
+        jdbcTemplate.update("DELETE FROM audit_log_rollups");
+        jdbcTemplate.update("DELETE FROM audit_log_contact_rollups");
+    }
+
+    @Override
+    public List<AuditStatsBucket> findBuckets(AuditStatsGranularity granularity, LocalDateTime from,
+                                              LocalDateTime to, OperationType operationType, Long contactId) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(contactId != null ? SELECT_CONTACT_BUCKETS : SELECT_BUCKETS);
+        args.add(contactId != null ? contactId : granularity.name());
+        args.add(Timestamp.valueOf(from));
+        args.add(Timestamp.valueOf(to));
+        if (operationType != null) {
+            sql.append(" AND operation_type = ?");
+            args.add(operationType.name());
+        }
+        List<AuditStatsBucket> compacted = jdbcTemplate.query(sql.toString(), BUCKET, args.toArray());
+
+        String unit = granularity.name().toLowerCase();
+        List<Object> deltaArgs = new ArrayList<>(List.of(Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        StringBuilder deltaSql = new StringBuilder(SELECT_DELTA_BUCKETS.formatted(unit));
+        if (contactId != null) {
+            deltaSql.append(" AND contact_id = ?");
+            deltaArgs.add(contactId);
+        }
+        if (operationType != null) {
+            deltaSql.append(" AND operation_type = ?");
+            deltaArgs.add(operationType.name());
+        }
+        deltaSql.append(DELTA_GROUPING.formatted(unit));
+        List<AuditStatsBucket> pending = jdbcTemplate.query(deltaSql.toString(), BUCKET, deltaArgs.toArray());
+        return merge(compacted, pending);
+    }
+
+    /** Sums compacted and pending counts per bucket, ordered by bucket start and then operation type name. */
+    private static List<AuditStatsBucket> merge(List<AuditStatsBucket> compacted, List<AuditStatsBucket> pending) {
+        Map<LocalDateTime, Map<String, Long>> counts = new TreeMap<>();
+        for (List<AuditStatsBucket> buckets : List.of(compacted, pending)) {
+            for (AuditStatsBucket bucket : buckets) {
+                counts.computeIfAbsent(bucket.bucketStart(), start -> new TreeMap<>())
+                    .merge(bucket.operationType().name(), bucket.count(), Long::sum);
+            }
+        }
+        List<AuditStatsBucket> merged = new ArrayList<>();
+        counts.forEach((bucketStart, byType) -> byType.forEach((type, count) ->
+            merged.add(new AuditStatsBucket(bucketStart, OperationType.valueOf(type), count))));
+        return merged;
+    }
+
+    @Override
+    public long rebuild(LocalDateTime from, LocalDateTime to) {
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(to);
+        if (postgres) {
+            // Waits for transactions that already recorded deltas, and holds back new ones until commit,
+            // so each audit log is counted either by the recount or by a later delta - never both
+            jdbcTemplate.execute("LOCK TABLE audit_log_rollup_deltas IN EXCLUSIVE MODE");
+        }
+        jdbcTemplate.update("DELETE FROM audit_log_rollup_deltas WHERE minute_start >= ? AND minute_start < ?",
+            start, end);
+        jdbcTemplate.update("DELETE FROM audit_log_rollups WHERE bucket_start >= ? AND bucket_start < ?", start, end);
+        jdbcTemplate.update("DELETE FROM audit_log_contact_rollups WHERE bucket_start >= ? AND bucket_start < ?",
+            start, end);
+        for (AuditStatsGranularity granularity : AuditStatsGranularity.values()) {
+            jdbcTemplate.update(REBUILD.formatted(granularity.name(), granularity.name().toLowerCase()), start, end);
+        }
+        jdbcTemplate.update(REBUILD_CONTACTS, start, end);
+        Long counted = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM audit_logs WHERE operation_time >= ? AND operation_time < ?", Long.class, start, end);
+        return counted != null ? counted : 0;
+    }
+
+    private record Delta(long id, Long contactId, LocalDateTime minuteStart, OperationType operationType,
+                         long count) {
+    }
+
+    private record BucketKey(AuditStatsGranularity granularity, LocalDateTime bucketStart,
+                             OperationType operationType) implements Comparable<BucketKey> {
+
+        private static final Comparator<BucketKey> ORDER = Comparator.comparing(BucketKey::granularity)
+            .thenComparing(BucketKey::bucketStart)
+            .thenComparing(BucketKey::operationType);
+
+        @Override
+        public int compareTo(BucketKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record ContactBucketKey(Long contactId, LocalDateTime bucketStart,
+                                    OperationType operationType) implements Comparable<ContactBucketKey> {
+
+        private static final Comparator<ContactBucketKey> ORDER = Comparator.comparing(ContactBucketKey::contactId)
+            .thenComparing(ContactBucketKey::bucketStart)
+            .thenComparing(ContactBucketKey::operationType);
+
+        @Override
+        public int compareTo(ContactBucketKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.application.port.out.AuditLogCriteria;
+import com.example.contact.domain.model.AuditPayloadFormat;
+import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.AuditLogJpaEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds audit log query predicates from {@link AuditLogCriteria}.
+ *
+ * <p>Only the filters that are present become predicates, so the database sees a
+ * plain equality/range prefix that matches one of the composite
+ * {@code (…, operation_time, id)} indexes instead of {@code :param IS NULL OR …}
+ * clauses that defeat index selection.</p>
+ */
+final class AuditLogSpecifications {
+
+    private AuditLogSpecifications() {
+    }
+
+    static Specification<AuditLogJpaEntity> matching(AuditLogCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.contactId() != null) {
+                predicates.add(cb.equal(root.get("contactId"), criteria.contactId()));
+            }
+            if (criteria.operationType() != null) {
+                predicates.add(cb.equal(root.get("operationType"), criteria.operationType()));
+            }
+            if (criteria.from() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("operationTime"), criteria.from()));
+            }
+            if (criteria.to() != null) {
+                predicates.add(cb.lessThan(root.get("operationTime"), criteria.to()));
+            }
+            AuditLogCriteria.Position after = criteria.after();
+            if (after != null) {
+                // Row-value comparison (operation_time, id) < (:time, :id), spelled out for portability
+                predicates.add(cb.or(
+                    cb.lessThan(root.get("operationTime"), after.operationTime()),
+                    cb.and(
+                        cb.equal(root.get("operationTime"), after.operationTime()),
+                        cb.lessThan(root.get("id"), after.id())
+                    )
+                ));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Audit logs from which the full state of a contact can be rebuilt, for each
+     * contact at or before its own position: its CREATE entry and update checkpoints.
+     */
+    static Specification<AuditLogJpaEntity> rehydrationBases(Map<Long, AuditLogCriteria.Position> upToByContact) {
+        return (root, query, cb) -> cb.and(
+            cb.or(
+                cb.equal(root.get("operationType"), OperationType.CREATE),
+                cb.equal(root.get("payloadFormat"), AuditPayloadFormat.CHECKPOINT)
+            ),
+            cb.or(upToByContact.entrySet().stream()
+                .map(upTo -> cb.and(
+                    cb.equal(root.get("contactId"), upTo.getKey()),
+                    atOrBefore(root, cb, upTo.getValue())
+                ))
+                .toArray(Predicate[]::new))
+        );
+    }
+
+    /**
+     * Audit logs of each contact up to its position in {@code toByContact}, inclusive,
+     * and from its time in {@code sinceByContact} on; a contact missing there starts
+     * at its first audit log.
+     */
+    static Specification<AuditLogJpaEntity> histories(Map<Long, LocalDateTime> sinceByContact,
+                                                      Map<Long, AuditLogCriteria.Position> toByContact) {
+        return (root, query, cb) -> cb.or(toByContact.entrySet().stream()
+            .map(to -> {
+                Predicate inRange = cb.and(
+                    cb.equal(root.get("contactId"), to.getKey()),
+                    atOrBefore(root, cb, to.getValue())
+                );
+                LocalDateTime since = sinceByContact.get(to.getKey());
+                return since == null
+                    ? inRange
+                    : cb.and(inRange, cb.greaterThanOrEqualTo(root.get("operationTime"), since));
+            })
+            .toArray(Predicate[]::new));
+    }
+
+    private static Predicate atOrBefore(Root<AuditLogJpaEntity> root, CriteriaBuilder cb,
+                                        AuditLogCriteria.Position position) {
+        return cb.or(
+            cb.lessThan(root.get("operationTime"), position.operationTime()),
+            cb.and(
+                cb.equal(root.get("operationTime"), position.operationTime()),
+                cb.lessThanOrEqualTo(root.get("id"), position.id())
+            )
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.application.port.out.ContactRepository;
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactChanges;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.ContactJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * JPA adapter implementing the {@link ContactRepository} output port.
+ */
+@Component
+public class ContactJpaAdapter implements ContactRepository {
+
+    /**
+     * Contacts flushed per round; a multiple of {@code hibernate.jdbc.batch_size}
+     * so that each flush sends only full JDBC batches.
+     */
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final ContactJpaRepository jpaRepository;
+    private final ContactMapper mapper;
+    private final EntityManager entityManager;
+
+    public ContactJpaAdapter(ContactJpaRepository jpaRepository, ContactMapper mapper,
+                             EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Contact save(Contact contact) {
+        return mapper.toDomain(jpaRepository.save(mapper.toEntity(contact)));
+    }
+
+    @Override
+    public List<Contact> saveAll(List<Contact> contacts) {
+        List<Contact> saved = new ArrayList<>(contacts.size());
+        for (int from = 0; from < contacts.size(); from += INSERT_CHUNK_SIZE) {
+            List<ContactJpaEntity> chunk = contacts.subList(from, Math.min(from + INSERT_CHUNK_SIZE, contacts.size()))
+                    .stream()
+                    .map(mapper::toEntity)
+                    .toList();
+            jpaRepository.saveAll(chunk);
+            // Send the batched INSERTs, then drop the entities so memory stays bounded
+            entityManager.flush();
+            entityManager.clear();
+            chunk.forEach(entity -> saved.add(mapper.toDomain(entity)));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Contact> findById(ContactId id) {
+        return jpaRepository.findById(id.value()).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Contact> findAll() {
+        return jpaRepository.findAll().stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Contact> findPageAfter(ContactId after, int limit) {
+        long lowerBound = after != null ? after.value() : 0L;
+        return jpaRepository.findByIdGreaterThanOrderByIdAsc(lowerBound, Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void forEach(Consumer<Contact> action) {
+        try (Stream<ContactJpaEntity> entities = jpaRepository.streamAllByOrderByIdAsc()) {
+            entities.forEach(entity -> {
+                // Detach so the persistence context stays empty however many rows are read
+                entityManager.detach(entity);
+                action.accept(mapper.toDomain(entity));
+            });
+        }
+    }
+
+    @Override
+    public void deleteById(ContactId id) {
+        jpaRepository.deleteById(id.value());
+    }
+
+    @Override
+    public Optional<Contact> updateIfVersion(Contact contact, ContactChanges changes, long expectedVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<ContactJpaEntity> update = cb.createCriteriaUpdate(ContactJpaEntity.class);
+        Root<ContactJpaEntity> root = update.from(ContactJpaEntity.class);
+        // Entity attribute names match the ContactChanges field names
+        if (changes.contains(ContactChanges.NAME)) {
+            update.set(root.<String>get("name"), contact.getName());
+        }
+        if (changes.contains(ContactChanges.PHONE)) {
+            update.set(root.<String>get("phone"), contact.getPhone());
+        }
+        if (changes.contains(ContactChanges.ADDRESS)) {
+            update.set(root.<String>get("address"), contact.getAddress());
+        }
+        update.set(root.<LocalDateTime>get("updatedAt"), contact.getUpdatedAt());
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(
+            cb.equal(root.get("id"), contact.getId().value()),
+            cb.equal(root.get("version"), expectedVersion));
+
+        // Same contract as @Modifying(flushAutomatically, clearAutomatically): no stale managed copy survives
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated == 1 ? Optional.of(contact.withVersion(expectedVersion + 1)) : Optional.empty();
+    }
+
+    @Override
+    public boolean deleteIfVersion(ContactId id, long expectedVersion) {
+        return jpaRepository.deleteIfVersion(id.value(), expectedVersion) == 1;
+    }
+
+    @Override
+    public boolean existsById(ContactId id) {
+        return jpaRepository.existsById(id.value());
+    }
+}
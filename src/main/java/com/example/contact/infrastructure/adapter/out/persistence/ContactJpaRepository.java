@@ -0,0 +1,44 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.infrastructure.adapter.out.persistence.entity.ContactJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data repository for {@link ContactJpaEntity}.
+ */
+public interface ContactJpaRepository extends JpaRepository<ContactJpaEntity, Long> {
+
+    /**
+     * Keyset query served by the primary key index: {@code WHERE id > ? ORDER BY id LIMIT ?}.
+     */
+    List<ContactJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Full scan in ID order, fetched from a server-side cursor in chunks of
+     * {@value PersistenceHints#STREAM_FETCH_SIZE} rows. The stream must be closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PersistenceHints.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ContactJpaEntity> streamAllByOrderByIdAsc();
+
+    /**
+     * Compare-and-set delete: succeeds only if the row is still at {@code version}.
+     *
+     * @return number of rows deleted, 0 or 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ContactJpaEntity c WHERE c.id = :id AND c.version = :version")
+    int deleteIfVersion(@Param("id") Long id, @Param("version") Long version);
+}
@@ -0,0 +1,37 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.ContactJpaEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps between the {@link Contact} domain entity and {@link ContactJpaEntity}.
+ */
+@Component
+public class ContactMapper {
+
+    public ContactJpaEntity toEntity(Contact contact) {
+        return new ContactJpaEntity(
+            contact.getId() != null ? contact.getId().value() : null,
+            contact.getName(),
+            contact.getPhone(),
+            contact.getAddress(),
+            contact.getCreatedAt(),
+            contact.getUpdatedAt(),
+            contact.getVersion()
+        );
+    }
+
+    public Contact toDomain(ContactJpaEntity entity) {
+        return Contact.reconstitute(
+            new ContactId(entity.getId()),
+            entity.getName(),
+            entity.getPhone(),
+            entity.getAddress(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getVersion()
+        );
+    }
+}
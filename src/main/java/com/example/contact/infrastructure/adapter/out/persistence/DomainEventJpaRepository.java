@@ -0,0 +1,37 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.infrastructure.adapter.out.persistence.entity.DomainEventJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data repository for {@link DomainEventJpaEntity}.
+ */
+public interface DomainEventJpaRepository extends JpaRepository<DomainEventJpaEntity, Long> {
+
+    /**
+     * Sequence number of the contact's latest event, {@code 0} if it has none.
+     */
+    @Query("SELECT COALESCE(MAX(e.sequenceNumber), 0) FROM DomainEventJpaEntity e WHERE e.contactId = :contactId")
+    long findLastSequenceNumber(@Param("contactId") Long contactId);
+
+    @Query("SELECT DISTINCT e.contactId FROM DomainEventJpaEntity e ORDER BY e.contactId")
+    List<Long> findContactIds();
+
+    /**
+     * Events of the contacts in {@code [from, to]}, each contact's in sequence.
+     * Must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PersistenceHints.STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<DomainEventJpaEntity> streamByContactIdBetweenOrderByContactIdAscSequenceNumberAsc(Long from, Long to);
+}
@@ -0,0 +1,79 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.infrastructure.adapter.out.persistence.entity.DomainEventJpaEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only store of contact events in domain_events, one stream per contact.
+ *
+ * <p>Appending takes the next sequence number of the contact's stream. A contact
+ * is created by its first event, so creation events take 1 without a lookup;
+ * other events read the stream's last number through the unique key's index. Two
+ * transactions appending to the same stream at once cannot both commit: the second
+ * insert violates the unique key and rolls its transaction back.</p>
+ *
+ * <p>Enabled with {@code contact.events.store.enabled=true}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.events.store.enabled", havingValue = "true")
+public class DomainEventStore {
+
+    private final DomainEventJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public DomainEventStore(DomainEventJpaRepository jpaRepository, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Appends an event to the contact's stream, in the caller's transaction.
+     *
+     * @param first whether the event starts the stream, i.e. creates the contact
+     * @return the event's sequence number
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long append(Long contactId, boolean first, String eventId, String eventType,
+                       LocalDateTime occurredAt, String payload, String requestMetadata) {
+        if (contactId == null) {
+            throw new IllegalArgumentException("Cannot store event " + eventId + " without a contact ID");
+        }
+        long sequenceNumber = first ? 1 : jpaRepository.findLastSequenceNumber(contactId) + 1;
+        jpaRepository.save(new DomainEventJpaEntity(contactId, sequenceNumber, eventId, eventType,
+            occurredAt, payload, requestMetadata));
+        return sequenceNumber;
+    }
+
+    /**
+     * IDs of all contacts with stored events, ascending.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> contactIds() {
+        return jpaRepository.findContactIds();
+    }
+
+    /**
+     * Streams the events of the contacts with IDs in {@code [from, to]}, contact by
+     * contact and each in sequence, through a database cursor. Must be called inside
+     * a transaction.
+     */
+    public void forEachOfContacts(Long from, Long to, Consumer<DomainEventJpaEntity> action) {
+        try (Stream<DomainEventJpaEntity> events =
+                 jpaRepository.streamByContactIdBetweenOrderByContactIdAscSequenceNumberAsc(from, to)) {
+            events.forEach(event -> {
+                // Detach so the persistence context stays empty however many rows are read
+                entityManager.detach(event);
+                action.accept(event);
+            });
+        }
+    }
+}
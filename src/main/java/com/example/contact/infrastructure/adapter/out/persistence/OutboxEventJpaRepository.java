@@ -0,0 +1,25 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import com.example.contact.infrastructure.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+/**
+ * Spring Data repository for {@link OutboxEventJpaEntity}.
+ */
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * Oldest pending events, locked with {@code FOR UPDATE SKIP LOCKED} so that
+     * several relay instances can poll concurrently without blocking each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxEventJpaEntity> findAllByOrderByIdAsc(Limit limit);
+}
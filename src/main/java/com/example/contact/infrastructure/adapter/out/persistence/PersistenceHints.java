@@ -0,0 +1,17 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+/**
+ * Query hint values shared by the Spring Data repositories.
+ */
+final class PersistenceHints {
+
+    /**
+     * Rows per round trip when streaming a full table. PostgreSQL only opens a
+     * server-side cursor when a fetch size is set and autocommit is off, which
+     * the surrounding read-only transaction guarantees.
+     */
+    static final String STREAM_FETCH_SIZE = "500";
+
+    private PersistenceHints() {
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Monthly range partitions of audit_logs on PostgreSQL.
+ *
+ * <p>Partitions are named {@code audit_logs_pYYYYMM}. Expiring a month is two
+ * catalog updates, {@code DETACH PARTITION} and {@code SET SCHEMA} into the archive
+ * schema, so it takes the same time whatever the month holds, and leaves the rows
+ * available for export or a later {@code DROP TABLE}.</p>
+ *
+ * <p>As on a single table, each contact's latest CREATE entry or checkpoint before
+ * the cutoff, and every entry after it, stays in audit_logs: in the transaction that
+ * detaches a month, those of its rows are copied back, with their IDs and times, into
+ * the default partition. Once every expired month is detached, copies superseded by
+ * a later starting point before the cutoff are deleted again.</p>
+ */
+public class PostgresAuditLogPartitions implements AuditLogPartitions {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresAuditLogPartitions.class);
+
+    private static final String PARTITION_PREFIX = "audit_logs_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String LIST_PARTITIONS = """
+        SELECT c.relname FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'audit_logs'::regclass AND c.relname ~ '^audit_logs_p[0-9]{6}$'
+        ORDER BY c.relname""";
+
+    private static final String BASE = "(b.operation_type = 'CREATE' OR b.payload_format = 'CHECKPOINT')";
+
+    private static final String COLUMNS = "id, contact_id, operation_time, operation_type, before_data, after_data,"
+        + " payload_format, api_endpoint, http_method, response_status, execution_time_ms, client_ip, user_agent";
+
+    /** The detached month and the rest of audit_logs, as far as finding starting points goes. */
+    private static final String POSITIONS = "(SELECT contact_id, operation_time, id, operation_type, payload_format"
+        + " FROM %1$s UNION ALL SELECT contact_id, operation_time, id, operation_type, payload_format FROM audit_logs)";
+
+    /** Rows of the detached month with a starting point at or before them and no newer expired one after them. */
+    private static final String KEEP_ROWS = """
+        INSERT INTO audit_logs (%1$s)
+        SELECT %1$s FROM %2$s a
+        WHERE EXISTS (SELECT 1 FROM %3$s b WHERE b.contact_id = a.contact_id AND %4$s
+                AND (b.operation_time < a.operation_time
+                    OR (b.operation_time = a.operation_time AND b.id <= a.id)))
+            AND NOT EXISTS (SELECT 1 FROM %3$s b WHERE b.contact_id = a.contact_id AND %4$s
+                AND b.operation_time < ?
+                AND (b.operation_time > a.operation_time
+                    OR (b.operation_time = a.operation_time AND b.id > a.id)))""";
+
+    private static final String DELETE_SUPERSEDED = """
+        DELETE FROM audit_logs a WHERE a.operation_time < ?
+            AND EXISTS (SELECT 1 FROM audit_logs b WHERE b.contact_id = a.contact_id AND %s
+                AND b.operation_time < ?
+                AND (b.operation_time > a.operation_time
+                    OR (b.operation_time = a.operation_time AND b.id > a.id)))""".formatted(BASE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final String archiveSchema;
+
+    public PostgresAuditLogPartitions(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+                                      String archiveSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.archiveSchema = archiveSchema;
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        return true;
+    }
+
+    @Override
+    public void ensurePartitions(YearMonth through) {
+        for (YearMonth month = YearMonth.now(); !month.isAfter(through); month = month.plusMonths(1)) {
+            String sql = "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF audit_logs"
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+            try {
+                jdbcTemplate.execute(sql);
+            } catch (DataAccessException e) {
+                // Typically rows for this month already landed in the default partition
+                LOG.error("Could not create audit log partition for {}: {}", month, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public long archiveBefore(YearMonth cutoff) {
+        String cutoffName = partitionName(cutoff);
+        List<String> expired = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class).stream()
+            .filter(name -> name.compareTo(cutoffName) < 0)
+            .toList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime cutoffTime = cutoff.atDay(1).atStartOfDay();
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        for (String partition : expired) {
+            String archived = archiveSchema + "." + partition;
+            Integer kept = transactionOperations.execute(status -> {
+                jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition);
+                jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+                return jdbcTemplate.update(KEEP_ROWS.formatted(COLUMNS, archived, POSITIONS.formatted(archived), BASE),
+                    cutoffTime);
+            });
+            LOG.info("Archived audit log partition {} to schema {}, keeping {} rows needed for replay",
+                partition, archiveSchema, kept);
+        }
+        jdbcTemplate.update(DELETE_SUPERSEDED, cutoffTime, cutoffTime);
+        return expired.size();
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+
+/**
+ * Fallback for H2, where audit_logs is one unpartitioned table.
+ *
+ * <p>Expired audit logs are deleted in batches of {@code deleteBatchSize} rows,
+ * each in its own statement, so that no single transaction grows with the
+ * backlog. Unlike partition archiving the rows are gone afterwards, and the cost
+ * grows with the number of rows expired.</p>
+ *
+ * <p>Each contact's latest CREATE entry or checkpoint before the cutoff, and every
+ * entry after it, is kept even when expired: merge patches after the cutoff are
+ * rehydrated, and point-in-time lookups answered, by replaying from there.</p>
+ */
+public class SingleTableAuditLogPartitions implements AuditLogPartitions {
+
+    private static final String BASE = "(b.operation_type = 'CREATE' OR b.payload_format = 'CHECKPOINT')";
+
+    /** Expired rows with no starting point at or before them, or a newer expired one after them. */
+    private static final String DELETE_BATCH = """
+        DELETE FROM audit_logs WHERE id IN (
+            SELECT a.id FROM audit_logs a WHERE a.operation_time < ?
+            AND (NOT EXISTS (SELECT 1 FROM audit_logs b WHERE b.contact_id = a.contact_id AND %1$s
+                    AND (b.operation_time < a.operation_time
+                        OR (b.operation_time = a.operation_time AND b.id <= a.id)))
+                OR EXISTS (SELECT 1 FROM audit_logs b WHERE b.contact_id = a.contact_id AND %1$s
+                    AND b.operation_time < ?
+                    AND (b.operation_time > a.operation_time
+                        OR (b.operation_time = a.operation_time AND b.id > a.id))))
+            ORDER BY a.operation_time, a.id
+            FETCH FIRST ? ROWS ONLY)""".formatted(BASE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int deleteBatchSize;
+
+    public SingleTableAuditLogPartitions(JdbcTemplate jdbcTemplate, int deleteBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        return false;
+    }
+
+    @Override
+    public void ensurePartitions(YearMonth through) {
+    }
+
+    @Override
+    public long archiveBefore(YearMonth cutoff) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_BATCH, cutoff.atDay(1).atStartOfDay(),
+                cutoff.atDay(1).atStartOfDay(), deleteBatchSize);
+            total += deleted;
+        } while (deleted == deleteBatchSize);
+        return total;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.contact.infrastructure.adapter.out.persistence;
+
+import java.time.YearMonth;
+
+/**
+ * A single audit_logs table on a production database, typically PostgreSQL before
+ * {@code db/postgresql/audit_logs_partitioned.sql} was applied.
+ *
+ * <p>Expiring months there would mean deleting rows in bulk, so retention is not
+ * offered: the application refuses to start with it enabled, and
+ * {@link #archiveBefore} fails should it be called anyway.</p>
+ */
+public class UnpartitionedAuditLogPartitions implements AuditLogPartitions {
+
+    @Override
+    public boolean isPartitioned() {
+        return false;
+    }
+
+    @Override
+    public void ensurePartitions(YearMonth through) {
+    }
+
+    @Override
+    public long archiveBefore(YearMonth cutoff) {
+        throw new UnsupportedOperationException("audit_logs is not partitioned; retention is unavailable");
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.contact.infrastructure.adapter.out.persistence.entity;
+
+import com.example.contact.domain.model.OperationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity for the audit_log_contact_rollups table: audit log counts per
+ * (contact, day, operation type).
+ *
+ * <p>Rows are maintained with SQL upserts by {@code AuditLogRollups}; the mapping
+ * defines the schema.</p>
+ */
+@Entity
+@Table(name = "audit_log_contact_rollups")
+@IdClass(AuditLogContactRollupJpaEntity.Key.class)
+public class AuditLogContactRollupJpaEntity {
+
+    @Id
+    @Column(name = "contact_id")
+    private Long contactId;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type", length = 10)
+    private OperationType operationType;
+
+    @Column(name = "operation_count", nullable = false)
+    private long operationCount;
+
+    protected AuditLogContactRollupJpaEntity() {
+    }
+
+    public Long getContactId() {
+        return contactId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    public long getOperationCount() {
+        return operationCount;
+    }
+
+    public static class Key implements Serializable {
+
+        private Long contactId;
+        private LocalDateTime bucketStart;
+        private OperationType operationType;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && Objects.equals(contactId, key.contactId)
+                && Objects.equals(bucketStart, key.bucketStart) && operationType == key.operationType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contactId, bucketStart, operationType);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.contact.infrastructure.adapter.out.persistence.entity;
+
+import com.example.contact.domain.model.AuditPayloadFormat;
+import com.example.contact.domain.model.OperationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the audit_logs table.
+ * Rows are insert-only; no column is updatable.
+ *
+ * <p>IDs come from a pooled sequence rather than an identity column so that
+ * Hibernate can group inserts into JDBC batches.</p>
+ *
+ * <p>Every index ends in {@code (operation_time, id)}, the keyset ordering of
+ * audit log pages, so each filter combination is served by a range scan that
+ * needs no sort step and stops after one page.</p>
+ *
+ * <p>A {@code null} payload format means {@link AuditPayloadFormat#SNAPSHOT}, the
+ * only format rows had before the column existed.</p>
+ *
+ * <p>The request columns are {@code null} for operations that did not come
+ * through the web adapter.</p>
+ */
+@Entity
+@Table(name = "audit_logs", indexes = {
+    @Index(name = "idx_audit_logs_time_id", columnList = "operation_time, id"),
+    @Index(name = "idx_audit_logs_contact_time_id", columnList = "contact_id, operation_time, id"),
+    @Index(name = "idx_audit_logs_type_time_id", columnList = "operation_type, operation_time, id"),
+    @Index(name = "idx_audit_logs_contact_type_time_id", columnList = "contact_id, operation_type, operation_time, id")
+})
+public class AuditLogJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_seq")
+    @SequenceGenerator(name = "audit_logs_seq", sequenceName = "audit_logs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "contact_id", nullable = false, updatable = false)
+    private Long contactId;
+
+    @Column(name = "operation_time", nullable = false, updatable = false)
+    private LocalDateTime operationTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type", nullable = false, updatable = false, length = 10)
+    private OperationType operationType;
+
+    @Column(name = "before_data", columnDefinition = "TEXT", updatable = false)
+    private String beforeData;
+
+    @Column(name = "after_data", columnDefinition = "TEXT", updatable = false)
+    private String afterData;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payload_format", updatable = false, length = 12)
+    private AuditPayloadFormat payloadFormat;
+
+    @Column(name = "api_endpoint", updatable = false, length = 255)
+    private String apiEndpoint;
+
+    @Column(name = "http_method", updatable = false, length = 10)
+    private String httpMethod;
+
+    @Column(name = "response_status", updatable = false)
+    private Integer responseStatus;
+
+    @Column(name = "execution_time_ms", updatable = false)
+    private Long executionTimeMs;
+
+    @Column(name = "client_ip", updatable = false, length = 45)
+    private String clientIp;
+
+    @Column(name = "user_agent", updatable = false, length = 500)
+    private String userAgent;
+
+    protected AuditLogJpaEntity() {
+    }
+
+    public AuditLogJpaEntity(Long id, Long contactId, LocalDateTime operationTime,
+                             OperationType operationType, String beforeData, String afterData) {
+        this(id, contactId, operationTime, operationType, beforeData, afterData,
+            AuditPayloadFormat.SNAPSHOT, null, null, null, null, null, null);
+    }
+
+    public AuditLogJpaEntity(Long id, Long contactId, LocalDateTime operationTime,
+                             OperationType operationType, String beforeData, String afterData,
+                             AuditPayloadFormat payloadFormat, String apiEndpoint, String httpMethod, Integer responseStatus,
+                             Long executionTimeMs, String clientIp, String userAgent) {
+        this.id = id;
+        this.contactId = contactId;
+        this.operationTime = operationTime;
+        this.operationType = operationType;
+        this.beforeData = beforeData;
+        this.afterData = afterData;
+        this.payloadFormat = payloadFormat;
+        this.apiEndpoint = apiEndpoint;
+        this.httpMethod = httpMethod;
+        this.responseStatus = responseStatus;
+        this.executionTimeMs = executionTimeMs;
+        this.clientIp = clientIp;
+        this.userAgent = userAgent;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getContactId() {
+        return contactId;
+    }
+
+    public LocalDateTime getOperationTime() {
+        return operationTime;
+    }
+
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    public String getBeforeData() {
+        return beforeData;
+    }
+
+    public String getAfterData() {
+        return afterData;
+    }
+
+    public AuditPayloadFormat getPayloadFormat() {
+        return payloadFormat;
+    }
+
+    public String getApiEndpoint() {
+        return apiEndpoint;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public Integer getResponseStatus() {
+        return responseStatus;
+    }
+
+    public Long getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+}
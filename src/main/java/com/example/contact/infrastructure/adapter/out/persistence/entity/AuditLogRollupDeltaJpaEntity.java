@@ -0,0 +1,66 @@
+package com.example.contact.infrastructure.adapter.out.persistence.entity;
+
+import com.example.contact.domain.model.OperationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the audit_log_rollup_deltas table: audit log counts per
+ * (contact, minute, operation type) saved since the rollups were last compacted.
+ *
+ * <p>Rows are only ever inserted by the transactions saving audit logs, then
+ * folded into the rollups and deleted by {@code AuditLogRollups}; the mapping
+ * defines the schema.</p>
+ */
+@Entity
+@Table(name = "audit_log_rollup_deltas")
+public class AuditLogRollupDeltaJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "contact_id", nullable = false)
+    private Long contactId;
+
+    @Column(name = "minute_start", nullable = false)
+    private LocalDateTime minuteStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type", nullable = false, length = 10)
+    private OperationType operationType;
+
+    @Column(name = "operation_count", nullable = false)
+    private long operationCount;
+
+    protected AuditLogRollupDeltaJpaEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getContactId() {
+        return contactId;
+    }
+
+    public LocalDateTime getMinuteStart() {
+        return minuteStart;
+    }
+
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    public long getOperationCount() {
+        return operationCount;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.contact.infrastructure.adapter.out.persistence.entity;
+
+import com.example.contact.domain.model.AuditStatsGranularity;
+import com.example.contact.domain.model.OperationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA entity for the audit_log_rollups table: audit log counts per
+ * (granularity, bucket start, operation type).
+ *
+ * <p>Rows are maintained with SQL upserts by {@code AuditLogRollups}; the mapping
+ * defines the schema. The primary key doubles as the index of stats queries.</p>
+ */
+@Entity
+@Table(name = "audit_log_rollups")
+@IdClass(AuditLogRollupJpaEntity.Key.class)
+public class AuditLogRollupJpaEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 6)
+    private AuditStatsGranularity granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type", length = 10)
+    private OperationType operationType;
+
+    @Column(name = "operation_count", nullable = false)
+    private long operationCount;
+
+    protected AuditLogRollupJpaEntity() {
+    }
+
+    public AuditStatsGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    public long getOperationCount() {
+        return operationCount;
+    }
+
+    public static class Key implements Serializable {
+
+        private AuditStatsGranularity granularity;
+        private LocalDateTime bucketStart;
+        private OperationType operationType;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && granularity == key.granularity
+                && Objects.equals(bucketStart, key.bucketStart) && operationType == key.operationType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(granularity, bucketStart, operationType);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.contact.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the contacts table.
+ * Kept separate from the domain {@code Contact} to keep the domain framework-free.
+ *
+ * <p>IDs come from a pooled sequence so that bulk inserts fetch one block of
+ * 50 IDs per sequence call and Hibernate can batch the INSERTs.</p>
+ *
+ * <p>{@code version} starts at 0 on insert and is incremented by every update;
+ * it backs the contact's ETag and the conditional UPDATE/DELETE statements.</p>
+ */
+@Entity
+@Table(name = "contacts")
+public class ContactJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contacts_seq")
+    @SequenceGenerator(name = "contacts_seq", sequenceName = "contacts_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 20)
+    private String phone;
+
+    @Column(length = 200)
+    private String address;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    protected ContactJpaEntity() {
+    }
+
+    public ContactJpaEntity(Long id, String name, String phone, String address,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, name, phone, address, createdAt, updatedAt, null);
+    }
+
+    public ContactJpaEntity(Long id, String name, String phone, String address,
+                            LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.name = name;
+        this.phone = phone;
+        this.address = address;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.contact.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the domain_events table, the append-only event store.
+ * Rows are insert-only; no column is updatable.
+ *
+ * <p>{@code sequence_number} numbers the events of each contact from 1. The
+ * unique key on {@code (contact_id, sequence_number)} orders a contact's stream
+ * and rejects a second append of the same position by a concurrent transaction.</p>
+ *
+ * <p>{@code request_metadata} is the JSON form of the API request that caused
+ * the event, or {@code null} for events raised outside the web adapter.</p>
+ */
+@Entity
+@Table(name = "domain_events", uniqueConstraints =
+    @UniqueConstraint(name = "uk_domain_events_contact_sequence", columnNames = {"contact_id", "sequence_number"}))
+public class DomainEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "domain_events_seq")
+    @SequenceGenerator(name = "domain_events_seq", sequenceName = "domain_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "contact_id", nullable = false, updatable = false)
+    private Long contactId;
+
+    @Column(name = "sequence_number", nullable = false, updatable = false)
+    private long sequenceNumber;
+
+    @Column(name = "event_id", nullable = false, updatable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "request_metadata", updatable = false, columnDefinition = "TEXT")
+    private String requestMetadata;
+
+    protected DomainEventJpaEntity() {
+    }
+
+    public DomainEventJpaEntity(Long contactId, long sequenceNumber, String eventId, String eventType,
+                                LocalDateTime occurredAt, String payload, String requestMetadata) {
+        this.contactId = contactId;
+        this.sequenceNumber = sequenceNumber;
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+        this.requestMetadata = requestMetadata;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getContactId() {
+        return contactId;
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public String getRequestMetadata() {
+        return requestMetadata;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.contact.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the outbox_events table.
+ *
+ * <p>Rows are appended in the same transaction as the contact change and
+ * deleted by the relay once dispatched. The ID gives the relay order.</p>
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, updatable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_id", updatable = false)
+    private Long aggregateId;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    protected OutboxEventJpaEntity() {
+    }
+
+    public OutboxEventJpaEntity(String eventId, String eventType, Long aggregateId,
+                                LocalDateTime occurredAt, String payload) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.contact.infrastructure.audit;
+
+import com.example.contact.infrastructure.adapter.out.analytics.ColumnarAuditLogArchive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Exports each closed audit log month to the columnar analytics archive.
+ *
+ * <p>Runs once at startup and then on {@code contact.audit.analytics.schedule}.
+ * Each run exports the months among the last {@code lookbackMonths} that have no
+ * file yet, so a missed run is caught up by the next one. The current month is
+ * never exported: audit logs are only written with the current time, so a month
+ * is complete once it has ended.</p>
+ */
+@Component
+public class AuditAnalyticsExport implements SchedulingConfigurer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditAnalyticsExport.class);
+
+    private final ColumnarAuditLogArchive archive;
+    private final AuditAnalyticsProperties properties;
+
+    public AuditAnalyticsExport(ColumnarAuditLogArchive archive, AuditAnalyticsProperties properties) {
+        this.archive = archive;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.enabled()) {
+            registrar.addCronTask(this::run, properties.schedule());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (properties.enabled()) {
+            run();
+        }
+    }
+
+    public void run() {
+        YearMonth current = YearMonth.now();
+        for (YearMonth month = current.minusMonths(properties.lookbackMonths());
+                month.isBefore(current); month = month.plusMonths(1)) {
+            if (archive.isExported(month)) {
+                continue;
+            }
+            try {
+                long rows = archive.export(month);
+                LOG.info("Exported {} audit logs of {} for analytics", rows, month);
+            } catch (RuntimeException e) {
+                LOG.error("Audit analytics export of {} failed, will retry on next run: {}",
+                    month, e.getMessage(), e);
+                return;
+            }
+        }
+    }
+}
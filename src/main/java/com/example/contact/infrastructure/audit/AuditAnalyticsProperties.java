@@ -0,0 +1,30 @@
+package com.example.contact.infrastructure.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Columnar export of closed audit log months for analytics, bound from
+ * {@code contact.audit.analytics.*}.
+ *
+ * @param enabled        whether closed months are exported on {@code schedule}
+ * @param directory      directory holding one file per exported month
+ * @param schedule       cron expression of the export run
+ * @param lookbackMonths closed months before the current one that are exported if missing;
+ *                       keep below {@code contact.audit.retention.retain-months}
+ * @param rowGroupSize   rows per row group, the unit skipped by predicate pushdown
+ */
+@ConfigurationProperties(prefix = "contact.audit.analytics")
+public record AuditAnalyticsProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("data/audit-analytics") String directory,
+    @DefaultValue("0 0 3 * * *") String schedule,
+    @DefaultValue("12") int lookbackMonths,
+    @DefaultValue("65536") int rowGroupSize
+) {
+    public AuditAnalyticsProperties {
+        if (lookbackMonths < 1 || rowGroupSize < 1) {
+            throw new IllegalArgumentException("lookbackMonths and rowGroupSize must be positive");
+        }
+    }
+}
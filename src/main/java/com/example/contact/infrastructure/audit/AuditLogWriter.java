@@ -0,0 +1,17 @@
+package com.example.contact.infrastructure.audit;
+
+import com.example.contact.domain.model.AuditLog;
+
+/**
+ * Strategy for persisting audit logs produced by the audit event listener.
+ *
+ * <p>Selected with {@code contact.audit.write.mode}:</p>
+ * <ul>
+ *   <li>{@code sync} (default) - written inside the business transaction, strict consistency</li>
+ *   <li>{@code async} - queued after commit and written in batches by a background writer</li>
+ * </ul>
+ */
+public interface AuditLogWriter {
+
+    void write(AuditLog auditLog);
+}
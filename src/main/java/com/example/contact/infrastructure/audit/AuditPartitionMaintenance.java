@@ -0,0 +1,61 @@
+package com.example.contact.infrastructure.audit;
+
+import com.example.contact.infrastructure.adapter.out.persistence.AuditLogPartitions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Keeps the monthly audit log partitions ahead of time and expires old months.
+ *
+ * <p>Runs once at startup and then on {@code contact.audit.retention.schedule}.
+ * Each run creates partitions through {@code premakeMonths} ahead, so inserts never
+ * fall into the default partition, and, when retention is enabled, archives every
+ * month before the last {@code retainMonths}.</p>
+ */
+@Component
+public class AuditPartitionMaintenance implements SchedulingConfigurer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditPartitionMaintenance.class);
+
+    private final AuditLogPartitions partitions;
+    private final AuditRetentionProperties properties;
+
+    public AuditPartitionMaintenance(AuditLogPartitions partitions, AuditRetentionProperties properties) {
+        this.partitions = partitions;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addCronTask(this::run, properties.schedule());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    public void run() {
+        YearMonth now = YearMonth.now();
+        try {
+            partitions.ensurePartitions(now.plusMonths(properties.premakeMonths()));
+            if (properties.enabled()) {
+                YearMonth cutoff = now.minusMonths(properties.retainMonths() - 1L);
+                long archived = partitions.archiveBefore(cutoff);
+                if (archived > 0) {
+                    LOG.info("Audit retention removed {} {} before {}", archived,
+                        partitions.isPartitioned() ? "partitions" : "rows", cutoff);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Audit partition maintenance failed, will retry on next run: {}", e.getMessage(), e);
+        }
+    }
+}
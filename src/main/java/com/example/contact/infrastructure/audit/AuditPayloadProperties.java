@@ -0,0 +1,32 @@
+package com.example.contact.infrastructure.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Storage format of audit log payloads, bound from {@code contact.audit.payload.*}.
+ *
+ * @param format             {@code snapshot} stores before/after JSON objects;
+ *                           {@code diff} stores each update as a JSON Merge Patch
+ * @param checkpointInterval every contact version divisible by this is stored as a
+ *                           full checkpoint, bounding the number of entries replayed to
+ *                           rehydrate an audit log or reconstruct a past contact state
+ */
+@ConfigurationProperties(prefix = "contact.audit.payload")
+public record AuditPayloadProperties(
+    @DefaultValue("snapshot") String format,
+    @DefaultValue("10") int checkpointInterval
+) {
+    public AuditPayloadProperties {
+        if (!"snapshot".equals(format) && !"diff".equals(format)) {
+            throw new IllegalArgumentException("format must be snapshot or diff: " + format);
+        }
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("checkpointInterval must be positive");
+        }
+    }
+
+    public boolean isDiff() {
+        return "diff".equals(format);
+    }
+}
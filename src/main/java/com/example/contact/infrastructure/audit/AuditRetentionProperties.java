@@ -0,0 +1,34 @@
+package com.example.contact.infrastructure.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Monthly audit log partition upkeep and retention, bound from {@code contact.audit.retention.*}.
+ *
+ * @param enabled         whether months older than {@code retainMonths} are archived
+ * @param retainMonths    number of months kept in audit_logs, the current month included
+ * @param premakeMonths   partitions created ahead of the current month (PostgreSQL)
+ * @param archiveSchema   schema that receives detached partitions (PostgreSQL)
+ * @param schedule        cron expression of the maintenance run
+ * @param deleteBatchSize rows deleted per statement when the table is not partitioned
+ */
+@ConfigurationProperties(prefix = "contact.audit.retention")
+public record AuditRetentionProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("24") int retainMonths,
+    @DefaultValue("3") int premakeMonths,
+    @DefaultValue("audit_archive") String archiveSchema,
+    @DefaultValue("0 30 2 * * *") String schedule,
+    @DefaultValue("5000") int deleteBatchSize
+) {
+    public AuditRetentionProperties {
+        if (retainMonths < 1 || premakeMonths < 0 || deleteBatchSize < 1) {
+            throw new IllegalArgumentException("retainMonths and deleteBatchSize must be positive, premakeMonths not negative");
+        }
+        // Interpolated into DDL, so only a plain identifier is accepted
+        if (!archiveSchema.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("archiveSchema must be a lower-case SQL identifier: " + archiveSchema);
+        }
+    }
+}
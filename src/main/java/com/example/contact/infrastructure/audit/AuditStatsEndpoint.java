@@ -0,0 +1,35 @@
+package com.example.contact.infrastructure.audit;
+
+import com.example.contact.application.port.in.RebuildAuditStatsUseCase;
+import com.example.contact.domain.exception.ValidationException;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.time.LocalDate;
+
+/**
+ * Admin trigger at {@code /actuator/auditstats}: {@code POST} recounts the audit
+ * log rollups of the days {@code [from, to)} from the stored audit logs.
+ */
+@Endpoint(id = "auditstats")
+public class AuditStatsEndpoint {
+
+    private final RebuildAuditStatsUseCase rebuildAuditStatsUseCase;
+
+    public AuditStatsEndpoint(RebuildAuditStatsUseCase rebuildAuditStatsUseCase) {
+        this.rebuildAuditStatsUseCase = rebuildAuditStatsUseCase;
+    }
+
+    @WriteOperation
+    public Rebuild rebuild(LocalDate from, LocalDate to) {
+        try {
+            return new Rebuild(from, to, rebuildAuditStatsUseCase.rebuildAuditStats(from, to));
+        } catch (ValidationException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Invalid date range");
+        }
+    }
+
+    public record Rebuild(LocalDate from, LocalDate to, long auditLogsCounted) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.contact.infrastructure.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Audit log rollup compaction, bound from {@code contact.audit.stats.*}.
+ *
+ * @param compactInterval   delay between compaction runs
+ * @param compactBatchSize  deltas folded into the rollups per transaction
+ */
+@ConfigurationProperties(prefix = "contact.audit.stats")
+public record AuditStatsProperties(
+    @DefaultValue("5s") Duration compactInterval,
+    @DefaultValue("1000") int compactBatchSize
+) {
+    public AuditStatsProperties {
+        if (compactInterval.isNegative() || compactInterval.isZero() || compactBatchSize < 1) {
+            throw new IllegalArgumentException("compactInterval and compactBatchSize must be positive");
+        }
+    }
+}
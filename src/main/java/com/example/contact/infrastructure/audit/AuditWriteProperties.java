@@ -0,0 +1,33 @@
+package com.example.contact.infrastructure.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for audit log writing, bound from {@code contact.audit.write.*}.
+ *
+ * @param mode            {@code sync} or {@code async}
+ * @param queueCapacity   maximum audit logs waiting in memory (async mode)
+ * @param batchSize       maximum audit logs per flush (async mode)
+ * @param flushInterval   maximum time a queued audit log waits before being flushed (async mode)
+ * @param offerTimeout    how long a committing request waits for queue space before
+ *                        writing its audit log inline (async mode)
+ * @param shutdownTimeout how long shutdown waits for the queue to drain (async mode)
+ */
+@ConfigurationProperties(prefix = "contact.audit.write")
+public record AuditWriteProperties(
+    @DefaultValue("sync") String mode,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("200ms") Duration flushInterval,
+    @DefaultValue("50ms") Duration offerTimeout,
+    @DefaultValue("10s") Duration shutdownTimeout
+) {
+    public AuditWriteProperties {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("queueCapacity and batchSize must be positive");
+        }
+    }
+}
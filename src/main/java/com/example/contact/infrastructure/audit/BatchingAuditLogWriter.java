@@ -0,0 +1,252 @@
+package com.example.contact.infrastructure.audit;
+
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.model.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous audit writer that takes audit logs off the commit path.
+ *
+ * <p>Audit logs are queued once the business transaction commits, so rolled-back
+ * changes are never audited. A dedicated writer thread drains the bounded queue
+ * and inserts up to {@code batchSize} rows per transaction, flushing at least
+ * every {@code flushInterval}.</p>
+ *
+ * <p>Backpressure: when the queue is full the committing thread waits up to
+ * {@code offerTimeout} for space, then writes its audit log inline rather than
+ * dropping it. On shutdown the queue is drained before the datasource closes.</p>
+ *
+ * <p>Every flush runs in a new transaction: an inline write happens in the
+ * committed transaction's {@code afterCommit}, where joining it would leave the
+ * row uncommitted.</p>
+ *
+ * <p>Trade-off: a crash between commit and flush loses the queued audit logs.
+ * Use {@code sync} mode where that is unacceptable.</p>
+ *
+ * <p>Audit logs from an API request are queued once the handler has returned, so
+ * they carry the response status and full execution time at no extra round trip.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.audit.write.mode", havingValue = "async")
+public class BatchingAuditLogWriter implements AuditLogWriter, SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingAuditLogWriter.class);
+
+    /** Stop after the web server has stopped accepting requests, before the datasource closes. */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long POLL_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditWriteProperties properties;
+    private final BlockingQueue<AuditLog> queue;
+    private final ThreadFactory threadFactory;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder inlineWrites = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public BatchingAuditLogWriter(AuditLogRepository auditLogRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  AuditWriteProperties properties) {
+        this(auditLogRepository, transactionManager, properties, Thread::new);
+    }
+
+    /**
+     * @param threadFactory creates the writer thread; virtual when virtual threads are enabled
+     */
+    @Autowired
+    public BatchingAuditLogWriter(AuditLogRepository auditLogRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  AuditWriteProperties properties,
+                                  @Qualifier("backgroundThreadFactory") ThreadFactory threadFactory) {
+        this.auditLogRepository = auditLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public void write(AuditLog auditLog) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueAfterRequest(auditLog);
+                }
+            });
+        } else {
+            enqueueAfterRequest(auditLog);
+        }
+    }
+
+    private void enqueueAfterRequest(AuditLog auditLog) {
+        HttpAuditContext.current().ifPresentOrElse(
+            context -> context.afterCompletion(request -> enqueue(auditLog.withRequestMetadata(request))),
+            () -> enqueue(auditLog));
+    }
+
+    private void enqueue(AuditLog auditLog) {
+        if (running) {
+            try {
+                if (queue.offer(auditLog, properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Queue full or writer stopped: keep the audit log by writing it on this thread
+        inlineWrites.increment();
+        flush(List.of(auditLog));
+    }
+
+    private void runWriter() {
+        List<AuditLog> batch = new ArrayList<>(properties.batchSize());
+        // Keeps polling after stop() until the queue is empty, so shutdown drains everything
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                return;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for the first audit log, then keeps collecting until the batch is
+     * full or the flush interval since the first audit log has elapsed.
+     * Waits in short slices so that stop() is noticed promptly.
+     */
+    private void collectBatch(List<AuditLog> batch) throws InterruptedException {
+        long intervalNanos = properties.flushInterval().toNanos();
+        AuditLog first = queue.poll(Math.min(intervalNanos, POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + intervalNanos;
+        while (batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.batchSize() || remaining <= 0 || !running) {
+                return;
+            }
+            AuditLog next = queue.poll(Math.min(remaining, POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        List<AuditLog> batch = new ArrayList<>(properties.batchSize());
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<AuditLog> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> auditLogRepository.saveAll(batch));
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            LOG.error("Failed to write {} audit logs: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = threadFactory.newThread(this::runWriter);
+        thread.setName("audit-log-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+        LOG.info("Async audit writer started (batchSize={}, flushInterval={}, queueCapacity={})",
+            properties.batchSize(), properties.flushInterval(), properties.queueCapacity());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(properties.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            LOG.warn("Async audit writer did not drain within {}; {} audit logs still queued",
+                properties.shutdownTimeout(), queue.size());
+            return;
+        }
+        // Picks up anything enqueued while the writer thread was exiting
+        drainRemaining();
+        writerThread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getInlineWriteCount() {
+        return inlineWrites.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.contact.infrastructure.audit;
+
+import com.example.contact.domain.model.RequestMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The API request currently being handled on this thread, as seen by the audit trail.
+ *
+ * <p>Bound by the web adapter around mutating handler methods. Audit logs created
+ * while it is bound are attributed to the request; writers that persist after the
+ * request completes can wait for the response status with {@link #afterCompletion}.</p>
+ *
+ * <p>Holds only a few strings copied from the request line and headers, so binding
+ * it reads nothing from the request body.</p>
+ */
+public final class HttpAuditContext {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAuditContext.class);
+
+    private static final ThreadLocal<HttpAuditContext> CURRENT = new ThreadLocal<>();
+
+    private final String apiEndpoint;
+    private final String httpMethod;
+    private final String clientIp;
+    private final String userAgent;
+    private final long startNanos;
+
+    private List<Consumer<RequestMetadata>> completionActions;
+
+    private HttpAuditContext(String apiEndpoint, String httpMethod, String clientIp, String userAgent) {
+        this.apiEndpoint = apiEndpoint;
+        this.httpMethod = httpMethod;
+        this.clientIp = clientIp;
+        this.userAgent = userAgent;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Binds a new context to the current thread. Must be paired with {@link #complete(int)}.
+     */
+    public static HttpAuditContext open(String apiEndpoint, String httpMethod, String clientIp, String userAgent) {
+        HttpAuditContext context = new HttpAuditContext(apiEndpoint, httpMethod, clientIp, userAgent);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static Optional<HttpAuditContext> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Metadata known so far: no response status yet, elapsed time up to now.
+     */
+    public RequestMetadata snapshot() {
+        return metadata(null);
+    }
+
+    /**
+     * Runs {@code action} with the final metadata once the handler has returned.
+     */
+    public void afterCompletion(Consumer<RequestMetadata> action) {
+        if (completionActions == null) {
+            completionActions = new ArrayList<>(1);
+        }
+        completionActions.add(action);
+    }
+
+    /**
+     * Unbinds this context and runs the registered completion actions. Never throws:
+     * the response is decided by then, and a failing action must not replace it.
+     */
+    public void complete(int responseStatus) {
+        CURRENT.remove();
+        if (completionActions == null) {
+            return;
+        }
+        RequestMetadata metadata = metadata(responseStatus);
+        for (Consumer<RequestMetadata> action : completionActions) {
+            try {
+                action.accept(metadata);
+            } catch (RuntimeException e) {
+                LOG.error("Audit completion failed for {} {}: {}", httpMethod, apiEndpoint, e.getMessage(), e);
+            }
+        }
+    }
+
+    private RequestMetadata metadata(Integer responseStatus) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new RequestMetadata(apiEndpoint, httpMethod, responseStatus, elapsedMs, clientIp, userAgent);
+    }
+}
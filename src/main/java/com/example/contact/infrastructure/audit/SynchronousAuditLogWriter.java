@@ -0,0 +1,29 @@
+package com.example.contact.infrastructure.audit;
+
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.model.AuditLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes each audit log immediately in the caller's transaction.
+ *
+ * <p>The audit row commits or rolls back together with the contact change. Because
+ * it is written before the API response exists, its request metadata has no
+ * response status, and the execution time covers the request up to the commit.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.audit.write.mode", havingValue = "sync", matchIfMissing = true)
+public class SynchronousAuditLogWriter implements AuditLogWriter {
+
+    private final AuditLogRepository auditLogRepository;
+
+    public SynchronousAuditLogWriter(AuditLogRepository auditLogRepository) {
+        this.auditLogRepository = auditLogRepository;
+    }
+
+    @Override
+    public void write(AuditLog auditLog) {
+        auditLogRepository.save(auditLog);
+    }
+}
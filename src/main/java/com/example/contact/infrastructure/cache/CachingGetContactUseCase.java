@@ -0,0 +1,43 @@
+package com.example.contact.infrastructure.cache;
+
+import com.example.contact.application.port.in.ContactPageQuery;
+import com.example.contact.application.port.in.CursorPage;
+import com.example.contact.application.port.in.GetContactUseCase;
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+
+import java.util.List;
+
+/**
+ * Read-through cache in front of {@link GetContactUseCase}.
+ *
+ * <p>Only single-contact lookups are cached; pages and full listings go
+ * straight to the delegate. Entries are kept fresh by
+ * {@link InvalidatingContactWriteUseCase} on the write path and
+ * {@link ContactCacheInvalidator} reacting to contact domain events.</p>
+ */
+public class CachingGetContactUseCase implements GetContactUseCase {
+
+    private final GetContactUseCase delegate;
+    private final ContactCache cache;
+
+    public CachingGetContactUseCase(GetContactUseCase delegate, ContactCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Contact getContactById(ContactId id) {
+        return cache.get(id, delegate::getContactById);
+    }
+
+    @Override
+    public CursorPage<Contact> getContacts(ContactPageQuery query) {
+        return delegate.getContacts(query);
+    }
+
+    @Override
+    public List<Contact> getAllContacts() {
+        return delegate.getAllContacts();
+    }
+}
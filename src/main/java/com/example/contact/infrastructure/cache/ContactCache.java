@@ -0,0 +1,57 @@
+package com.example.contact.infrastructure.cache;
+
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of contacts keyed by ID.
+ *
+ * <p>Entries are evicted by size (LRU-like W-TinyLFU) and expire after a TTL.
+ * Loads and invalidations of the same key are atomic: an invalidation that
+ * races with an in-flight load waits for the load and then removes its result,
+ * so a value read before a commit can never outlive the post-commit invalidation.</p>
+ *
+ * <p>Hit, miss and eviction counts are published to Micrometer as
+ * {@code cache.gets} and {@code cache.evictions} with tag {@code cache=contacts}.</p>
+ */
+public class ContactCache {
+
+    static final String NAME = "contacts";
+
+    private final Cache<ContactId, Contact> cache;
+
+    public ContactCache(ContactCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+    }
+
+    public Contact get(ContactId id, Function<ContactId, Contact> loader) {
+        return cache.get(id, loader);
+    }
+
+    public void invalidate(ContactId id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, NAME);
+    }
+}
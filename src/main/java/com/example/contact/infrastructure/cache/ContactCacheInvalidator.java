@@ -0,0 +1,64 @@
+package com.example.contact.infrastructure.cache;
+
+import com.example.contact.domain.event.ContactEvent;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.RequestMetadata;
+import com.example.contact.infrastructure.event.RingEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps {@link ContactCache} consistent with contact changes on this node.
+ *
+ * <p>Each contact event evicts the entry twice: immediately when the event is
+ * published, and again once the transaction completes. The second eviction
+ * removes any value that a concurrent reader loaded from the not yet committed
+ * state in between, so reads after the write returns always see the new data.</p>
+ *
+ * <p>With the ring buffer event bus only the second eviction happens, on the
+ * handler thread after commit; updates and deletions have by then been evicted
+ * by {@link InvalidatingContactWriteUseCase} already.</p>
+ */
+public class ContactCacheInvalidator implements RingEventHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContactCacheInvalidator.class);
+
+    private final ContactCache cache;
+
+    public ContactCacheInvalidator(ContactCache cache) {
+        this.cache = cache;
+    }
+
+    @EventListener
+    public void onContactChanged(ContactEvent event) {
+        evict(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void afterContactChangeCompleted(ContactEvent event) {
+        evict(event);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, RequestMetadata request, boolean endOfBatch) {
+        if (event instanceof ContactEvent contactEvent) {
+            evict(contactEvent);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "cache-invalidation";
+    }
+
+    private void evict(ContactEvent event) {
+        if (event.getContactId() != null) {
+            LOG.debug("Evicting contact {} from cache after {}", event.getContactId(), event.getEventType());
+            cache.invalidate(new ContactId(event.getContactId()));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.contact.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process contact cache, bound from {@code contact.cache.*}.
+ *
+ * @param enabled     whether reads by ID go through the cache
+ * @param maximumSize maximum number of cached contacts; least recently used are evicted first
+ * @param ttl         time after write before an entry expires, bounding staleness across nodes
+ */
+@ConfigurationProperties(prefix = "contact.cache")
+public record ContactCacheProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("10m") Duration ttl
+) {
+}
@@ -0,0 +1,61 @@
+package com.example.contact.infrastructure.cache;
+
+import com.example.contact.application.port.in.DeleteContactUseCase;
+import com.example.contact.application.port.in.PatchContactCommand;
+import com.example.contact.application.port.in.PatchContactUseCase;
+import com.example.contact.application.port.in.UpdateContactCommand;
+import com.example.contact.application.port.in.UpdateContactResult;
+import com.example.contact.application.port.in.UpdateContactUseCase;
+import com.example.contact.domain.model.ContactId;
+
+/**
+ * Evicts a contact from {@link ContactCache} as soon as an update, patch or
+ * deletion of it returns.
+ *
+ * <p>The delegate commits before returning, so reads after the write returns see
+ * the new data whichever event publisher is configured. {@link ContactCacheInvalidator}
+ * still evicts on contact events, e.g. for changes made on other paths.</p>
+ */
+public class InvalidatingContactWriteUseCase implements UpdateContactUseCase, PatchContactUseCase,
+        DeleteContactUseCase {
+
+    private final UpdateContactUseCase updateDelegate;
+    private final PatchContactUseCase patchDelegate;
+    private final DeleteContactUseCase deleteDelegate;
+    private final ContactCache cache;
+
+    public InvalidatingContactWriteUseCase(UpdateContactUseCase updateDelegate, PatchContactUseCase patchDelegate,
+                                           DeleteContactUseCase deleteDelegate, ContactCache cache) {
+        this.updateDelegate = updateDelegate;
+        this.patchDelegate = patchDelegate;
+        this.deleteDelegate = deleteDelegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public UpdateContactResult updateContact(UpdateContactCommand command) {
+        try {
+            return updateDelegate.updateContact(command);
+        } finally {
+            cache.invalidate(command.id());
+        }
+    }
+
+    @Override
+    public UpdateContactResult patchContact(PatchContactCommand command) {
+        try {
+            return patchDelegate.patchContact(command);
+        } finally {
+            cache.invalidate(command.id());
+        }
+    }
+
+    @Override
+    public void deleteContact(ContactId id, Long expectedVersion) {
+        try {
+            deleteDelegate.deleteContact(id, expectedVersion);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.contact.infrastructure.coalesce;
+
+import com.example.contact.application.service.Coalesce;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+
+/**
+ * Matches {@link Coalesce} methods and rejects those that are not read-only.
+ */
+public class CoalescePointcut extends StaticMethodMatcherPointcut {
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        if (!AnnotatedElementUtils.hasAnnotation(specific, Coalesce.class)) {
+            return false;
+        }
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(specific, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(targetClass, Transactional.class);
+        }
+        if (transactional == null || !transactional.readOnly()) {
+            throw new IllegalStateException("@Coalesce requires @Transactional(readOnly = true): " + specific);
+        }
+        return true;
+    }
+}
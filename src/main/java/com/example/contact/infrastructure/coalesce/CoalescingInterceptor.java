@@ -0,0 +1,150 @@
+package com.example.contact.infrastructure.coalesce;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-flight advice for {@link com.example.contact.application.service.Coalesce} methods.
+ *
+ * <p>The first call for a (method, arguments) key proceeds and publishes its outcome
+ * through a future; calls with an equal key that arrive before it finishes wait on
+ * that future instead of running the method again. The key is removed as soon as
+ * the call completes, so nothing is cached beyond the in-flight window.</p>
+ *
+ * <p>Calls made inside an already active transaction always proceed on their own,
+ * so a caller never sees a result read outside its own transaction.</p>
+ */
+public class CoalescingInterceptor implements MethodInterceptor, MeterBinder {
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, Stats> stats = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        Method method = invocation.getMethod();
+        Stats methodStats = statsFor(method);
+        methodStats.calls.increment();
+
+        Key key = new Key(method, invocation.getArguments());
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            methodStats.shared.increment();
+            return await(leader);
+        }
+        try {
+            Object result = invocation.proceed();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> leader) throws Throwable {
+        try {
+            return leader.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Stats statsFor(Method method) {
+        Stats existing = stats.get(method);
+        if (existing != null) {
+            return existing;
+        }
+        Stats created = stats.computeIfAbsent(method, m -> new Stats(
+            ClassUtils.getShortName(m.getDeclaringClass()) + "." + m.getName()));
+        MeterRegistry current = registry;
+        if (current != null) {
+            created.bindTo(current);
+        }
+        return created;
+    }
+
+    public long getCallCount() {
+        return stats.values().stream().mapToLong(s -> s.calls.sum()).sum();
+    }
+
+    public long getSharedCount() {
+        return stats.values().stream().mapToLong(s -> s.shared.sum()).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.registry = meterRegistry;
+        stats.values().forEach(s -> s.bindTo(meterRegistry));
+    }
+
+    /**
+     * Arguments are compared element-wise with {@code equals}.
+     */
+    private record Key(Method method, Object[] arguments) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key
+                && method.equals(key.method)
+                && Arrays.equals(arguments, key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * method.hashCode() + Arrays.hashCode(arguments);
+        }
+    }
+
+    private static final class Stats {
+        private final String name;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder shared = new LongAdder();
+
+        private Stats(String name) {
+            this.name = name;
+        }
+
+        private void bindTo(MeterRegistry registry) {
+            Tags tags = Tags.of("method", name);
+            FunctionCounter.builder("contact.coalesce.calls", calls, LongAdder::sum)
+                .tags(tags)
+                .description("Calls to coalesced read-only use cases")
+                .register(registry);
+            FunctionCounter.builder("contact.coalesce.shared", shared, LongAdder::sum)
+                .tags(tags)
+                .description("Calls served by joining an identical in-flight call")
+                .register(registry);
+            Gauge.builder("contact.coalesce.ratio", this, Stats::ratio)
+                .tags(tags)
+                .description("Share of calls deduplicated since startup")
+                .register(registry);
+        }
+
+        private double ratio() {
+            long total = calls.sum();
+            return total == 0 ? 0 : (double) shared.sum() / total;
+        }
+    }
+}
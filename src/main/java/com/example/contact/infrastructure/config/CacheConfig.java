@@ -0,0 +1,54 @@
+package com.example.contact.infrastructure.config;
+
+import com.example.contact.application.port.in.GetContactUseCase;
+import com.example.contact.application.service.ContactService;
+import com.example.contact.infrastructure.cache.CachingGetContactUseCase;
+import com.example.contact.infrastructure.cache.ContactCache;
+import com.example.contact.infrastructure.cache.ContactCacheInvalidator;
+import com.example.contact.infrastructure.cache.ContactCacheProperties;
+import com.example.contact.infrastructure.cache.InvalidatingContactWriteUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Wires the contact cache in front of {@link ContactService} when
+ * {@code contact.cache.enabled=true}, reads through it and writes evicting from it.
+ */
+@Configuration
+@EnableConfigurationProperties(ContactCacheProperties.class)
+@ConditionalOnProperty(name = "contact.cache.enabled", havingValue = "true")
+public class CacheConfig {
+
+    @Bean
+    public ContactCache contactCache(ContactCacheProperties properties, MeterRegistry meterRegistry) {
+        ContactCache cache = new ContactCache(properties);
+        cache.bindTo(meterRegistry);
+        return cache;
+    }
+
+    @Bean
+    public ContactCacheInvalidator contactCacheInvalidator(ContactCache contactCache) {
+        return new ContactCacheInvalidator(contactCache);
+    }
+
+    @Bean
+    @Primary
+    public GetContactUseCase cachingGetContactUseCase(ContactService contactService, ContactCache contactCache) {
+        return new CachingGetContactUseCase(contactService, contactCache);
+    }
+
+    /**
+     * Evicts on the write path itself: with the outbox and ring-buffer publishers,
+     * events only reach the invalidator after the write returned.
+     */
+    @Bean
+    @Primary
+    public InvalidatingContactWriteUseCase invalidatingContactWriteUseCase(ContactService contactService,
+                                                                           ContactCache contactCache) {
+        return new InvalidatingContactWriteUseCase(contactService, contactService, contactService, contactCache);
+    }
+}
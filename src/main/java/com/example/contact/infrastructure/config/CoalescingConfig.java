@@ -0,0 +1,38 @@
+package com.example.contact.infrastructure.config;
+
+import com.example.contact.infrastructure.coalesce.CoalescePointcut;
+import com.example.contact.infrastructure.coalesce.CoalescingInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Single-flight coalescing of {@code @Coalesce} use cases, on by default
+ * ({@code contact.coalesce.enabled}).
+ *
+ * <p>Ordered just inside port timing, so every caller's wait is still timed, and
+ * outside the transaction interceptor, so the shared call includes its transaction.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "contact.coalesce.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static CoalescingInterceptor coalescingInterceptor() {
+        return new CoalescingInterceptor();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescingAdvisor(CoalescingInterceptor coalescingInterceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new CoalescePointcut(), coalescingInterceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.contact.infrastructure.config;
+
+import com.example.contact.infrastructure.audit.AuditPayloadProperties;
+import com.example.contact.infrastructure.audit.AuditWriteProperties;
+import com.example.contact.infrastructure.event.OutboxProperties;
+import com.example.contact.infrastructure.event.RingBufferProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({AuditWriteProperties.class, AuditPayloadProperties.class, OutboxProperties.class,
+    RingBufferProperties.class})
+public class EventConfig {
+}
@@ -0,0 +1,61 @@
+package com.example.contact.infrastructure.config;
+
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.application.port.out.AuditStatsRepository;
+import com.example.contact.application.port.out.DomainEventPublisher;
+import com.example.contact.infrastructure.adapter.out.persistence.DomainEventStore;
+import com.example.contact.infrastructure.event.AuditEventListener;
+import com.example.contact.infrastructure.event.AuditLogProjection;
+import com.example.contact.infrastructure.event.DomainEventSerializer;
+import com.example.contact.infrastructure.event.EventProjection;
+import com.example.contact.infrastructure.event.EventReplay;
+import com.example.contact.infrastructure.event.EventReplayEndpoint;
+import com.example.contact.infrastructure.event.EventStoreDomainEventPublisher;
+import com.example.contact.infrastructure.event.EventStoreProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+/**
+ * Records contact events in the event store in front of the configured publisher,
+ * and wires their replay, when {@code contact.events.store.enabled=true}.
+ */
+@Configuration
+@EnableConfigurationProperties(EventStoreProperties.class)
+@ConditionalOnProperty(name = "contact.events.store.enabled", havingValue = "true")
+public class EventStoreConfig {
+
+    /**
+     * Wraps the publisher selected by {@code contact.events.publisher}.
+     */
+    @Bean
+    @Primary
+    public DomainEventPublisher eventStoreDomainEventPublisher(DomainEventStore store,
+                                                               DomainEventSerializer serializer,
+                                                               DomainEventPublisher delegate) {
+        return new EventStoreDomainEventPublisher(store, serializer, delegate);
+    }
+
+    @Bean
+    public AuditLogProjection auditLogProjection(AuditLogRepository auditLogRepository,
+                                                 AuditEventListener auditEventListener,
+                                                 AuditStatsRepository auditStatsRepository) {
+        return new AuditLogProjection(auditLogRepository, auditEventListener, auditStatsRepository);
+    }
+
+    @Bean
+    public EventReplay eventReplay(DomainEventStore store, DomainEventSerializer serializer,
+                                   TransactionOperations transactionOperations, EventStoreProperties properties) {
+        return new EventReplay(store, serializer, transactionOperations, properties);
+    }
+
+    @Bean
+    public EventReplayEndpoint eventReplayEndpoint(EventReplay eventReplay, List<EventProjection> projections) {
+        return new EventReplayEndpoint(eventReplay, projections);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.contact.infrastructure.config;
+
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.IdGenerator;
+import com.example.contact.domain.model.TimeOrderedIdGenerator;
+import com.example.contact.infrastructure.adapter.in.web.CorrelationIdFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Selects the generator of event and correlation IDs with {@code contact.ids.generator}:
+ * {@code time-ordered} (default) for version 7 UUIDs, {@code random} for version 4.
+ */
+@Configuration
+public class IdConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${contact.ids.generator:time-ordered}") String generator) {
+        IdGenerator idGenerator = switch (generator) {
+            case "time-ordered" -> new TimeOrderedIdGenerator();
+            case "random" -> IdGenerator.RANDOM;
+            default -> throw new IllegalArgumentException(
+                "contact.ids.generator must be time-ordered or random: " + generator);
+        };
+        DomainEvent.useIdGenerator(idGenerator);
+        return idGenerator;
+    }
+
+    /**
+     * Runs first, so that requests rejected by later filters are tagged as well.
+     */
+    @Bean
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter(IdGenerator idGenerator) {
+        FilterRegistrationBean<CorrelationIdFilter> registration =
+            new FilterRegistrationBean<>(new CorrelationIdFilter(idGenerator));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
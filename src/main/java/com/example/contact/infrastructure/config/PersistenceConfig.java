@@ -1,9 +1,93 @@
 package com.example.contact.infrastructure.config;
 
+import com.example.contact.application.port.in.RebuildAuditStatsUseCase;
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.infrastructure.adapter.out.analytics.ColumnarAuditLogArchive;
+import com.example.contact.infrastructure.adapter.out.persistence.AuditLogPartitions;
+import com.example.contact.infrastructure.adapter.out.persistence.AuditLogRollups;
+import com.example.contact.infrastructure.adapter.out.persistence.PostgresAuditLogPartitions;
+import com.example.contact.infrastructure.adapter.out.persistence.SingleTableAuditLogPartitions;
+import com.example.contact.infrastructure.adapter.out.persistence.UnpartitionedAuditLogPartitions;
+import com.example.contact.infrastructure.audit.AuditAnalyticsProperties;
+import com.example.contact.infrastructure.audit.AuditRetentionProperties;
+import com.example.contact.infrastructure.audit.AuditStatsEndpoint;
+import com.example.contact.infrastructure.audit.AuditStatsProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
 
 @Configuration
 @EnableJpaRepositories(basePackages = "com.example.contact.infrastructure.adapter.out.persistence")
+@EnableConfigurationProperties({AuditRetentionProperties.class, AuditAnalyticsProperties.class,
+    AuditStatsProperties.class})
 public class PersistenceConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistenceConfig.class);
+
+    private static final String IS_PARTITIONED = """
+        SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('audit_logs'))""";
+
+    /**
+     * Monthly partitions when audit_logs was created partitioned on PostgreSQL,
+     * batched deletes on H2. Any other unpartitioned table keeps every row: retention
+     * must not turn into large DELETEs there, so enabling it fails startup.
+     */
+    @Bean
+    public AuditLogPartitions auditLogPartitions(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                                 TransactionOperations transactionOperations,
+                                                 AuditRetentionProperties properties) throws MetaDataAccessException {
+        String database = databaseProductName(dataSource);
+        if ("H2".equals(database)) {
+            return new SingleTableAuditLogPartitions(jdbcTemplate, properties.deleteBatchSize());
+        }
+        if ("PostgreSQL".equals(database)
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED, Boolean.class))) {
+            return new PostgresAuditLogPartitions(jdbcTemplate, transactionOperations, properties.archiveSchema());
+        }
+        if (properties.enabled()) {
+            throw new IllegalStateException("contact.audit.retention.enabled requires a partitioned audit_logs on "
+                + database + "; apply db/postgresql/audit_logs_partitioned.sql or disable retention");
+        }
+        LOG.warn("audit_logs is not partitioned; see db/postgresql/audit_logs_partitioned.sql. "
+            + "Audit retention is unavailable until it is");
+        return new UnpartitionedAuditLogPartitions();
+    }
+
+    @Bean
+    public AuditLogRollups auditLogRollups(DataSource dataSource, JdbcTemplate jdbcTemplate)
+            throws MetaDataAccessException {
+        return new AuditLogRollups(jdbcTemplate, "PostgreSQL".equals(databaseProductName(dataSource)));
+    }
+
+    @Bean
+    public AuditStatsEndpoint auditStatsEndpoint(RebuildAuditStatsUseCase rebuildAuditStatsUseCase) {
+        return new AuditStatsEndpoint(rebuildAuditStatsUseCase);
+    }
+
+    /**
+     * Columnar copy of closed audit log months that analytics scan instead of the database.
+     */
+    @Bean
+    public ColumnarAuditLogArchive auditLogArchive(AuditLogRepository auditLogRepository,
+                                                   TransactionOperations transactionOperations,
+                                                   AuditAnalyticsProperties properties) {
+        return new ColumnarAuditLogArchive(auditLogRepository, transactionOperations,
+            Path.of(properties.directory()), properties.rowGroupSize());
+    }
+
+    private static String databaseProductName(DataSource dataSource) throws MetaDataAccessException {
+        return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.contact.infrastructure.config;
+
+import com.example.contact.infrastructure.metrics.PortTimingInterceptor;
+import com.example.contact.infrastructure.metrics.PortTimings;
+import com.example.contact.infrastructure.metrics.PortTimingsEndpoint;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import java.lang.reflect.Method;
+
+/**
+ * Times every call through an inbound or outbound port, on by default
+ * ({@code contact.metrics.port-timing.enabled}).
+ *
+ * <p>The advisor runs outermost, so use-case timings include the transaction
+ * commit. Port timings are published to Micrometer and at
+ * {@code /actuator/porttimings}.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "contact.metrics.port-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class PortTimingConfig {
+
+    /** Infrastructure role and static: advisors are created before regular beans. */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static PortTimings portTimings() {
+        return new PortTimings();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor portTimingAdvisor(PortTimings portTimings) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return PortTimings.portOf(method, targetClass).isPresent();
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new PortTimingInterceptor(portTimings));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public PortTimingsEndpoint portTimingsEndpoint(PortTimings portTimings) {
+        return new PortTimingsEndpoint(portTimings);
+    }
+}
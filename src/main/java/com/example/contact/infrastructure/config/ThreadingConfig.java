@@ -0,0 +1,86 @@
+package com.example.contact.infrastructure.config;
+
+import com.example.contact.infrastructure.adapter.in.web.ConcurrencyLimitFilter;
+import com.example.contact.infrastructure.adapter.in.web.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+import javax.sql.DataSource;
+
+/**
+ * Thread model wiring.
+ *
+ * <p>{@code spring.threads.virtual.enabled=true} on Java 21+ makes Spring Boot run
+ * Tomcat request handling, {@code @Async} methods and {@code @Scheduled}/scheduled
+ * tasks (including the outbox relay) on virtual threads. This configuration extends
+ * that to the background threads the application starts itself, and installs a
+ * {@link ConcurrencyLimitFilter} sized to the connection pool. On older runtimes the
+ * property has no effect and everything stays on platform threads.</p>
+ */
+@Configuration
+@EnableAsync
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ThreadingConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    /**
+     * Factory for long-running background threads such as the async audit writer.
+     */
+    @Bean
+    public ThreadFactory backgroundThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("background-").getVirtualThreadFactory();
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("background-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties, DataSource dataSource,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        int limit = properties.maxConcurrentRequests() > 0
+            ? properties.maxConcurrentRequests()
+            : poolSize(dataSource);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limit, properties.acquireTimeout(), objectMapper);
+        Gauge.builder("contact.concurrency.in.flight", filter, ConcurrencyLimitFilter::getInFlight)
+            .description("API requests currently holding a concurrency slot")
+            .register(meterRegistry);
+        FunctionCounter.builder("contact.concurrency.rejected", filter, ConcurrencyLimitFilter::getRejectedCount)
+            .description("API requests rejected after waiting for a concurrency slot")
+            .register(meterRegistry);
+        LOG.info("Virtual threads enabled; limiting API concurrency to {} (acquireTimeout={})",
+            limit, properties.acquireTimeout());
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException("Cannot derive the concurrency limit from "
+            + dataSource.getClass().getName() + "; set contact.concurrency.max-concurrent-requests");
+    }
+}
@@ -1,12 +1,25 @@
 package com.example.contact.infrastructure.config;
 
+import com.example.contact.infrastructure.adapter.in.web.HttpAuditAspect;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final HttpAuditAspect httpAuditAspect;
+
+    public WebConfig(HttpAuditAspect httpAuditAspect) {
+        this.httpAuditAspect = httpAuditAspect;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(httpAuditAspect);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -1,11 +1,17 @@
 package com.example.contact.infrastructure.event;
 
-import com.example.contact.application.port.out.AuditLogRepository;
 import com.example.contact.domain.event.ContactCreatedEvent;
 import com.example.contact.domain.event.ContactDeletedEvent;
+import com.example.contact.domain.event.ContactEvent;
 import com.example.contact.domain.event.ContactUpdatedEvent;
 import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.AuditPayloadFormat;
+import com.example.contact.domain.model.ContactSnapshot;
 import com.example.contact.domain.model.OperationType;
+import com.example.contact.domain.model.RequestMetadata;
+import com.example.contact.infrastructure.audit.AuditLogWriter;
+import com.example.contact.infrastructure.audit.AuditPayloadProperties;
+import com.example.contact.infrastructure.audit.HttpAuditContext;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -14,6 +20,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
 /**
  * Event listener that creates audit logs in response to domain events.
  *
@@ -23,32 +35,46 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * <p>This approach completely decouples audit logging from business logic.
  * The service layer doesn't know about audit logging - it just publishes
  * domain events describing what happened.</p>
+ *
+ * <p>How the audit log reaches the database is up to the configured
+ * {@link AuditLogWriter}: inline in the same transaction, or queued and
+ * batch-inserted after commit.</p>
+ *
+ * <p>Operations triggered through the API are attributed to the request bound in
+ * {@link HttpAuditContext}.</p>
+ *
+ * <p>Full snapshots are stored as the {@link ContactSnapshot}'s cached JSON,
+ * shared with every other consumer of the event.</p>
+ *
+ * <p>Every {@code checkpointInterval}-th contact version is stored as a checkpoint
+ * with full before/after snapshots, so that rehydrating an audit log or looking
+ * up a contact at a point in time replays a bounded number of entries. Full
+ * replacements are checkpoints anyway. Other updates are stored as a JSON Merge
+ * Patch in the {@code diff} payload format, or as snapshots narrowed to the
+ * changed fields.</p>
  */
 @Component
 public class AuditEventListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(AuditEventListener.class);
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
     private final ObjectMapper objectMapper;
+    private final AuditPayloadProperties payloadProperties;
 
-    public AuditEventListener(AuditLogRepository auditLogRepository,
-                              ObjectMapper objectMapper) {
-        this.auditLogRepository = auditLogRepository;
+    public AuditEventListener(AuditLogWriter auditLogWriter,
+                              ObjectMapper objectMapper,
+                              AuditPayloadProperties payloadProperties) {
+        this.auditLogWriter = auditLogWriter;
         this.objectMapper = objectMapper;
+        this.payloadProperties = payloadProperties;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void onContactCreated(ContactCreatedEvent event) {
         LOG.debug("Handling ContactCreatedEvent for contact ID: {}", event.getContactId());
 
-        AuditLog auditLog = AuditLog.create(
-            event.getContactId(),
-            OperationType.CREATE,
-            null,
-            toJson(event.getSnapshot())
-        );
-        auditLogRepository.save(auditLog);
+        auditLogWriter.write(toAuditLog(event).withRequestMetadata(currentRequest()));
 
         LOG.info("Audit log created for CREATE operation on contact {}", event.getContactId());
     }
@@ -57,13 +83,7 @@ public class AuditEventListener {
     public void onContactUpdated(ContactUpdatedEvent event) {
         LOG.debug("Handling ContactUpdatedEvent for contact ID: {}", event.getContactId());
 
-        AuditLog auditLog = AuditLog.create(
-            event.getContactId(),
-            OperationType.UPDATE,
-            toJson(event.getBeforeSnapshot()),
-            toJson(event.getSnapshot())
-        );
-        auditLogRepository.save(auditLog);
+        auditLogWriter.write(toAuditLog(event).withRequestMetadata(currentRequest()));
 
         LOG.info("Audit log created for UPDATE operation on contact {}", event.getContactId());
     }
@@ -72,15 +92,93 @@ public class AuditEventListener {
     public void onContactDeleted(ContactDeletedEvent event) {
         LOG.debug("Handling ContactDeletedEvent for contact ID: {}", event.getContactId());
 
-        AuditLog auditLog = AuditLog.create(
+        auditLogWriter.write(toAuditLog(event).withRequestMetadata(currentRequest()));
+
+        LOG.info("Audit log created for DELETE operation on contact {}", event.getContactId());
+    }
+
+    /**
+     * The audit log recording a contact event, not yet attributed to a request.
+     * Also used to rebuild the audit trail from stored events.
+     */
+    public AuditLog toAuditLog(ContactEvent event) {
+        if (event instanceof ContactCreatedEvent) {
+            return AuditLog.create(
+                event.getContactId(),
+                OperationType.CREATE,
+                null,
+                event.getSnapshot().toJson()
+            );
+        }
+        if (event instanceof ContactUpdatedEvent updated) {
+            return updateAuditLog(updated);
+        }
+        if (event instanceof ContactDeletedEvent) {
+            return AuditLog.create(
+                event.getContactId(),
+                OperationType.DELETE,
+                event.getSnapshot().toJson(),
+                null
+            );
+        }
+        throw new IllegalArgumentException("Unsupported contact event: " + event.getEventType());
+    }
+
+    private AuditLog updateAuditLog(ContactUpdatedEvent event) {
+        Long version = event.getVersion();
+        boolean checkpoint = version == null || version % payloadProperties.checkpointInterval() == 0;
+        if (checkpoint || (!payloadProperties.isDiff() && event.getChangedFields() == null)) {
+            // Full before/after snapshots; point-in-time lookups replay from here
+            return AuditLog.create(
+                event.getContactId(),
+                OperationType.UPDATE,
+                event.getBeforeSnapshot().toJson(),
+                event.getSnapshot().toJson(),
+                AuditPayloadFormat.CHECKPOINT
+            );
+        }
+        if (payloadProperties.isDiff()) {
+            return AuditLog.create(
+                event.getContactId(),
+                OperationType.UPDATE,
+                null,
+                toJson(mergePatch(event.getBeforeSnapshot(), event.getSnapshot())),
+                AuditPayloadFormat.MERGE_PATCH
+            );
+        }
+        return AuditLog.create(
             event.getContactId(),
-            OperationType.DELETE,
-            toJson(event.getSnapshot()),
-            null
+            OperationType.UPDATE,
+            toJson(changedOnly(event.getBeforeSnapshot(), event.getChangedFields())),
+            toJson(changedOnly(event.getSnapshot(), event.getChangedFields()))
         );
-        auditLogRepository.save(auditLog);
+    }
 
-        LOG.info("Audit log created for DELETE operation on contact {}", event.getContactId());
+    /**
+     * JSON Merge Patch (RFC 7396) turning {@code before} into {@code after}.
+     */
+    private Map<String, Object> mergePatch(ContactSnapshot before, ContactSnapshot after) {
+        Map<String, Object> patch = new TreeMap<>();
+        after.toMap().forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                patch.put(field, value);
+            }
+        });
+        return patch;
+    }
+
+    /**
+     * Narrows a snapshot to the ID and the changed fields of a partial update.
+     */
+    private Map<String, Object> changedOnly(ContactSnapshot snapshot, Set<String> changedFields) {
+        Map<String, Object> narrowed = new LinkedHashMap<>();
+        narrowed.put("id", snapshot.get("id"));
+        changedFields.forEach(field -> narrowed.put(field, snapshot.get(field)));
+        return narrowed;
+    }
+
+    private RequestMetadata currentRequest() {
+        return HttpAuditContext.current().map(HttpAuditContext::snapshot).orElse(null);
     }
 
     private String toJson(Object obj) {
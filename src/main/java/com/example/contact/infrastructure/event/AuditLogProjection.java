@@ -0,0 +1,71 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.application.port.out.AuditStatsRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * The audit trail as an {@link EventProjection}: each stored event becomes the
+ * audit log {@link AuditEventListener} writes for it, dated at the event's
+ * occurrence and attributed to its stored request.
+ *
+ * <p>Saving only records rollup deltas, plain inserts that concurrent replay tasks
+ * never wait on. Once every event is applied, the rollups of the replayed days are
+ * recounted in one pass, which also discards those deltas.</p>
+ *
+ * <p>Only events in the store are replayed; audit logs of operations from before
+ * the store was enabled are lost by a rebuild.</p>
+ */
+public class AuditLogProjection implements EventProjection {
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditEventListener auditEventListener;
+    private final AuditStatsRepository auditStatsRepository;
+
+    private final LongAccumulator firstDay = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator lastDay = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    public AuditLogProjection(AuditLogRepository auditLogRepository, AuditEventListener auditEventListener,
+                              AuditStatsRepository auditStatsRepository) {
+        this.auditLogRepository = auditLogRepository;
+        this.auditEventListener = auditEventListener;
+        this.auditStatsRepository = auditStatsRepository;
+    }
+
+    @Override
+    public String name() {
+        return "audit-logs";
+    }
+
+    @Override
+    public void reset() {
+        auditLogRepository.deleteAll();
+        firstDay.reset();
+        lastDay.reset();
+    }
+
+    @Override
+    public void apply(List<StoredContactEvent> events) {
+        for (StoredContactEvent stored : events) {
+            long day = stored.event().getOccurredAt().toLocalDate().toEpochDay();
+            firstDay.accumulate(day);
+            lastDay.accumulate(day);
+        }
+        auditLogRepository.saveAll(events.stream()
+            .map(stored -> auditEventListener.toAuditLog(stored.event())
+                .withOperationTime(stored.event().getOccurredAt())
+                .withRequestMetadata(stored.request()))
+            .toList());
+    }
+
+    @Override
+    public void complete() {
+        if (firstDay.get() <= lastDay.get()) {
+            auditStatsRepository.rebuild(LocalDate.ofEpochDay(firstDay.get()).atStartOfDay(),
+                LocalDate.ofEpochDay(lastDay.get() + 1).atStartOfDay());
+        }
+    }
+}
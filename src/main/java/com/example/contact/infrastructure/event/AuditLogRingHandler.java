@@ -0,0 +1,73 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.event.ContactEvent;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.RequestMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the audit trail from the ring buffer event bus.
+ *
+ * <p>Audit logs are built by {@link AuditEventListener}, dated when the event
+ * occurred and attributed to the request that published it, then inserted with
+ * one transaction per ring batch of up to {@code auditBatchSize} rows. A failed
+ * insert is logged and its audit logs are lost, as in {@code async} audit write
+ * mode.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.events.publisher", havingValue = "ring-buffer")
+public class AuditLogRingHandler implements RingEventHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditLogRingHandler.class);
+
+    private final AuditEventListener auditEventListener;
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final List<AuditLog> batch;
+
+    public AuditLogRingHandler(AuditEventListener auditEventListener, AuditLogRepository auditLogRepository,
+                               TransactionOperations transactionOperations, RingBufferProperties properties) {
+        this.auditEventListener = auditEventListener;
+        this.auditLogRepository = auditLogRepository;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = properties.auditBatchSize();
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, RequestMetadata request, boolean endOfBatch) {
+        if (event instanceof ContactEvent contactEvent) {
+            batch.add(auditEventListener.toAuditLog(contactEvent)
+                .withOperationTime(event.getOccurredAt())
+                .withRequestMetadata(request));
+        }
+        if (!batch.isEmpty() && (endOfBatch || batch.size() >= batchSize)) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        try {
+            transactionOperations.executeWithoutResult(status -> auditLogRepository.saveAll(batch));
+        } catch (RuntimeException e) {
+            LOG.error("Failed to write {} audit logs: {}", batch.size(), e.getMessage(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "audit-log";
+    }
+}
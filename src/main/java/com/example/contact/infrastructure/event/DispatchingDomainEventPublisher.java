@@ -0,0 +1,274 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.application.port.out.DomainEventPublisher;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.infrastructure.metrics.LatencyHistogram;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DomainEventPublisher that invokes the domain event listeners directly.
+ *
+ * <p>{@link org.springframework.context.ApplicationEventPublisher} resolves the
+ * listeners of every published event by type and wraps each transactional
+ * listener in its own synchronization. This publisher collects the
+ * {@link EventListener} and {@link TransactionalEventListener} methods taking a
+ * {@link DomainEvent} once all singletons exist, resolves the handlers of each
+ * event class on first use and keeps them in a {@link ClassValue}, so publishing
+ * is a table lookup followed by direct calls.</p>
+ *
+ * <p>The semantics of Spring's listeners are kept: plain listeners run on
+ * publish, in {@link Order} order; transactional listeners run in their
+ * {@link TransactionPhase} when a transaction is active, immediately without one
+ * if {@code fallbackExecution} is set, and not at all otherwise. Exceptions from
+ * {@code BEFORE_COMMIT} handlers roll the transaction back; those from the
+ * after-completion phases are logged. The transactional handlers of one event
+ * share a single synchronization. Listener {@code condition}s are not supported
+ * and fail startup.</p>
+ *
+ * <p>Each handler is timed: {@code contact.events.handler.latency} (with
+ * {@code .max} and {@code .percentile}) and {@code contact.events.handler.errors},
+ * tagged with {@code event}, {@code handler} and {@code phase}.</p>
+ *
+ * <p>Enabled with {@code contact.events.publisher=direct}. Events relayed from the
+ * outbox still go through Spring.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.events.publisher", havingValue = "direct")
+public class DispatchingDomainEventPublisher implements DomainEventPublisher, SmartInitializingSingleton, MeterBinder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DispatchingDomainEventPublisher.class);
+
+    private static final Comparator<Handler> ORDER = Comparator.comparingInt(Handler::order);
+
+    private final ListableBeanFactory beanFactory;
+
+    private volatile List<Handler> handlers;
+    private volatile MeterRegistry registry;
+
+    private final ClassValue<Handler[]> dispatchTable = new ClassValue<>() {
+        @Override
+        protected Handler[] computeValue(Class<?> eventClass) {
+            List<Handler> all = handlers;
+            if (all == null) {
+                throw new IllegalStateException("Domain event published before all singletons were created");
+            }
+            return all.stream()
+                .filter(handler -> handler.eventType().isAssignableFrom(eventClass))
+                .toArray(Handler[]::new);
+        }
+    };
+
+    public DispatchingDomainEventPublisher(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Handler> found = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanNamesForType(Object.class, false, false)) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null || beanName.startsWith("scopedTarget.")
+                    || !AnnotationUtils.isCandidateClass(beanType, EventListener.class)) {
+                continue;
+            }
+            Map<Method, EventListener> listeners = MethodIntrospector.selectMethods(ClassUtils.getUserClass(beanType),
+                (MethodIntrospector.MetadataLookup<EventListener>) method ->
+                    AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class));
+            listeners.forEach((method, listener) -> {
+                if (method.getParameterCount() == 1
+                        && DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                    found.add(handler(beanFactory.getBean(beanName), method, listener));
+                }
+            });
+        }
+        // Stable: equal orders keep bean definition order, as with Spring's listeners
+        found.sort(ORDER);
+        handlers = List.copyOf(found);
+        MeterRegistry current = registry;
+        if (current != null) {
+            handlers.forEach(handler -> handler.bindTo(current));
+        }
+        LOG.info("Dispatching domain events directly to {} handlers", handlers.size());
+    }
+
+    private static Handler handler(Object bean, Method method, EventListener listener) {
+        if (StringUtils.hasText(listener.condition())) {
+            throw new IllegalStateException("Listener conditions are not supported by the direct publisher: " + method);
+        }
+        TransactionalEventListener transactional =
+            AnnotatedElementUtils.findMergedAnnotation(method, TransactionalEventListener.class);
+        Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+        ReflectionUtils.makeAccessible(invocable);
+        Order order = AnnotatedElementUtils.findMergedAnnotation(method, Order.class);
+        return new Handler(bean, invocable, method.getParameterTypes()[0],
+            transactional != null ? transactional.phase() : null,
+            transactional != null && transactional.fallbackExecution(),
+            order != null ? order.value() : Ordered.LOWEST_PRECEDENCE,
+            ClassUtils.getUserClass(bean).getSimpleName() + "." + method.getName(),
+            new LatencyHistogram());
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        LOG.debug("Dispatching domain event: {} with ID {}", event.getEventType(), event.getEventId());
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive()
+            && TransactionSynchronizationManager.isActualTransactionActive();
+        List<Handler> deferred = null;
+        for (Handler handler : dispatchTable.get(event.getClass())) {
+            if (handler.phase() == null) {
+                handler.invoke(event);
+            } else if (inTransaction) {
+                if (deferred == null) {
+                    deferred = new ArrayList<>(2);
+                }
+                deferred.add(handler);
+            } else if (handler.fallbackExecution()) {
+                handler.invoke(event);
+            } else {
+                LOG.debug("No transaction active, skipping {} for {}", handler.name(), event.getEventType());
+            }
+        }
+        if (deferred != null) {
+            TransactionSynchronizationManager.registerSynchronization(new PhaseSynchronization(event, deferred));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.registry = meterRegistry;
+        List<Handler> current = handlers;
+        if (current != null) {
+            current.forEach(handler -> handler.bindTo(meterRegistry));
+        }
+    }
+
+    /**
+     * Runs the transactional handlers of one event in their phases.
+     */
+    private record PhaseSynchronization(DomainEvent event, List<Handler> handlers)
+        implements TransactionSynchronization {
+
+        @Override
+        public int getOrder() {
+            return handlers.get(0).order();
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            for (Handler handler : handlers) {
+                if (handler.phase() == TransactionPhase.BEFORE_COMMIT) {
+                    handler.invoke(event);
+                }
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            for (Handler handler : handlers) {
+                if (runsAfter(handler.phase(), status)) {
+                    try {
+                        handler.invoke(event);
+                    } catch (RuntimeException | Error e) {
+                        LOG.error("{} failed after transaction completion for {}: {}",
+                            handler.name(), event.getEventType(), e.getMessage(), e);
+                    }
+                }
+            }
+        }
+
+        private static boolean runsAfter(TransactionPhase phase, int status) {
+            return switch (phase) {
+                case AFTER_COMMIT -> status == STATUS_COMMITTED;
+                case AFTER_ROLLBACK -> status == STATUS_ROLLED_BACK;
+                case AFTER_COMPLETION -> true;
+                case BEFORE_COMMIT -> false;
+            };
+        }
+    }
+
+    /**
+     * One listener method.
+     *
+     * @param phase {@code null} for a plain listener
+     */
+    private record Handler(Object bean, Method method, Class<?> eventType, TransactionPhase phase,
+                           boolean fallbackExecution, int order, String name, LatencyHistogram histogram) {
+
+        void invoke(DomainEvent event) {
+            long start = System.nanoTime();
+            try {
+                method.invoke(bean, event);
+            } catch (InvocationTargetException e) {
+                histogram.recordError();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new UndeclaredThrowableException(cause);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot invoke " + method, e);
+            } finally {
+                histogram.record(System.nanoTime() - start);
+            }
+        }
+
+        void bindTo(MeterRegistry registry) {
+            Tags tags = Tags.of("event", eventType.getSimpleName(), "handler", name,
+                "phase", phase != null ? phase.name().toLowerCase() : "immediate");
+            FunctionTimer.builder("contact.events.handler.latency", histogram,
+                    h -> h.snapshot().count(), h -> h.snapshot().totalNanos(), TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("Domain event handler invocations")
+                .register(registry);
+            FunctionCounter.builder("contact.events.handler.errors", histogram, h -> h.snapshot().errors())
+                .tags(tags)
+                .description("Domain event handler invocations that threw")
+                .register(registry);
+            TimeGauge.builder("contact.events.handler.latency.percentile", histogram, TimeUnit.NANOSECONDS,
+                    h -> h.snapshot().p99())
+                .tags(tags.and("quantile", "0.99"))
+                .register(registry);
+            TimeGauge.builder("contact.events.handler.latency.max", histogram, TimeUnit.NANOSECONDS,
+                    h -> h.snapshot().max())
+                .tags(tags)
+                .register(registry);
+        }
+    }
+}
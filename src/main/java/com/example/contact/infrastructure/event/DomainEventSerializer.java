@@ -0,0 +1,141 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.domain.event.ContactCreatedEvent;
+import com.example.contact.domain.event.ContactDeletedEvent;
+import com.example.contact.domain.event.ContactEvent;
+import com.example.contact.domain.event.ContactUpdatedEvent;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.example.contact.domain.model.RequestMetadata;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Converts contact domain events to and from a JSON payload for durable storage.
+ *
+ * <p>The event type is stored next to the payload (see {@link DomainEvent#getEventType()}),
+ * and the event ID and occurrence time are kept so that restored events keep
+ * their original identity.</p>
+ *
+ * <p>The event store also keeps the originating request next to each event.</p>
+ */
+@Component
+public class DomainEventSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public DomainEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String serialize(DomainEvent event) {
+        if (!(event instanceof ContactEvent contactEvent)) {
+            throw new IllegalArgumentException("Unsupported domain event type: " + event.getEventType());
+        }
+        ContactUpdatedEvent updated = contactEvent instanceof ContactUpdatedEvent e ? e : null;
+        try {
+            return objectMapper.writeValueAsString(new ContactEventPayload(
+                contactEvent.getContactId(), contactEvent.getSnapshot().toJson(),
+                updated != null && updated.getBeforeSnapshot() != null ? updated.getBeforeSnapshot().toJson() : null,
+                updated != null ? updated.getChangedFields() : null,
+                updated != null ? updated.getVersion() : null));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + event.getEventType(), e);
+        }
+    }
+
+    public DomainEvent deserialize(String eventType, String eventId, LocalDateTime occurredAt, String payload) {
+        StoredContactEventPayload data;
+        try {
+            data = objectMapper.readValue(payload, StoredContactEventPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize " + eventType + " " + eventId, e);
+        }
+        return switch (eventType) {
+            case "ContactCreatedEvent" ->
+                new ContactCreatedEvent(eventId, occurredAt, data.contactId(), toSnapshot(data.snapshot()));
+            case "ContactUpdatedEvent" ->
+                new ContactUpdatedEvent(eventId, occurredAt, data.contactId(), toSnapshot(data.snapshot()),
+                    toSnapshot(data.beforeSnapshot()), data.changedFields(), data.version());
+            case "ContactDeletedEvent" ->
+                new ContactDeletedEvent(eventId, occurredAt, data.contactId(), toSnapshot(data.snapshot()));
+            default -> throw new IllegalArgumentException("Unsupported domain event type: " + eventType);
+        };
+    }
+
+    /**
+     * JSON form of the request that caused a stored event; {@code null} stays {@code null}.
+     */
+    public String serializeRequest(RequestMetadata request) {
+        if (request == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize request metadata", e);
+        }
+    }
+
+    public RequestMetadata deserializeRequest(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, RequestMetadata.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize request metadata", e);
+        }
+    }
+
+    /**
+     * Aggregate ID used to order and partition stored events.
+     */
+    public Long aggregateId(DomainEvent event) {
+        return event instanceof ContactEvent contactEvent ? contactEvent.getContactId() : null;
+    }
+
+    private static ContactSnapshot toSnapshot(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        JsonNode id = node.get("id");
+        return ContactSnapshot.of(
+            id != null && id.canConvertToLong() ? id.asLong() : null,
+            text(node, "name"),
+            text(node, "phone"),
+            text(node, "address"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    /**
+     * Payload as written: snapshots embedded from their cached JSON rather than re-serialized.
+     */
+    private record ContactEventPayload(
+        Long contactId,
+        @JsonRawValue String snapshot,
+        @JsonRawValue String beforeSnapshot,
+        Set<String> changedFields,
+        Long version
+    ) {
+    }
+
+    private record StoredContactEventPayload(
+        Long contactId,
+        JsonNode snapshot,
+        JsonNode beforeSnapshot,
+        Set<String> changedFields,
+        Long version
+    ) {
+    }
+}
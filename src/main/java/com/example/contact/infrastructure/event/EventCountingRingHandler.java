@@ -0,0 +1,69 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.RequestMetadata;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the domain events passing through the ring buffer event bus by type, as
+ * {@code contact.events.published} tagged with {@code event}.
+ *
+ * <p>Counters are created per event class on first sight and then incremented
+ * without a lookup or allocation.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.events.publisher", havingValue = "ring-buffer")
+public class EventCountingRingHandler implements RingEventHandler, MeterBinder {
+
+    private volatile MeterRegistry registry;
+
+    private final ClassValue<EventCount> counts = new ClassValue<>() {
+        @Override
+        protected EventCount computeValue(Class<?> eventClass) {
+            EventCount count = new EventCount();
+            MeterRegistry current = registry;
+            if (current != null) {
+                FunctionCounter.builder("contact.events.published", count, EventCount::get)
+                    .tag("event", eventClass.getSimpleName())
+                    .description("Domain events published")
+                    .register(current);
+            }
+            return count;
+        }
+    };
+
+    @Override
+    public void onEvent(DomainEvent event, RequestMetadata request, boolean endOfBatch) {
+        counts.get(event.getClass()).increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.registry = meterRegistry;
+    }
+
+    @Override
+    public String name() {
+        return "event-metrics";
+    }
+
+    /**
+     * Count written by the handler thread only.
+     */
+    private static final class EventCount {
+
+        private volatile long count;
+
+        void increment() {
+            count++;
+        }
+
+        double get() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.contact.infrastructure.event;
+
+import java.util.List;
+
+/**
+ * State derived from contact events that {@link EventReplay} can rebuild from the event store.
+ */
+public interface EventProjection {
+
+    String name();
+
+    /**
+     * Discards the current state, in a transaction of its own before any event is applied.
+     */
+    void reset();
+
+    /**
+     * Applies a batch of events, inside a transaction. A contact's events arrive on
+     * one thread in sequence order, possibly split across consecutive batches;
+     * different contacts are applied concurrently.
+     */
+    void apply(List<StoredContactEvent> events);
+
+    /**
+     * Finishes the rebuild once every event has been applied, in a transaction of its own.
+     */
+    default void complete() {
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.domain.event.ContactEvent;
+import com.example.contact.infrastructure.adapter.out.persistence.DomainEventStore;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.DomainEventJpaEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rebuilds {@link EventProjection}s from the {@link DomainEventStore}.
+ *
+ * <p>The projections are reset, then the stream is partitioned by contact: the
+ * sorted contact IDs are split in half on a dedicated {@link ForkJoinPool} until
+ * each task holds at most {@code replayContactsPerTask} contacts, and each task
+ * reads its contacts' events through a cursor and applies them in batches, all in
+ * one transaction. A contact's events are therefore applied in sequence order by a
+ * single thread, while different contacts are replayed in parallel. Each projection
+ * is completed once all tasks are done, for work that is cheaper done once than
+ * per batch.</p>
+ *
+ * <p>A replay is not atomic: run it while contacts are not being written, and run
+ * it again if it fails part way.</p>
+ */
+public class EventReplay {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventReplay.class);
+
+    private final DomainEventStore store;
+    private final DomainEventSerializer serializer;
+    private final TransactionOperations transactionOperations;
+    private final EventStoreProperties properties;
+
+    public EventReplay(DomainEventStore store, DomainEventSerializer serializer,
+                       TransactionOperations transactionOperations, EventStoreProperties properties) {
+        this.store = store;
+        this.serializer = serializer;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+    }
+
+    public ReplayResult replay(List<EventProjection> projections) {
+        long start = System.nanoTime();
+        for (EventProjection projection : projections) {
+            transactionOperations.executeWithoutResult(status -> projection.reset());
+        }
+        List<Long> contactIds = store.contactIds();
+        LongAdder events = new LongAdder();
+        ForkJoinPool pool = new ForkJoinPool(properties.replayParallelism());
+        try {
+            pool.invoke(new ReplayTask(projections, contactIds, 0, contactIds.size(), events));
+        } finally {
+            pool.shutdown();
+        }
+        for (EventProjection projection : projections) {
+            transactionOperations.executeWithoutResult(status -> projection.complete());
+        }
+        ReplayResult result = new ReplayResult(projections.stream().map(EventProjection::name).toList(),
+            contactIds.size(), events.sum(), Duration.ofNanos(System.nanoTime() - start));
+        LOG.info("Replayed {} events of {} contacts into {} in {} ms ({} events/s)", result.events(),
+            result.contacts(), result.projections(), result.elapsed().toMillis(), result.eventsPerSecond());
+        return result;
+    }
+
+    private void replayContacts(List<EventProjection> projections, Long firstContactId, Long lastContactId,
+                                LongAdder events) {
+        transactionOperations.executeWithoutResult(status -> {
+            List<StoredContactEvent> batch = new ArrayList<>(properties.replayBatchSize());
+            store.forEachOfContacts(firstContactId, lastContactId, stored -> {
+                batch.add(toStoredEvent(stored));
+                if (batch.size() == properties.replayBatchSize()) {
+                    apply(projections, batch, events);
+                }
+            });
+            apply(projections, batch, events);
+        });
+    }
+
+    private static void apply(List<EventProjection> projections, List<StoredContactEvent> batch, LongAdder events) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (EventProjection projection : projections) {
+            projection.apply(batch);
+        }
+        events.add(batch.size());
+        batch.clear();
+    }
+
+    private StoredContactEvent toStoredEvent(DomainEventJpaEntity stored) {
+        ContactEvent event = (ContactEvent) serializer.deserialize(
+            stored.getEventType(), stored.getEventId(), stored.getOccurredAt(), stored.getPayload());
+        return new StoredContactEvent(stored.getSequenceNumber(), event,
+            serializer.deserializeRequest(stored.getRequestMetadata()));
+    }
+
+    /**
+     * Replays the contacts at {@code [from, to)} of the sorted contact IDs.
+     */
+    private final class ReplayTask extends RecursiveAction {
+
+        private final List<EventProjection> projections;
+        private final List<Long> contactIds;
+        private final int from;
+        private final int to;
+        private final LongAdder events;
+
+        ReplayTask(List<EventProjection> projections, List<Long> contactIds, int from, int to, LongAdder events) {
+            this.projections = projections;
+            this.contactIds = contactIds;
+            this.from = from;
+            this.to = to;
+            this.events = events;
+        }
+
+        @Override
+        protected void compute() {
+            if (from == to) {
+                return;
+            }
+            if (to - from <= properties.replayContactsPerTask()) {
+                replayContacts(projections, contactIds.get(from), contactIds.get(to - 1), events);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ReplayTask(projections, contactIds, from, middle, events),
+                new ReplayTask(projections, contactIds, middle, to, events));
+        }
+    }
+
+    /**
+     * Outcome of a replay.
+     *
+     * @param elapsed time from the projection reset to the last event applied
+     */
+    public record ReplayResult(List<String> projections, int contacts, long events, Duration elapsed) {
+
+        public long eventsPerSecond() {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return Math.round(events * 1_000_000_000.0 / nanos);
+        }
+    }
+}
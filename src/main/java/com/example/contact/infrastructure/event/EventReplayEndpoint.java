@@ -0,0 +1,45 @@
+package com.example.contact.infrastructure.event;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.List;
+
+/**
+ * Admin trigger at {@code /actuator/eventreplay}: {@code POST} rebuilds the
+ * projection named by {@code projection} from the event store, or every one for
+ * {@value #ALL}.
+ *
+ * <p>A rebuild discards the projection's current state, so the projection must
+ * always be named, and the endpoint is not exposed over HTTP by default.</p>
+ */
+@Endpoint(id = "eventreplay")
+public class EventReplayEndpoint {
+
+    public static final String ALL = "all";
+
+    private final EventReplay replay;
+    private final List<EventProjection> projections;
+
+    public EventReplayEndpoint(EventReplay replay, List<EventProjection> projections) {
+        this.replay = replay;
+        this.projections = projections;
+    }
+
+    @WriteOperation
+    public Replay replay(String projection) {
+        List<EventProjection> selected = projections.stream()
+            .filter(candidate -> ALL.equals(projection) || candidate.name().equals(projection))
+            .toList();
+        if (selected.isEmpty()) {
+            throw new InvalidEndpointRequestException("Unknown projection: " + projection, "Unknown projection");
+        }
+        EventReplay.ReplayResult result = replay.replay(selected);
+        return new Replay(result.projections(), result.contacts(), result.events(),
+            result.elapsed().toMillis(), result.eventsPerSecond());
+    }
+
+    public record Replay(List<String> projections, int contacts, long events, long elapsedMs, long eventsPerSecond) {
+    }
+}
@@ -0,0 +1,374 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.RequestMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Preallocated ring of domain events, each handled by every {@link RingEventHandler}
+ * on the handler's own thread, in the style of the LMAX Disruptor.
+ *
+ * <p>A producer claims the next sequence, fills the slot it maps to and marks the
+ * slot published for that lap of the ring; nothing is allocated per event. With
+ * {@link ProducerType#MULTI} sequences are claimed with an atomic increment; with
+ * {@link ProducerType#SINGLE} with a plain store, which is only correct while one
+ * thread publishes. A producer about to lap the slowest consumer waits for it, so
+ * a full ring slows publishers down instead of dropping events.</p>
+ *
+ * <p>Each consumer tracks its own sequence: it handles every event published after
+ * it as one batch, then advances. Consumers never wait for one another; how they
+ * wait for producers is the {@link RingWaitStrategy}. Slots keep their last event
+ * until overwritten, so up to {@code bufferSize} handled events stay reachable.</p>
+ *
+ * <p>Once stopped, {@link #publish} refuses events. Consumers only exit when no
+ * publisher is between its running check and its claim, so an accepted event is
+ * always handled.</p>
+ */
+public final class EventRingBuffer {
+
+    /**
+     * Who may publish.
+     */
+    public enum ProducerType {
+        /** One publishing thread at a time. */
+        SINGLE,
+        /** Any number of concurrent publishers. */
+        MULTI
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventRingBuffer.class);
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    /** Blocking consumers re-check this often in case a stop or late publish went unsignalled. */
+    private static final long BLOCKING_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Slot[] slots;
+    private final int mask;
+    private final int indexShift;
+    /** Lap of the ring each slot was last published for. */
+    private final AtomicIntegerArray published;
+    private final ProducerType producerType;
+    private final RingWaitStrategy waitStrategy;
+    private final Processor[] processors;
+
+    /** Highest sequence claimed by a producer. */
+    private final AtomicLong claimed = new AtomicLong(-1);
+    /** Publishers that saw the ring running and have not finished publishing. */
+    private final AtomicInteger publishing = new AtomicInteger();
+    /** Slowest consumer's sequence as last seen; refreshed only when a producer catches up with it. */
+    private volatile long gatingSequence = -1;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition eventsAvailable = lock.newCondition();
+    private volatile boolean consumersWaiting;
+
+    private volatile boolean running;
+    private volatile boolean terminated;
+
+    /**
+     * @param bufferSize number of slots, a power of two
+     */
+    public EventRingBuffer(int bufferSize, ProducerType producerType, RingWaitStrategy waitStrategy,
+                           List<? extends RingEventHandler> handlers) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("bufferSize must be a power of two: " + bufferSize);
+        }
+        this.slots = new Slot[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.published = new AtomicIntegerArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            published.set(i, -1);
+        }
+        this.producerType = producerType;
+        this.waitStrategy = waitStrategy;
+        this.processors = handlers.stream().map(Processor::new).toArray(Processor[]::new);
+    }
+
+    /**
+     * Starts one consumer thread per handler, named {@code event-ring-<handler>}.
+     */
+    public void start(ThreadFactory threadFactory) {
+        running = true;
+        for (Processor processor : processors) {
+            Thread thread = threadFactory.newThread(processor);
+            thread.setName("event-ring-" + processor.handler.name());
+            thread.setDaemon(true);
+            processor.thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Refuses further events, lets the consumers handle every event accepted so far,
+     * then stops them.
+     *
+     * @return whether all consumers finished within {@code timeout}
+     */
+    public boolean stop(Duration timeout) {
+        running = false;
+        signalConsumers();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean drained = true;
+        for (Processor processor : processors) {
+            Thread thread = processor.thread;
+            if (thread == null) {
+                continue;
+            }
+            try {
+                thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            drained &= !thread.isAlive();
+        }
+        terminated = drained;
+        return drained;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Publishes an event to every handler. Waits while the slowest handler is a full
+     * ring behind.
+     *
+     * @param request the API request that published the event, or null
+     * @return false if the ring is not running, in which case no handler sees the event
+     */
+    public boolean publish(DomainEvent event, RequestMetadata request) {
+        // Registered before the running check: a consumer that sees the ring stopped then waits for this claim
+        publishing.incrementAndGet();
+        try {
+            if (!running) {
+                return false;
+            }
+            claimAndPublish(event, request);
+            return true;
+        } finally {
+            publishing.decrementAndGet();
+        }
+    }
+
+    private void claimAndPublish(DomainEvent event, RequestMetadata request) {
+        long sequence;
+        if (producerType == ProducerType.SINGLE) {
+            sequence = claimed.get() + 1;
+            claimed.lazySet(sequence);
+        } else {
+            sequence = claimed.incrementAndGet();
+        }
+        awaitCapacity(sequence);
+        int index = (int) sequence & mask;
+        Slot slot = slots[index];
+        slot.event = event;
+        slot.request = request;
+        if (waitStrategy == RingWaitStrategy.BLOCKING) {
+            // Full fence: a consumer about to park either sees this event or is seen waiting
+            published.set(index, lap(sequence));
+            if (consumersWaiting) {
+                signalConsumers();
+            }
+        } else {
+            published.lazySet(index, lap(sequence));
+        }
+    }
+
+    private void awaitCapacity(long sequence) {
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint <= gatingSequence) {
+            return;
+        }
+        long slowest;
+        while (wrapPoint > (slowest = slowestConsumer(sequence - 1)) && !terminated) {
+            LockSupport.parkNanos(1);
+        }
+        gatingSequence = slowest;
+    }
+
+    private long slowestConsumer(long upperBound) {
+        long slowest = upperBound;
+        for (Processor processor : processors) {
+            slowest = Math.min(slowest, processor.sequence.get());
+        }
+        return slowest;
+    }
+
+    /**
+     * Last sequence of the run of published events starting at {@code next}, or
+     * {@code next - 1} if {@code next} itself is not published yet.
+     */
+    private long highestPublished(long next) {
+        long sequence = next;
+        while (published.get((int) sequence & mask) == lap(sequence)) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    private int lap(long sequence) {
+        return (int) (sequence >>> indexShift);
+    }
+
+    private void signalConsumers() {
+        lock.lock();
+        try {
+            consumersWaiting = false;
+            eventsAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits once for events after {@code next} according to the wait strategy.
+     *
+     * @param idleCount how many times in a row the consumer found nothing
+     */
+    private void idle(long next, int idleCount) {
+        switch (waitStrategy) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELDING -> {
+                if (idleCount < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            case SLEEPING -> {
+                if (idleCount < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            }
+            case BLOCKING -> awaitSignal(next);
+        }
+    }
+
+    private void awaitSignal(long next) {
+        lock.lock();
+        try {
+            consumersWaiting = true;
+            if (running && highestPublished(next) < next) {
+                eventsAvailable.awaitNanos(BLOCKING_TIMEOUT_NANOS);
+            }
+        } catch (InterruptedException e) {
+            // stop() signals rather than interrupts; treat it as a spurious wake-up
+            LOG.debug("Event ring consumer interrupted while waiting");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Free slots before producers have to wait for the slowest consumer.
+     */
+    public long remainingCapacity() {
+        long cursor = claimed.get();
+        return slots.length - (cursor - slowestConsumer(cursor));
+    }
+
+    public int handlerCount() {
+        return processors.length;
+    }
+
+    public String handlerName(int handler) {
+        return processors[handler].handler.name();
+    }
+
+    /**
+     * Events claimed but not yet handled by the given handler.
+     */
+    public long backlog(int handler) {
+        return Math.max(0, claimed.get() - processors[handler].sequence.get());
+    }
+
+    /**
+     * Events the given handler has handled, failed ones included.
+     */
+    public long handled(int handler) {
+        return processors[handler].sequence.get() + 1;
+    }
+
+    /**
+     * Events the given handler threw on.
+     */
+    public long errors(int handler) {
+        return processors[handler].errors;
+    }
+
+    private static final class Slot {
+        DomainEvent event;
+        RequestMetadata request;
+    }
+
+    /**
+     * Runs one handler over the ring.
+     */
+    private final class Processor implements Runnable {
+
+        private final RingEventHandler handler;
+        /** Last sequence handled. */
+        private final AtomicLong sequence = new AtomicLong(-1);
+
+        /** Written by the consumer thread only. */
+        private volatile long errors;
+        private volatile Thread thread;
+
+        Processor(RingEventHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            int idleCount = 0;
+            while (true) {
+                long available = highestPublished(next);
+                if (available < next) {
+                    // Exits once stopped and every accepted event, even one still being published, is handled
+                    if (!running && publishing.get() == 0 && next > claimed.get()) {
+                        return;
+                    }
+                    idle(next, idleCount);
+                    idleCount = Math.min(idleCount + 1, SPIN_TRIES + YIELD_TRIES);
+                    continue;
+                }
+                idleCount = 0;
+                for (long current = next; current <= available; current++) {
+                    Slot slot = slots[(int) current & mask];
+                    try {
+                        handler.onEvent(slot.event, slot.request, current == available);
+                    } catch (Throwable e) {
+                        // An Error too: a dead consumer would never advance, and publishers would wait on it forever
+                        errors++;
+                        LOG.error("{} failed for {}: {}", handler.name(), slot.event.getEventType(), e.getMessage(), e);
+                    }
+                }
+                sequence.lazySet(available);
+                next = available + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.application.port.out.DomainEventPublisher;
+import com.example.contact.domain.event.ContactCreatedEvent;
+import com.example.contact.domain.event.ContactEvent;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.infrastructure.adapter.out.persistence.DomainEventStore;
+import com.example.contact.infrastructure.audit.HttpAuditContext;
+
+/**
+ * DomainEventPublisher that records every contact event in the {@link DomainEventStore}
+ * before handing it to the configured publisher.
+ *
+ * <p>The event is appended in the caller's transaction, so it is stored if and only
+ * if the contact change commits, together with the API request that caused it. The
+ * store is the source for {@link EventReplay}.</p>
+ */
+public class EventStoreDomainEventPublisher implements DomainEventPublisher {
+
+    private final DomainEventStore store;
+    private final DomainEventSerializer serializer;
+    private final DomainEventPublisher delegate;
+
+    public EventStoreDomainEventPublisher(DomainEventStore store, DomainEventSerializer serializer,
+                                          DomainEventPublisher delegate) {
+        this.store = store;
+        this.serializer = serializer;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        if (event instanceof ContactEvent contactEvent) {
+            store.append(
+                contactEvent.getContactId(),
+                event instanceof ContactCreatedEvent,
+                event.getEventId(),
+                event.getEventType(),
+                event.getOccurredAt(),
+                serializer.serialize(event),
+                serializer.serializeRequest(HttpAuditContext.current().map(HttpAuditContext::snapshot).orElse(null)));
+        }
+        delegate.publish(event);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.contact.infrastructure.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the domain event store and its replay, bound from {@code contact.events.store.*}.
+ *
+ * @param enabled            whether contact events are appended to the event store
+ * @param replayParallelism  fork-join threads replaying contacts concurrently; keep below
+ *                           the connection pool size, as each holds a connection
+ * @param replayContactsPerTask contacts replayed in one transaction; larger chunks are split
+ *                           in half until they fit
+ * @param replayBatchSize    events handed to the projections at a time
+ */
+@ConfigurationProperties(prefix = "contact.events.store")
+public record EventStoreProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("4") int replayParallelism,
+    @DefaultValue("100") int replayContactsPerTask,
+    @DefaultValue("500") int replayBatchSize
+) {
+    public EventStoreProperties {
+        if (replayParallelism < 1) {
+            throw new IllegalArgumentException("replayParallelism must be positive");
+        }
+        if (replayContactsPerTask < 1) {
+            throw new IllegalArgumentException("replayContactsPerTask must be positive");
+        }
+        if (replayBatchSize < 1) {
+            throw new IllegalArgumentException("replayBatchSize must be positive");
+        }
+    }
+}
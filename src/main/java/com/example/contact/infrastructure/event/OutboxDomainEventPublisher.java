@@ -0,0 +1,52 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.application.port.out.DomainEventPublisher;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.infrastructure.adapter.out.persistence.OutboxEventJpaRepository;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transactional outbox implementation of DomainEventPublisher.
+ *
+ * <p>Instead of invoking listeners in the request thread, each event is
+ * appended to the outbox table in the caller's transaction, so the event
+ * exists if and only if the contact change commits. {@link OutboxRelay}
+ * later dispatches the stored events to the regular Spring listeners.</p>
+ *
+ * <p>Enabled with {@code contact.events.publisher=outbox}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.events.publisher", havingValue = "outbox")
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutboxDomainEventPublisher.class);
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final DomainEventSerializer serializer;
+
+    public OutboxDomainEventPublisher(OutboxEventJpaRepository outboxRepository,
+                                      DomainEventSerializer serializer) {
+        this.outboxRepository = outboxRepository;
+        this.serializer = serializer;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        LOG.debug("Appending domain event to outbox: {} with ID {}",
+            event.getEventType(), event.getEventId());
+        outboxRepository.save(new OutboxEventJpaEntity(
+            event.getEventId(),
+            event.getEventType(),
+            serializer.aggregateId(event),
+            event.getOccurredAt(),
+            serializer.serialize(event)
+        ));
+    }
+}
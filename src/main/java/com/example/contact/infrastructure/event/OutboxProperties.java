@@ -0,0 +1,19 @@
+package com.example.contact.infrastructure.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the transactional outbox relay, bound from {@code contact.events.outbox.*}.
+ *
+ * @param batchSize    maximum events dispatched per relay transaction
+ * @param pollInterval delay between relay polls once the outbox is empty
+ */
+@ConfigurationProperties(prefix = "contact.events.outbox")
+public record OutboxProperties(
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("500ms") Duration pollInterval
+) {
+}
@@ -0,0 +1,85 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.infrastructure.adapter.out.persistence.OutboxEventJpaRepository;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+/**
+ * Background relay that dispatches outbox events to Spring listeners.
+ *
+ * <p>Each poll locks a batch of the oldest pending events, publishes them
+ * through {@link ApplicationEventPublisher} and deletes them, all in one
+ * transaction. Listeners bound to the transaction (such as
+ * {@link AuditEventListener}) therefore commit together with the outbox
+ * delete; if anything fails the batch is rolled back and retried on the next
+ * poll, giving at-least-once delivery.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.events.publisher", havingValue = "outbox")
+public class OutboxRelay implements SchedulingConfigurer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final DomainEventSerializer serializer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final OutboxProperties properties;
+
+    public OutboxRelay(OutboxEventJpaRepository outboxRepository,
+                       DomainEventSerializer serializer,
+                       ApplicationEventPublisher applicationEventPublisher,
+                       TransactionOperations transactionOperations,
+                       OutboxProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.serializer = serializer;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::relayPendingEvents, properties.pollInterval());
+    }
+
+    /**
+     * Relays full batches back to back until the outbox is drained.
+     */
+    public void relayPendingEvents() {
+        int relayed;
+        do {
+            try {
+                relayed = transactionOperations.execute(status -> relayBatch());
+            } catch (RuntimeException e) {
+                LOG.error("Outbox relay batch failed, will retry on next poll: {}", e.getMessage(), e);
+                return;
+            }
+        } while (relayed == properties.batchSize());
+    }
+
+    private int relayBatch() {
+        List<OutboxEventJpaEntity> batch = outboxRepository.findAllByOrderByIdAsc(Limit.of(properties.batchSize()));
+        for (OutboxEventJpaEntity entry : batch) {
+            DomainEvent event = serializer.deserialize(
+                entry.getEventType(), entry.getEventId(), entry.getOccurredAt(), entry.getPayload());
+            applicationEventPublisher.publishEvent(event);
+        }
+        outboxRepository.deleteAllInBatch(batch);
+        if (!batch.isEmpty()) {
+            LOG.debug("Relayed {} outbox events", batch.size());
+        }
+        return batch.size();
+    }
+}
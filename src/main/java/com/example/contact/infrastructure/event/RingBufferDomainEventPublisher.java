@@ -0,0 +1,181 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.application.port.out.DomainEventPublisher;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.RequestMetadata;
+import com.example.contact.infrastructure.audit.HttpAuditContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * DomainEventPublisher that hands events to {@link RingEventHandler}s through an
+ * {@link EventRingBuffer}, for bursts of writes that synchronous listeners would slow down.
+ *
+ * <p>Events published in a transaction are held until it commits and then
+ * published in order, so rolled-back changes reach no handler. Each event carries
+ * the metadata of the API request that published it, captured on the request
+ * thread. Handlers run after commit on their own threads: audit logs are written
+ * in batches like {@code async} audit write mode, and cache eviction lags the
+ * commit slightly, as with the outbox.</p>
+ *
+ * <p>Consumer threads are platform threads, as spinning wait strategies must not
+ * hold a virtual thread's carrier. Once stopped, events are handled inline.</p>
+ *
+ * <p>Enabled with {@code contact.events.publisher=ring-buffer}. Spring event
+ * listeners are not invoked.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "contact.events.publisher", havingValue = "ring-buffer")
+public class RingBufferDomainEventPublisher implements DomainEventPublisher, SmartLifecycle, MeterBinder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RingBufferDomainEventPublisher.class);
+
+    /** Stop after the web server has stopped accepting requests, before the datasource closes. */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final List<RingEventHandler> handlers;
+    private final RingBufferProperties properties;
+    private final ThreadFactory threadFactory;
+    private final EventRingBuffer ring;
+
+    @Autowired
+    public RingBufferDomainEventPublisher(List<RingEventHandler> handlers, RingBufferProperties properties) {
+        this(handlers, properties, Thread::new);
+    }
+
+    public RingBufferDomainEventPublisher(List<RingEventHandler> handlers, RingBufferProperties properties,
+                                          ThreadFactory threadFactory) {
+        this.handlers = List.copyOf(handlers);
+        this.properties = properties;
+        this.threadFactory = threadFactory;
+        this.ring = new EventRingBuffer(properties.bufferSize(), properties.producerType(),
+            properties.waitStrategy(), this.handlers);
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        LOG.debug("Publishing domain event to ring buffer: {} with ID {}", event.getEventType(), event.getEventId());
+        RequestMetadata request = HttpAuditContext.current().map(HttpAuditContext::snapshot).orElse(null);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event, request);
+            return;
+        }
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(event, request);
+    }
+
+    private void dispatch(DomainEvent event, RequestMetadata request) {
+        if (!ring.publish(event, request)) {
+            handleInline(event, request);
+        }
+    }
+
+    /**
+     * Handlers are not thread-safe; once their threads are gone, publishers take turns.
+     * Synchronized with {@link #stop()}, so inline handling waits for the handler threads
+     * to finish draining the ring.
+     */
+    private synchronized void handleInline(DomainEvent event, RequestMetadata request) {
+        for (RingEventHandler handler : handlers) {
+            try {
+                handler.onEvent(event, request, true);
+            } catch (Throwable e) {
+                // Like the handler threads: runs in afterCommit, where an Error would fail a committed request
+                LOG.error("{} failed for {}: {}", handler.name(), event.getEventType(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        ring.start(threadFactory);
+        LOG.info("Ring buffer event bus started (bufferSize={}, producerType={}, waitStrategy={}, handlers={})",
+            properties.bufferSize(), properties.producerType(), properties.waitStrategy(),
+            handlers.stream().map(RingEventHandler::name).toList());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!ring.stop(properties.shutdownTimeout())) {
+            LOG.warn("Ring buffer handlers did not catch up within {}", properties.shutdownTimeout());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ring.isRunning();
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("contact.events.ring.remaining", ring, EventRingBuffer::remainingCapacity)
+            .description("Free ring buffer slots before publishers wait")
+            .register(registry);
+        for (int i = 0; i < ring.handlerCount(); i++) {
+            int handler = i;
+            String name = ring.handlerName(handler);
+            Gauge.builder("contact.events.ring.backlog", ring, r -> r.backlog(handler))
+                .tag("handler", name)
+                .description("Events published but not yet handled")
+                .register(registry);
+            FunctionCounter.builder("contact.events.ring.handled", ring, r -> r.handled(handler))
+                .tag("handler", name)
+                .description("Events handled from the ring buffer")
+                .register(registry);
+            FunctionCounter.builder("contact.events.ring.errors", ring, r -> r.errors(handler))
+                .tag("handler", name)
+                .description("Events the handler threw on")
+                .register(registry);
+        }
+    }
+
+    /**
+     * Events of one transaction, published once it commits.
+     */
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final List<DomainEvent> events = new ArrayList<>(4);
+        private final List<RequestMetadata> requests = new ArrayList<>(4);
+
+        void add(DomainEvent event, RequestMetadata request) {
+            events.add(event);
+            requests.add(request);
+        }
+
+        @Override
+        public void afterCommit() {
+            for (int i = 0; i < events.size(); i++) {
+                dispatch(events.get(i), requests.get(i));
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(RingBufferDomainEventPublisher.this);
+        }
+    }
+}
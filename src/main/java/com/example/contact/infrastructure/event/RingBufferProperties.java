@@ -0,0 +1,33 @@
+package com.example.contact.infrastructure.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the ring buffer event bus, bound from {@code contact.events.ring-buffer.*}.
+ *
+ * @param bufferSize      events in flight before publishers wait for the slowest handler; a power of two
+ * @param producerType    {@code multi}, or {@code single} when only one thread ever publishes
+ * @param waitStrategy    how handler threads wait for events
+ * @param auditBatchSize  maximum audit logs per insert transaction
+ * @param shutdownTimeout how long shutdown waits for the handlers to catch up
+ */
+@ConfigurationProperties(prefix = "contact.events.ring-buffer")
+public record RingBufferProperties(
+    @DefaultValue("16384") int bufferSize,
+    @DefaultValue("multi") EventRingBuffer.ProducerType producerType,
+    @DefaultValue("sleeping") RingWaitStrategy waitStrategy,
+    @DefaultValue("500") int auditBatchSize,
+    @DefaultValue("10s") Duration shutdownTimeout
+) {
+    public RingBufferProperties {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("bufferSize must be a power of two");
+        }
+        if (auditBatchSize < 1) {
+            throw new IllegalArgumentException("auditBatchSize must be positive");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.RequestMetadata;
+
+/**
+ * Consumer of the domain events passing through an {@link EventRingBuffer}.
+ *
+ * <p>Each handler runs on its own thread and sees every event, in publication
+ * order. Events arrive in batches: all events published while the previous batch
+ * was being handled, the last one flagged with {@code endOfBatch}. Handlers that
+ * write somewhere buffer until then and flush once per batch.</p>
+ */
+public interface RingEventHandler {
+
+    /**
+     * @param request    the API request that published the event, or null
+     * @param endOfBatch whether no further event is available right now
+     */
+    void onEvent(DomainEvent event, RequestMetadata request, boolean endOfBatch);
+
+    /**
+     * Name of the consumer thread and metric tag.
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+}
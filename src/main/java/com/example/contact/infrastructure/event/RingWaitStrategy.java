@@ -0,0 +1,22 @@
+package com.example.contact.infrastructure.event;
+
+/**
+ * How a ring buffer consumer waits for the next event.
+ *
+ * <p>Spinning strategies deliver within microseconds but keep a core busy per
+ * consumer; only use them with a core to spare per consumer.</p>
+ */
+public enum RingWaitStrategy {
+
+    /** Spins on the sequence; lowest latency, one core per consumer. */
+    BUSY_SPIN,
+
+    /** Spins briefly, then yields the CPU between checks. */
+    YIELDING,
+
+    /** Spins, yields, then parks for 100µs between checks; near-idle when quiet. */
+    SLEEPING,
+
+    /** Parks until a producer signals; idle when quiet, producers pay for the wake-up. */
+    BLOCKING
+}
@@ -4,6 +4,7 @@ import com.example.contact.application.port.out.DomainEventPublisher;
 import com.example.contact.domain.event.DomainEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
@@ -13,8 +14,11 @@ import org.springframework.stereotype.Component;
  * <p>Uses Spring's ApplicationEventPublisher to publish domain events.
  * Events can be consumed by any Spring @EventListener or
  * @TransactionalEventListener.</p>
+ *
+ * <p>This is the default publisher ({@code contact.events.publisher=spring}).</p>
  */
 @Component
+@ConditionalOnProperty(name = "contact.events.publisher", havingValue = "spring", matchIfMissing = true)
 public class SpringDomainEventPublisher implements DomainEventPublisher {
 
     private static final Logger LOG = LoggerFactory.getLogger(SpringDomainEventPublisher.class);
@@ -0,0 +1,13 @@
+package com.example.contact.infrastructure.event;
+
+import com.example.contact.domain.event.ContactEvent;
+import com.example.contact.domain.model.RequestMetadata;
+
+/**
+ * A contact event read back from the event store.
+ *
+ * @param sequenceNumber position in the contact's stream, from 1
+ * @param request        the API request that caused it, or {@code null}
+ */
+public record StoredContactEvent(long sequenceNumber, ContactEvent event, RequestMetadata request) {
+}
@@ -0,0 +1,126 @@
+package com.example.contact.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram in nanoseconds.
+ *
+ * <p>Each power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so a
+ * recorded value lands in a bucket at most 12.5% wider than itself and percentiles
+ * are reported as that bucket's upper bound (capped by the observed maximum).
+ * Values below {@value #SUB_BUCKETS} ns get exact buckets.</p>
+ *
+ * <p>{@link #record} does not allocate or lock: bucket counts are striped by thread
+ * across rows of one {@link AtomicLongArray}, and the total time is a
+ * {@link LongAdder}. Reading a {@link #snapshot()} sums the stripes and is meant
+ * for the comparatively rare scrape or admin request.</p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Octaves 2^3 .. 2^62 plus the exact range below 2^3. */
+    static final int BUCKETS = (64 - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private static final int STRIPES = stripeCount();
+
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPES * BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        counts.incrementAndGet(stripe * BUCKETS + bucketIndex(value));
+        totalNanos.add(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public Snapshot snapshot() {
+        long[] merged = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < STRIPES * BUCKETS; i++) {
+            long c = counts.get(i);
+            merged[i % BUCKETS] += c;
+            count += c;
+        }
+        long max = maxNanos.get();
+        return new Snapshot(count, errors.sum(), totalNanos.sum(),
+            percentile(merged, count, 0.50, max),
+            percentile(merged, count, 0.99, max),
+            percentile(merged, count, 0.999, max),
+            max);
+    }
+
+    /**
+     * Clears all recorded values. Calls recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < STRIPES * BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        totalNanos.reset();
+        errors.reset();
+        maxNanos.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        // Bucket covers [(8 + sub) << shift, (9 + sub) << shift)
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    private static long percentile(long[] buckets, long count, double quantile, long max) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int stripeCount() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Math.min(16, Integer.highestOneBit(Math.max(1, processors - 1) << 1));
+    }
+
+    /**
+     * Point-in-time view of a histogram; all times in nanoseconds.
+     */
+    public record Snapshot(long count, long errors, long totalNanos, long p50, long p99, long p999, long max) {
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.contact.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Registry of latency histograms for calls through hexagonal ports.
+ *
+ * <p>A port is any interface in {@code application.port.in} or
+ * {@code application.port.out}. Each (implementation class, method) pair gets its
+ * own {@link LatencyHistogram}, tagged with the port interface, the method name
+ * and the implementation, so a decorator such as the caching use case and the
+ * service behind it are reported separately.</p>
+ *
+ * <p>Histograms are created on first call; afterwards a lookup is two hash map
+ * reads keyed by {@link Class} and {@link Method} and allocates nothing.</p>
+ */
+public class PortTimings implements MeterBinder {
+
+    static final String PORT_PACKAGE = "com.example.contact.application.port.";
+
+    private final Map<Class<?>, Map<Method, Timed>> timings = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    /**
+     * Port interface that declares {@code method} for {@code targetClass}, if any.
+     */
+    public static Optional<Class<?>> portOf(Method method, Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (candidate.getName().startsWith(PORT_PACKAGE)
+                    && ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Histogram for calls of {@code method} on an instance of {@code targetClass}.
+     *
+     * @return the histogram, or {@code null} if the method is not part of a port
+     */
+    public LatencyHistogram histogramFor(Method method, Class<?> targetClass) {
+        Map<Method, Timed> byMethod = timings.get(targetClass);
+        if (byMethod != null) {
+            Timed timed = byMethod.get(method);
+            if (timed != null) {
+                return timed.histogram();
+            }
+        }
+        return register(method, targetClass);
+    }
+
+    private LatencyHistogram register(Method method, Class<?> targetClass) {
+        Optional<Class<?>> port = portOf(method, targetClass);
+        if (port.isEmpty()) {
+            return null;
+        }
+        Timed timed = timings.computeIfAbsent(targetClass, type -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, m -> new Timed(port.get().getSimpleName(), m.getName(),
+                ClassUtils.getUserClass(targetClass).getSimpleName(), new LatencyHistogram()));
+        MeterRegistry current = registry;
+        if (current != null) {
+            timed.bindTo(current);
+        }
+        return timed.histogram();
+    }
+
+    public List<Timed> all() {
+        return timings.values().stream()
+            .flatMap(byMethod -> byMethod.values().stream())
+            .sorted(Comparator.comparing(Timed::port).thenComparing(Timed::method).thenComparing(Timed::implementation))
+            .toList();
+    }
+
+    public void reset() {
+        all().forEach(timed -> timed.histogram().reset());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.registry = meterRegistry;
+        all().forEach(timed -> timed.bindTo(meterRegistry));
+    }
+
+    /**
+     * One timed port method of one implementation.
+     */
+    public record Timed(String port, String method, String implementation, LatencyHistogram histogram) {
+
+        private static final String LATENCY = "contact.port.latency";
+
+        void bindTo(MeterRegistry registry) {
+            Tags tags = Tags.of("port", port, "method", method, "implementation", implementation);
+            // Micrometer returns the existing meter if this one is already registered
+            FunctionTimer.builder(LATENCY, histogram,
+                    h -> h.snapshot().count(), h -> h.snapshot().totalNanos(), TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("Calls through a hexagonal port")
+                .register(registry);
+            FunctionCounter.builder("contact.port.errors", histogram, h -> h.snapshot().errors())
+                .tags(tags)
+                .description("Calls through a hexagonal port that threw")
+                .register(registry);
+            quantile(registry, tags, "0.5", LatencyHistogram.Snapshot::p50);
+            quantile(registry, tags, "0.99", LatencyHistogram.Snapshot::p99);
+            quantile(registry, tags, "0.999", LatencyHistogram.Snapshot::p999);
+            TimeGauge.builder(LATENCY + ".max", histogram, TimeUnit.NANOSECONDS, h -> h.snapshot().max())
+                .tags(tags)
+                .register(registry);
+        }
+
+        private void quantile(MeterRegistry registry, Tags tags, String quantile,
+                              ToDoubleFunction<LatencyHistogram.Snapshot> value) {
+            TimeGauge.builder(LATENCY + ".percentile", histogram, TimeUnit.NANOSECONDS,
+                    h -> value.applyAsDouble(h.snapshot()))
+                .tags(tags.and("quantile", quantile))
+                .register(registry);
+        }
+    }
+}
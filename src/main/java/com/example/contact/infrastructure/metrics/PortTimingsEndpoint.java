@@ -0,0 +1,57 @@
+package com.example.contact.infrastructure.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Admin view of port latencies at {@code /actuator/porttimings}; {@code DELETE} resets them.
+ */
+@Endpoint(id = "porttimings")
+public class PortTimingsEndpoint {
+
+    private final PortTimings timings;
+
+    public PortTimingsEndpoint(PortTimings timings) {
+        this.timings = timings;
+    }
+
+    @ReadOperation
+    public List<PortTiming> portTimings() {
+        return timings.all().stream().map(PortTiming::from).toList();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        timings.reset();
+    }
+
+    /**
+     * Latencies in milliseconds.
+     */
+    public record PortTiming(
+        String port,
+        String method,
+        String implementation,
+        long count,
+        long errors,
+        double meanMs,
+        double p50Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs
+    ) {
+        static PortTiming from(PortTimings.Timed timed) {
+            LatencyHistogram.Snapshot snapshot = timed.histogram().snapshot();
+            return new PortTiming(timed.port(), timed.method(), timed.implementation(),
+                snapshot.count(), snapshot.errors(), millis(snapshot.meanNanos()),
+                millis(snapshot.p50()), millis(snapshot.p99()), millis(snapshot.p999()), millis(snapshot.max()));
+        }
+
+        private static double millis(double nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
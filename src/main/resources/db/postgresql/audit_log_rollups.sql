@@ -0,0 +1,32 @@
+-- Audit log rollups behind GET /api/audit-logs/stats (PostgreSQL).
+--
+-- Apply before the first start with ddl-auto=validate. The columns match
+-- AuditLogRollupJpaEntity, AuditLogContactRollupJpaEntity and
+-- AuditLogRollupDeltaJpaEntity. Existing audit logs are counted in by
+-- POST /actuator/auditstats?from=&to=.
+
+CREATE TABLE audit_log_rollups (
+    granularity     VARCHAR(6)   NOT NULL,
+    bucket_start    TIMESTAMP(6) NOT NULL,
+    operation_type  VARCHAR(10)  NOT NULL,
+    operation_count BIGINT       NOT NULL,
+    PRIMARY KEY (granularity, bucket_start, operation_type)
+);
+
+CREATE TABLE audit_log_contact_rollups (
+    contact_id      BIGINT       NOT NULL,
+    bucket_start    TIMESTAMP(6) NOT NULL,
+    operation_type  VARCHAR(10)  NOT NULL,
+    operation_count BIGINT       NOT NULL,
+    PRIMARY KEY (contact_id, bucket_start, operation_type)
+);
+
+-- Per-minute counts recorded by saving transactions, folded into the rollups
+-- above and deleted by the compaction job
+CREATE TABLE audit_log_rollup_deltas (
+    id              BIGINT       GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    contact_id      BIGINT       NOT NULL,
+    minute_start    TIMESTAMP(6) NOT NULL,
+    operation_type  VARCHAR(10)  NOT NULL,
+    operation_count BIGINT       NOT NULL
+);
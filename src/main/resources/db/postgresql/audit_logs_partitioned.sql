@@ -0,0 +1,49 @@
+-- audit_logs as monthly range partitions on operation_time (PostgreSQL 12+).
+--
+-- Apply before the first start with ddl-auto=validate. The columns match
+-- AuditLogJpaEntity; the primary key includes operation_time because a
+-- partitioned table's unique constraints must contain the partition key.
+-- Monthly partitions (audit_logs_pYYYYMM) are created by the application
+-- ahead of time; see AuditPartitionMaintenance.
+--
+-- Retention (contact.audit.retention.enabled) needs this layout: on an
+-- unpartitioned audit_logs the application refuses to start with it enabled.
+-- The DETACH path is only unit-tested against a mocked JdbcTemplate; verify it
+-- manually on PostgreSQL before enabling retention:
+--   1. apply this script, start the application once so partitions exist;
+--   2. CREATE TABLE audit_logs_p202301 PARTITION OF audit_logs
+--        FOR VALUES FROM ('2023-01-01') TO ('2023-02-01'); insert into it a CREATE
+--      row of contact 1, then UPDATE rows of contacts 1 and 2;
+--   3. run AuditPartitionMaintenance with retain-months below the age of 2023-01;
+--   4. expect audit_logs_p202301 in schema audit_archive with all three rows, absent
+--      from pg_inherits of audit_logs, and audit_logs returning only the rows of
+--      contact 1, now from audit_logs_default.
+
+CREATE SEQUENCE IF NOT EXISTS audit_logs_seq INCREMENT BY 50;
+
+CREATE TABLE audit_logs (
+    id                BIGINT       NOT NULL,
+    contact_id        BIGINT       NOT NULL,
+    operation_time    TIMESTAMP(6) NOT NULL,
+    operation_type    VARCHAR(10)  NOT NULL,
+    before_data       TEXT,
+    after_data        TEXT,
+    payload_format    VARCHAR(12),
+    api_endpoint      VARCHAR(255),
+    http_method       VARCHAR(10),
+    response_status   INTEGER,
+    execution_time_ms BIGINT,
+    client_ip         VARCHAR(45),
+    user_agent        VARCHAR(500),
+    PRIMARY KEY (id, operation_time)
+) PARTITION BY RANGE (operation_time);
+
+-- Declared on the parent, created on every partition
+CREATE INDEX idx_audit_logs_time_id ON audit_logs (operation_time, id);
+CREATE INDEX idx_audit_logs_contact_time_id ON audit_logs (contact_id, operation_time, id);
+CREATE INDEX idx_audit_logs_type_time_id ON audit_logs (operation_type, operation_time, id);
+CREATE INDEX idx_audit_logs_contact_type_time_id ON audit_logs (contact_id, operation_type, operation_time, id);
+
+-- Catches rows outside every monthly partition instead of failing the insert.
+-- A month cannot be attached while the default partition holds rows for it.
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
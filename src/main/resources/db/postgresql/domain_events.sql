@@ -0,0 +1,18 @@
+-- Append-only domain event store (PostgreSQL), used when contact.events.store.enabled=true.
+--
+-- Apply before the first start with ddl-auto=validate. The columns match
+-- DomainEventJpaEntity; the unique key orders each contact's stream.
+
+CREATE SEQUENCE domain_events_seq INCREMENT BY 50;
+
+CREATE TABLE domain_events (
+    id               BIGINT       NOT NULL PRIMARY KEY,
+    contact_id       BIGINT       NOT NULL,
+    sequence_number  BIGINT       NOT NULL,
+    event_id         VARCHAR(36)  NOT NULL UNIQUE,
+    event_type       VARCHAR(100) NOT NULL,
+    occurred_at      TIMESTAMP(6) NOT NULL,
+    payload          TEXT         NOT NULL,
+    request_metadata TEXT,
+    CONSTRAINT uk_domain_events_contact_sequence UNIQUE (contact_id, sequence_number)
+);
@@ -1,24 +1,36 @@
 package com.example.contact.integration;
 
 import com.example.contact.CucumberSpringConfiguration;
+import com.example.contact.application.port.out.AuditStatsRepository;
+import com.example.contact.domain.model.AuditStatsBucket;
+import com.example.contact.domain.model.AuditStatsGranularity;
 import com.example.contact.domain.model.OperationType;
 import com.example.contact.infrastructure.adapter.in.web.dto.ContactResponse;
 import com.example.contact.infrastructure.adapter.out.persistence.AuditLogJpaRepository;
 import com.example.contact.infrastructure.adapter.out.persistence.ContactJpaRepository;
+import com.example.contact.infrastructure.adapter.out.persistence.DomainEventJpaRepository;
 import com.example.contact.infrastructure.adapter.out.persistence.entity.AuditLogJpaEntity;
 import com.example.contact.infrastructure.adapter.out.persistence.entity.ContactJpaEntity;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.DomainEventJpaEntity;
+import com.example.contact.infrastructure.event.EventReplayEndpoint;
 import io.cucumber.java.Before;
 import io.cucumber.java.zh_tw.假設;
 import io.cucumber.java.zh_tw.那麼;
+import io.cucumber.java.zh_tw.當;
 import io.cucumber.java.zh_tw.而且;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 public class AuditLogStepDefinitions extends CucumberSpringConfiguration {
 
@@ -31,9 +43,20 @@ public class AuditLogStepDefinitions extends CucumberSpringConfiguration {
     @Autowired
     private AuditLogJpaRepository auditLogRepository;
 
+    @Autowired
+    private DomainEventJpaRepository domainEventRepository;
+
+    @Autowired
+    private EventReplayEndpoint eventReplayEndpoint;
+
+    @Autowired
+    private AuditStatsRepository auditStatsRepository;
+
     private ResponseEntity<ContactResponse> contactResponse;
     private Long savedContactId;
     private AuditLogJpaEntity lastAuditLog;
+    private List<String> auditTrailBeforeReplay;
+    private EventReplayEndpoint.Replay replay;
 
     @Before("@audit")
     public void setupAudit() {
@@ -55,8 +78,64 @@ public class AuditLogStepDefinitions extends CucumberSpringConfiguration {
         savedContactId = saved.getId();
     }
 
+    @假設("事件儲存為空")
+    public void eventStoreIsEmpty() {
+        domainEventRepository.deleteAllInBatch();
+    }
+
+    // === 當 (When) ===
+
+    @當("由事件儲存重建稽核日誌")
+    public void replayAuditLogs() {
+        auditTrailBeforeReplay = auditTrail();
+        replay = eventReplayEndpoint.replay("audit-logs");
+    }
+
     // === 那麼 (Then) ===
 
+    @那麼("事件儲存中的事件序號依序為「{}」")
+    public void eventStoreSequenceNumbers(String sequenceNumbers) {
+        assertThat(domainEventRepository.findAll(Sort.by("id")).stream()
+                .map(DomainEventJpaEntity::getSequenceNumber)
+                .toList())
+            .containsExactlyElementsOf(Arrays.stream(sequenceNumbers.split(",\\s*")).map(Long::valueOf).toList());
+    }
+
+    @那麼("重建結果包含 {int} 筆事件")
+    public void replayCountedEvents(int events) {
+        assertThat(replay.events()).isEqualTo(events);
+        assertThat(replay.contacts()).isEqualTo(1);
+        assertThat(replay.eventsPerSecond()).isPositive();
+    }
+
+    @而且("重建後的稽核日誌與重建前相同")
+    public void auditTrailRebuilt() {
+        assertThat(auditTrailBeforeReplay).hasSize(2);
+        assertThat(auditTrail()).containsExactlyElementsOf(auditTrailBeforeReplay);
+    }
+
+    @而且("重建後今日的稽核日誌統計為修改 {int} 筆、刪除 {int} 筆")
+    public void auditStatsRebuilt(int updates, int deletes) {
+        LocalDate today = LocalDate.now();
+        List<AuditStatsBucket> buckets = auditStatsRepository.findBuckets(AuditStatsGranularity.DAY,
+            today.atStartOfDay(), today.plusDays(1).atStartOfDay(), null, null);
+        assertThat(buckets).extracting(AuditStatsBucket::operationType, AuditStatsBucket::count)
+            .containsExactlyInAnyOrder(tuple(OperationType.DELETE, (long) deletes),
+                tuple(OperationType.UPDATE, (long) updates));
+    }
+
+    /**
+     * What a rebuild reproduces: everything but IDs, exact times and request durations.
+     */
+    private List<String> auditTrail() {
+        return auditLogRepository.findAll(Sort.by("id")).stream()
+            .map(log -> String.join("|", String.valueOf(log.getContactId()), log.getOperationType().name(),
+                log.getBeforeData(), log.getAfterData(), log.getHttpMethod(), log.getApiEndpoint(),
+                log.getClientIp(), log.getUserAgent()))
+            .toList();
+    }
+
+
     @那麼("系統自動產生一筆 {word} 類型的稽核日誌")
     public void auditLogCreatedWithType(String operationType) {
         OperationType type = OperationType.valueOf(operationType);
@@ -113,4 +192,15 @@ public class AuditLogStepDefinitions extends CucumberSpringConfiguration {
         // After data should contain new name
         assertThat(lastAuditLog.getAfterData()).contains("王大明");
     }
+
+    @而且("稽核日誌記錄來源請求為 {word}「{}」")
+    public void auditLogRecordsRequest(String httpMethod, String endpoint) {
+        assertThat(lastAuditLog).isNotNull();
+        assertThat(lastAuditLog.getHttpMethod()).isEqualTo(httpMethod);
+        assertThat(lastAuditLog.getApiEndpoint())
+            .isEqualTo(endpoint.replace("{id}", String.valueOf(lastAuditLog.getContactId())));
+        assertThat(lastAuditLog.getClientIp()).isNotBlank();
+        assertThat(lastAuditLog.getUserAgent()).isNotBlank();
+        assertThat(lastAuditLog.getExecutionTimeMs()).isNotNull();
+    }
 }
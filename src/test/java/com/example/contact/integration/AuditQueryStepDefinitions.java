@@ -1,10 +1,24 @@
 package com.example.contact.integration;
 
 import com.example.contact.CucumberSpringConfiguration;
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.AuditPayloadFormat;
 import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.in.web.dto.AuditAnalyticsResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.AuditLogPageResponse;
 import com.example.contact.infrastructure.adapter.in.web.dto.AuditLogResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.AuditStatsResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.ContactRevisionResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.ErrorResponse;
+import com.example.contact.infrastructure.adapter.out.analytics.ColumnarAuditLogArchive;
 import com.example.contact.infrastructure.adapter.out.persistence.AuditLogJpaRepository;
+import com.example.contact.infrastructure.adapter.out.persistence.AuditLogPartitions;
+import com.example.contact.infrastructure.adapter.out.persistence.PostgresAuditLogPartitions;
 import com.example.contact.infrastructure.adapter.out.persistence.entity.AuditLogJpaEntity;
+import com.example.contact.infrastructure.audit.AuditRollupCompaction;
+import com.example.contact.infrastructure.audit.AuditStatsEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.cucumber.java.Before;
 import io.cucumber.java.zh_tw.假設;
 import io.cucumber.java.zh_tw.那麼;
@@ -16,9 +30,19 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,8 +54,44 @@ public class AuditQueryStepDefinitions extends CucumberSpringConfiguration {
     @Autowired
     private AuditLogJpaRepository auditLogRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuditLogPartitions auditLogPartitions;
+
+    @Autowired
+    private ColumnarAuditLogArchive auditLogArchive;
+
+    @Autowired
+    private AuditLogRepository auditLogs;
+
+    @Autowired
+    private AuditStatsEndpoint auditStatsEndpoint;
+
+    @Autowired
+    private AuditRollupCompaction auditRollupCompaction;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    private static final LocalDateTime SEARCH_TIME = LocalDateTime.of(2024, 1, 15, 10, 0);
+
     private ResponseEntity<List<AuditLogResponse>> auditLogListResponse;
 
+    private List<AuditLogPageResponse> auditLogPages;
+
+    private ResponseEntity<ErrorResponse> errorResponse;
+
+    private ResponseEntity<String> revisionResponse;
+
+    private ResponseEntity<AuditAnalyticsResponse> analyticsResponse;
+
+    private ResponseEntity<String> statsResponse;
+
     @Before
     public void setup() {
         auditLogRepository.deleteAll();
@@ -93,12 +153,211 @@ public class AuditQueryStepDefinitions extends CucumberSpringConfiguration {
         assertThat(auditLogRepository.count()).isZero();
     }
 
+    @假設("系統中已有聯絡人 ID 為 {int} 於同一時間的 {int} 筆 UPDATE 記錄")
+    public void sameTimeUpdateAuditLogsExist(int contactId, int count) {
+        for (int i = 0; i < count; i++) {
+            auditLogRepository.save(new AuditLogJpaEntity(
+                null, (long) contactId, SEARCH_TIME,
+                OperationType.UPDATE, "{\"name\":\"趙六\"}", "{\"name\":\"趙六" + i + "\"}"
+            ));
+        }
+    }
+
+    @而且("系統中已有其他聯絡人、其他類型與時間區間外的稽核日誌記錄")
+    public void nonMatchingAuditLogsExist() {
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 6L, SEARCH_TIME, OperationType.UPDATE, "{\"name\":\"錢七\"}", "{\"name\":\"錢七七\"}"
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 5L, SEARCH_TIME, OperationType.CREATE, null, "{\"name\":\"趙六\"}"
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 5L, SEARCH_TIME.minusDays(2), OperationType.UPDATE, "{\"name\":\"趙\"}", "{\"name\":\"趙六\"}"
+        ));
+    }
+
+    @假設("系統中已有聯絡人 ID 為 {int} 以差異格式儲存的修改記錄")
+    public void mergePatchAuditLogsExist(int contactId) {
+        LocalDateTime now = LocalDateTime.now();
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, now.minusHours(3), OperationType.CREATE, null,
+            "{\"id\":" + contactId + ",\"name\":\"孫八\",\"phone\":\"0911111111\",\"address\":\"台中市\"}"
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, now.minusHours(2), OperationType.UPDATE, null, "{\"phone\":\"0922222222\"}",
+            AuditPayloadFormat.MERGE_PATCH, null, null, null, null, null, null
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, now.minusHours(1), OperationType.UPDATE, null, "{\"address\":\"高雄市\"}",
+            AuditPayloadFormat.MERGE_PATCH, null, null, null, null, null, null
+        ));
+    }
+
+    @假設("系統中已有聯絡人 ID 為 {int} 經多次修改後刪除的稽核日誌")
+    public void changedThenDeletedAuditLogsExist(int contactId) {
+        String id = "\"id\":" + contactId;
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, SEARCH_TIME, OperationType.CREATE, null,
+            "{" + id + ",\"name\":\"周九\",\"phone\":\"0911111111\",\"address\":\"台中市\"}"
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, SEARCH_TIME.plusHours(1), OperationType.UPDATE, null, "{\"phone\":\"0922222222\"}",
+            AuditPayloadFormat.MERGE_PATCH, null, null, null, null, null, null
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, SEARCH_TIME.plusHours(2), OperationType.UPDATE,
+            "{" + id + ",\"name\":\"周九\",\"phone\":\"0922222222\",\"address\":\"台中市\"}",
+            "{" + id + ",\"name\":\"周九\",\"phone\":\"0933333333\",\"address\":\"台南市\"}",
+            AuditPayloadFormat.CHECKPOINT, null, null, null, null, null, null
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, SEARCH_TIME.plusHours(3), OperationType.UPDATE, null, "{\"address\":\"高雄市\"}",
+            AuditPayloadFormat.MERGE_PATCH, null, null, null, null, null, null
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, SEARCH_TIME.plusHours(4), OperationType.DELETE,
+            "{" + id + ",\"name\":\"周九\",\"phone\":\"0933333333\",\"address\":\"高雄市\"}", null
+        ));
+    }
+
+    @假設("系統中已有聯絡人 ID 為 {int} 跨月以差異格式儲存的修改記錄")
+    public void mergePatchAuditLogsAcrossMonthsExist(int contactId) {
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, SEARCH_TIME.minusMonths(1), OperationType.CREATE, null,
+            "{\"id\":" + contactId + ",\"name\":\"周九\",\"phone\":\"0911111111\",\"address\":\"台中市\"}"
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, SEARCH_TIME.minusMonths(1).plusDays(5), OperationType.UPDATE, null,
+            "{\"phone\":\"0933333333\"}", AuditPayloadFormat.MERGE_PATCH, null, null, null, null, null, null
+        ));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, (long) contactId, SEARCH_TIME.plusHours(3), OperationType.UPDATE, null, "{\"address\":\"高雄市\"}",
+            AuditPayloadFormat.MERGE_PATCH, null, null, null, null, null, null
+        ));
+    }
+
+    @假設("系統中已有 {int} 年 {int} 月與 {int} 年 {int} 月的稽核日誌記錄")
+    public void auditLogsInTwoMonthsExist(int oldYear, int oldMonth, int year, int month) {
+        LocalDateTime expired = YearMonth.of(oldYear, oldMonth).atEndOfMonth().atTime(23, 59, 59);
+        LocalDateTime retained = YearMonth.of(year, month).atDay(1).atStartOfDay();
+        for (int i = 0; i < 3; i++) {
+            auditLogRepository.save(new AuditLogJpaEntity(
+                null, 9L, expired, OperationType.UPDATE, "{\"name\":\"吳十\"}", "{\"name\":\"吳十一\"}"
+            ));
+        }
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 9L, retained, OperationType.UPDATE, "{\"name\":\"吳十一\"}", "{\"name\":\"吳十二\"}"
+        ));
+    }
+
+    @假設("系統中已有 {int} 年 {int} 月多位聯絡人的稽核日誌記錄")
+    public void auditLogsOfSeveralContactsExist(int year, int month) {
+        LocalDateTime start = YearMonth.of(year, month).atDay(1).atTime(9, 0);
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 11L, start, OperationType.CREATE, null, "{\"name\":\"鄭一\"}"));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 12L, start.plusDays(1), OperationType.CREATE, null, "{\"name\":\"馮二\"}"));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 11L, start.plusDays(2), OperationType.UPDATE, "{\"name\":\"鄭一\"}", "{\"name\":\"鄭壹\"}"));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 12L, start.plusDays(2).plusHours(1), OperationType.UPDATE,
+            "{\"name\":\"馮二\"}", "{\"name\":\"馮貳\"}"));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 11L, start.plusDays(3), OperationType.UPDATE, "{\"name\":\"鄭壹\"}", "{\"name\":\"鄭一一\"}"));
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 12L, start.plusDays(4), OperationType.DELETE, "{\"name\":\"馮貳\"}", null));
+        // Next month, not exported
+        auditLogRepository.save(new AuditLogJpaEntity(
+            null, 11L, start.plusMonths(1), OperationType.UPDATE, "{\"name\":\"鄭一一\"}", "{\"name\":\"鄭\"}"));
+    }
+
+    @假設("系統已寫入 {int} 年 {int} 月 {int} 日上午不同時段的稽核日誌")
+    public void auditLogsWrittenThroughPort(int year, int month, int day) {
+        LocalDateTime morning = LocalDateTime.of(year, month, day, 10, 0);
+        auditLogs.saveAll(List.of(
+            AuditLog.reconstitute(null, 21L, morning.plusMinutes(5), OperationType.CREATE, null, "{\"name\":\"陳一\"}"),
+            AuditLog.reconstitute(null, 21L, morning.plusMinutes(40), OperationType.UPDATE,
+                "{\"name\":\"陳一\"}", "{\"name\":\"陳壹\"}"),
+            AuditLog.reconstitute(null, 21L, morning.plusMinutes(40).plusSeconds(30), OperationType.UPDATE,
+                "{\"name\":\"陳壹\"}", "{\"name\":\"陳一\"}")
+        ));
+        auditLogs.save(AuditLog.reconstitute(null, 22L, morning.plusMinutes(75), OperationType.DELETE,
+            "{\"name\":\"林二\"}", null));
+    }
+
+    @假設("系統中已有聯絡人 ID 為 {int} 於 {int} 年 {int} 月 {int} 日未列入統計的 {int} 筆 UPDATE 記錄")
+    public void auditLogsWithoutRollupsExist(int contactId, int year, int month, int day, int count) {
+        for (int i = 0; i < count; i++) {
+            auditLogRepository.save(new AuditLogJpaEntity(
+                null, (long) contactId, LocalDateTime.of(year, month, day, 9, i), OperationType.UPDATE,
+                "{\"name\":\"黃三\"}", "{\"name\":\"黃三" + i + "\"}"));
+        }
+    }
+
     // === 當 (When) ===
 
+    @當("執行稽核日誌保留作業並保留 {int} 年 {int} 月起的資料，移除 {int} 筆")
+    public void runAuditRetention(int year, int month, int removed) {
+        assertThat(auditLogPartitions.archiveBefore(YearMonth.of(year, month))).isEqualTo(removed);
+    }
+
+    @當("以分割區封存 {int} 年 {int} 月前的稽核日誌，封存 {int} 個分割區")
+    public void runPartitionArchive(int year, int month, int archived) {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS audit_archive CASCADE");
+        PostgresAuditLogPartitions partitions = new PostgresAuditLogPartitions(
+            new PartitionEmulatingJdbcTemplate(jdbcTemplate.getDataSource()), transactionOperations, "audit_archive");
+        assertThat(partitions.archiveBefore(YearMonth.of(year, month))).isEqualTo(archived);
+        jdbcTemplate.execute("DROP SCHEMA audit_archive CASCADE");
+    }
+
+    @當("匯出 {int} 年 {int} 月的稽核日誌供分析後清除主資料庫的稽核日誌")
+    public void exportAuditLogsForAnalytics(int year, int month) {
+        assertThat(auditLogArchive.export(YearMonth.of(year, month))).isEqualTo(6);
+        auditLogRepository.deleteAll();
+    }
+
+    @而且("管理員查詢 {int} 年 {int} 月的稽核日誌統計")
+    public void queryAuditAnalytics(int year, int month) {
+        YearMonth period = YearMonth.of(year, month);
+        analyticsResponse = restTemplate.getForEntity(
+            getBaseUrl() + "/api/audit-logs/analytics?from=" + period.atDay(1).atStartOfDay()
+                + "&to=" + period.plusMonths(1).atDay(1).atStartOfDay(),
+            AuditAnalyticsResponse.class);
+    }
+
+    @當("管理員以 {word} 粒度查詢「{}」至「{}」的稽核日誌統計")
+    public void queryAuditStats(String granularity, String from, String to) {
+        statsResponse = restTemplate.getForEntity(getBaseUrl() + "/api/audit-logs/stats?granularity="
+            + granularity + "&from=" + from + "&to=" + to, String.class);
+    }
+
+    @當("管理員以 {word} 粒度查詢聯絡人 ID {int} 於「{}」至「{}」的稽核日誌統計")
+    public void queryContactAuditStats(String granularity, int contactId, String from, String to) {
+        statsResponse = restTemplate.getForEntity(getBaseUrl() + "/api/audit-logs/stats?granularity="
+            + granularity + "&contactId=" + contactId + "&from=" + from + "&to=" + to, String.class);
+    }
+
+    @當("管理員重建「{}」至「{}」的稽核日誌統計")
+    public void rebuildAuditStats(String from, String to) {
+        AuditStatsEndpoint.Rebuild rebuild = auditStatsEndpoint.rebuild(LocalDate.parse(from), LocalDate.parse(to));
+        assertThat(rebuild.auditLogsCounted()).isPositive();
+    }
+
+    @當("稽核日誌統計增量併入彙總")
+    public void compactAuditStats() {
+        auditRollupCompaction.run();
+    }
+
+    @當("管理員查詢聯絡人 ID 為 {int} 於「{}」的狀態")
+    public void queryContactAsOf(int contactId, String asOf) {
+        revisionResponse = restTemplate.getForEntity(
+            getBaseUrl() + "/api/contacts/" + contactId + "?asOf=" + asOf, String.class);
+    }
+
     @當("管理員發送查詢所有稽核日誌請求")
     public void queryAllAuditLogs() {
         auditLogListResponse = restTemplate.exchange(
-            getBaseUrl() + "/api/audit-logs",
+            getBaseUrl() + "/api/audit-logs?unpaged=true",
             HttpMethod.GET,
             null,
             new ParameterizedTypeReference<List<AuditLogResponse>>() {}
@@ -125,8 +384,55 @@ public class AuditQueryStepDefinitions extends CucumberSpringConfiguration {
         );
     }
 
+    @當("管理員以聯絡人 ID {int}、操作類型 {word} 與時間區間每頁 {int} 筆逐頁查詢稽核日誌")
+    public void searchAuditLogPages(int contactId, String operationType, int limit) {
+        String query = getBaseUrl() + "/api/audit-logs?contactId=" + contactId
+            + "&operationType=" + operationType
+            + "&from=" + SEARCH_TIME.minusHours(1)
+            + "&to=" + SEARCH_TIME.plusHours(1)
+            + "&limit=" + limit;
+        auditLogPages = new ArrayList<>();
+        String cursor = null;
+        do {
+            ResponseEntity<AuditLogPageResponse> response = restTemplate.getForEntity(
+                cursor == null ? query : query + "&after=" + cursor,
+                AuditLogPageResponse.class
+            );
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            auditLogPages.add(response.getBody());
+            cursor = response.getBody().nextCursor();
+        } while (cursor != null && auditLogPages.size() < 10);
+    }
+
+    @當("管理員以結束時間早於起始時間查詢稽核日誌")
+    public void searchAuditLogsWithInvertedRange() {
+        errorResponse = restTemplate.getForEntity(
+            getBaseUrl() + "/api/audit-logs?from=" + SEARCH_TIME + "&to=" + SEARCH_TIME.minusDays(1),
+            ErrorResponse.class
+        );
+    }
+
     // === 那麼 (Then) ===
 
+    @那麼("系統分 {int} 頁回傳 {int} 筆不重複的稽核日誌")
+    public void returnAuditLogPages(int pages, int total) {
+        List<AuditLogResponse> logs = auditLogPages.stream()
+            .flatMap(page -> page.items().stream())
+            .toList();
+        assertThat(auditLogPages).hasSize(pages);
+        assertThat(logs).hasSize(total);
+        assertThat(logs).extracting(AuditLogResponse::id).doesNotHaveDuplicates();
+        assertThat(logs).allMatch(log -> log.contactId() == 5L
+            && log.operationType() == OperationType.UPDATE
+            && log.operationTime().equals(SEARCH_TIME));
+    }
+
+    @那麼("系統回傳稽核查詢參數錯誤訊息")
+    public void returnInvalidAuditQueryMessage() {
+        assertThat(errorResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(errorResponse.getBody().message()).contains("起始時間");
+    }
+
     @那麼("系統回傳所有稽核日誌列表")
     public void returnAllAuditLogs() {
         assertThat(auditLogListResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -160,8 +466,96 @@ public class AuditQueryStepDefinitions extends CucumberSpringConfiguration {
         assertThat(auditLogListResponse.getBody()).isEmpty();
     }
 
+    @那麼("最新一筆稽核日誌的變更前資料包含「{word}」、「{word}」、「{word}」")
+    public void latestAuditLogBeforeDataContains(String name, String phone, String address) {
+        AuditLogResponse latest = auditLogListResponse.getBody().get(0);
+        assertThat(latest.payloadFormat()).isEqualTo(AuditPayloadFormat.MERGE_PATCH);
+        assertThat(latest.beforeData()).contains(name, phone, address);
+    }
+
+    @那麼("系統回傳該時間點的聯絡人電話「{word}」與地址「{word}」")
+    public void returnContactRevision(String phone, String address) throws Exception {
+        assertThat(revisionResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ContactRevisionResponse revision =
+            objectMapper.readValue(revisionResponse.getBody(), ContactRevisionResponse.class);
+        assertThat(revision.name()).isEqualTo("周九");
+        assertThat(revision.phone()).isEqualTo(phone);
+        assertThat(revision.address()).isEqualTo(address);
+        assertThat(revision.changedAt()).isEqualTo(SEARCH_TIME.plusHours(3));
+    }
+
+    @那麼("系統僅保留 {int} 年 {int} 月起的稽核日誌")
+    public void onlyRetainedAuditLogsRemain(int year, int month) {
+        LocalDateTime cutoff = YearMonth.of(year, month).atDay(1).atStartOfDay();
+        assertThat(auditLogRepository.findAll())
+            .hasSize(1)
+            .allMatch(log -> !log.getOperationTime().isBefore(cutoff));
+    }
+
+    @那麼("統計結果為新增 {int} 筆、修改 {int} 筆、刪除 {int} 筆")
+    public void returnCountsByOperationType(int created, int updated, int deleted) {
+        assertThat(analyticsResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        AuditAnalyticsResponse analytics = analyticsResponse.getBody();
+        assertThat(analytics.total()).isEqualTo(created + updated + deleted);
+        assertThat(analytics.countsByOperationType()).containsEntry(OperationType.CREATE, (long) created)
+            .containsEntry(OperationType.UPDATE, (long) updated)
+            .containsEntry(OperationType.DELETE, (long) deleted);
+    }
+
+    @那麼("統計區間「{}」共 {int} 筆，其中 {word} {int} 筆")
+    public void statsBucketContains(String bucketStart, int total, String operationType, int count) throws Exception {
+        assertThat(statsResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        AuditStatsResponse stats = objectMapper.readValue(statsResponse.getBody(), AuditStatsResponse.class);
+        assertThat(stats.buckets())
+            .filteredOn(bucket -> bucket.bucketStart().equals(LocalDateTime.parse(bucketStart)))
+            .singleElement()
+            .satisfies(bucket -> {
+                assertThat(bucket.total()).isEqualTo(total);
+                assertThat(bucket.countsByOperationType())
+                    .containsEntry(OperationType.valueOf(operationType), (long) count);
+            });
+    }
+
+    @那麼("系統回傳統計查詢參數錯誤訊息")
+    public void returnStatsQueryError() {
+        assertThat(statsResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @那麼("系統回傳該時間點聯絡人不存在")
+    public void returnContactRevisionNotFound() {
+        assertThat(revisionResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     // === 而且 (And) ===
 
+    @而且("最新一筆稽核日誌的變更後資料包含「{word}」、「{word}」、「{word}」")
+    public void latestAuditLogAfterDataContains(String name, String phone, String address) {
+        assertThat(auditLogListResponse.getBody().get(0).afterData()).contains(name, phone, address);
+    }
+
+    @而且("修改最多的聯絡人為 ID {long} 共 {int} 次")
+    public void mostEditedContactIs(long contactId, int edits) {
+        assertThat(analyticsResponse.getBody().mostEditedContacts().get(0))
+            .isEqualTo(new AuditAnalyticsResponse.ContactEdits(contactId, edits));
+    }
+
+    @而且("聯絡人 ID 為 {long} 最新一筆稽核日誌的變更後資料包含「{word}」、「{word}」、「{word}」")
+    public void latestAuditLogOfContactAfterDataContains(long contactId, String name, String phone, String address) {
+        assertThat(auditLogListResponse.getBody())
+            .filteredOn(log -> log.contactId() == contactId)
+            .first()
+            .satisfies(latest -> {
+                assertThat(latest.payloadFormat()).isEqualTo(AuditPayloadFormat.MERGE_PATCH);
+                assertThat(latest.afterData()).contains(name, phone, address);
+            });
+    }
+
+    @而且("{int} 年 {int} 月 {int} 日的修改次數為 {int}")
+    public void editsOnDayAre(int year, int month, int day, int edits) {
+        assertThat(analyticsResponse.getBody().editsPerDay())
+            .contains(new AuditAnalyticsResponse.DailyEdits(LocalDate.of(year, month, day), edits));
+    }
+
     @而且("日誌按操作時間降序排列")
     public void logsOrderedByTimeDesc() {
         List<AuditLogResponse> logs = auditLogListResponse.getBody();
@@ -171,4 +565,48 @@ public class AuditQueryStepDefinitions extends CucumberSpringConfiguration {
                 .isAfterOrEqualTo(logs.get(i + 1).operationTime());
         }
     }
+
+    /**
+     * Plays the PostgreSQL partition catalog on H2's single audit_logs table:
+     * every month with audit logs is a partition, detaching one moves its rows
+     * to a table of their own.
+     */
+    private static class PartitionEmulatingJdbcTemplate extends JdbcTemplate {
+
+        private static final Pattern DETACH = Pattern.compile("ALTER TABLE audit_logs DETACH PARTITION (\\w+)");
+        private static final Pattern SET_SCHEMA = Pattern.compile("ALTER TABLE (\\w+) SET SCHEMA (\\w+)");
+        private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+        PartitionEmulatingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType) {
+            return super.queryForList("SELECT DISTINCT operation_time FROM audit_logs", LocalDateTime.class).stream()
+                .map(time -> elementType.cast("audit_logs_p" + time.format(SUFFIX)))
+                .distinct()
+                .sorted()
+                .toList();
+        }
+
+        @Override
+        public void execute(String sql) {
+            Matcher detach = DETACH.matcher(sql);
+            Matcher setSchema = SET_SCHEMA.matcher(sql);
+            if (detach.matches()) {
+                YearMonth month = YearMonth.parse(detach.group(1).substring("audit_logs_p".length()), SUFFIX);
+                String inMonth = " FROM audit_logs WHERE operation_time >= TIMESTAMP '" + month.atDay(1)
+                    + " 00:00:00' AND operation_time < TIMESTAMP '" + month.plusMonths(1).atDay(1) + " 00:00:00'";
+                super.execute("CREATE TABLE " + detach.group(1) + " AS SELECT *" + inMonth);
+                super.execute("DELETE" + inMonth);
+            } else if (setSchema.matches()) {
+                super.execute("CREATE TABLE " + setSchema.group(2) + "." + setSchema.group(1)
+                    + " AS SELECT * FROM " + setSchema.group(1));
+                super.execute("DROP TABLE " + setSchema.group(1));
+            } else {
+                super.execute(sql);
+            }
+        }
+    }
 }
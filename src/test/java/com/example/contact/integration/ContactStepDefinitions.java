@@ -1,12 +1,20 @@
 package com.example.contact.integration;
 
 import com.example.contact.CucumberSpringConfiguration;
+import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.in.web.dto.BulkCreateContactsRequest;
+import com.example.contact.infrastructure.adapter.in.web.dto.BulkCreateContactsResponse;
+import com.example.contact.infrastructure.adapter.in.web.dto.ContactPageResponse;
 import com.example.contact.infrastructure.adapter.in.web.dto.ContactResponse;
 import com.example.contact.infrastructure.adapter.in.web.dto.CreateContactRequest;
 import com.example.contact.infrastructure.adapter.in.web.dto.UpdateContactRequest;
 import com.example.contact.infrastructure.adapter.in.web.dto.ErrorResponse;
+import com.example.contact.infrastructure.adapter.out.persistence.AuditLogJpaRepository;
 import com.example.contact.infrastructure.adapter.out.persistence.ContactJpaRepository;
+import com.example.contact.infrastructure.adapter.out.persistence.entity.AuditLogJpaEntity;
 import com.example.contact.infrastructure.adapter.out.persistence.entity.ContactJpaEntity;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.cucumber.java.Before;
 import io.cucumber.java.zh_tw.假設;
 import io.cucumber.java.zh_tw.那麼;
@@ -14,14 +22,26 @@ import io.cucumber.java.zh_tw.當;
 import io.cucumber.java.zh_tw.而且;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -33,10 +53,26 @@ public class ContactStepDefinitions extends CucumberSpringConfiguration {
     @Autowired
     private ContactJpaRepository contactRepository;
 
+    @Autowired
+    private AuditLogJpaRepository auditLogRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** The JDK client can send PATCH, which the default HttpURLConnection-based one cannot. */
+    private final TestRestTemplate patchRestTemplate =
+        new TestRestTemplate(new RestTemplateBuilder().requestFactory(JdkClientHttpRequestFactory.class));
+
     private ResponseEntity<ContactResponse> contactResponse;
     private ResponseEntity<ErrorResponse> errorResponse;
     private ResponseEntity<List<ContactResponse>> contactListResponse;
+    private ResponseEntity<ContactPageResponse> contactPageResponse;
+    private ResponseEntity<byte[]> exportResponse;
+    private ResponseEntity<BulkCreateContactsResponse> bulkCreateResponse;
     private Long savedContactId;
+    private String savedETag;
+    private String updateETag;
+    private HttpStatusCode conditionalStatus;
 
     @Before
     public void setup() {
@@ -184,16 +220,111 @@ public class ContactStepDefinitions extends CucumberSpringConfiguration {
         );
     }
 
+    @當("使用者批次新增 {int} 筆聯絡人，其中第 {int} 筆姓名空白")
+    public void bulkCreateContacts(int count, int blankPosition) {
+        List<CreateContactRequest> contacts = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            String name = i == blankPosition ? " " : "批次聯絡人" + i;
+            contacts.add(new CreateContactRequest(name, "09223344" + String.format("%02d", i), null));
+        }
+        bulkCreateResponse = restTemplate.postForEntity(
+            getBaseUrl() + "/api/contacts/bulk",
+            new BulkCreateContactsRequest(contacts),
+            BulkCreateContactsResponse.class
+        );
+    }
+
+    @那麼("系統回報成功新增 {int} 筆、失敗 {int} 筆")
+    public void returnBulkCreateCounts(int created, int failed) {
+        assertThat(bulkCreateResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(bulkCreateResponse.getBody().createdCount()).isEqualTo(created);
+        assertThat(bulkCreateResponse.getBody().failedCount()).isEqualTo(failed);
+        assertThat(contactRepository.count()).isEqualTo(created);
+    }
+
+    @而且("第 {int} 筆結果說明姓名為必填欄位")
+    public void bulkItemReportsBlankName(int position) {
+        BulkCreateContactsResponse.Item item = bulkCreateResponse.getBody().results().get(position - 1);
+        assertThat(item.index()).isEqualTo(position - 1);
+        assertThat(item.status()).isEqualTo("FAILED");
+        assertThat(item.error().field()).isEqualTo("name");
+        assertThat(item.error().message()).contains("姓名為必填欄位");
+    }
+
+    @而且("成功新增的每筆聯絡人皆產生一筆 CREATE 稽核日誌")
+    public void bulkCreatedContactsAreAudited() {
+        bulkCreateResponse.getBody().results().stream()
+            .filter(item -> item.contact() != null)
+            .forEach(item -> assertThat(auditLogRepository.findByContactIdOrderByOperationTimeDesc(item.contact().id()))
+                .singleElement()
+                .satisfies(log -> assertThat(log.getOperationType()).isEqualTo(OperationType.CREATE)));
+    }
+
+    @假設("系統中已存在 {int} 筆聯絡人記錄")
+    public void contactsExist(int count) {
+        for (int i = 1; i <= count; i++) {
+            contactRepository.save(new ContactJpaEntity(
+                null, "聯絡人" + i, "09123456" + String.format("%02d", i), null,
+                LocalDateTime.now(), LocalDateTime.now()
+            ));
+        }
+    }
+
     @當("使用者發送查詢所有聯絡人請求")
     public void queryAllContacts() {
         contactListResponse = restTemplate.exchange(
-            getBaseUrl() + "/api/contacts",
+            getBaseUrl() + "/api/contacts?unpaged=true",
             HttpMethod.GET,
             null,
             new ParameterizedTypeReference<List<ContactResponse>>() {}
         );
     }
 
+    @當("使用者以每頁 {int} 筆發送分頁查詢請求")
+    public void queryContactPage(int limit) {
+        contactPageResponse = restTemplate.getForEntity(
+            getBaseUrl() + "/api/contacts?limit=" + limit,
+            ContactPageResponse.class
+        );
+    }
+
+    @當("使用者以下一頁游標發送分頁查詢請求")
+    public void queryNextContactPage() {
+        String cursor = contactPageResponse.getBody().nextCursor();
+        contactPageResponse = restTemplate.getForEntity(
+            getBaseUrl() + "/api/contacts?limit=2&after=" + cursor,
+            ContactPageResponse.class
+        );
+    }
+
+    @當("使用者以無效游標發送分頁查詢請求")
+    public void queryContactPageWithInvalidCursor() {
+        errorResponse = restTemplate.getForEntity(
+            getBaseUrl() + "/api/contacts?after=not-a-cursor",
+            ErrorResponse.class
+        );
+    }
+
+    @當("使用者以 {word} 格式匯出聯絡人")
+    public void exportContacts(String format) {
+        exportResponse = restTemplate.getForEntity(
+            getBaseUrl() + "/api/contacts/export?format=" + format,
+            byte[].class
+        );
+    }
+
+    @當("使用者以 {word} 格式並要求 gzip 壓縮匯出聯絡人")
+    public void exportContactsGzipped(String format) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        exportResponse = restTemplate.exchange(
+            getBaseUrl() + "/api/contacts/export?format=" + format,
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            byte[].class
+        );
+    }
+
     @當("使用者以 ID 為 {int} 發送查詢請求")
     public void queryContactBySpecificId(int id) {
         errorResponse = restTemplate.getForEntity(
@@ -223,6 +354,49 @@ public class ContactStepDefinitions extends CucumberSpringConfiguration {
         assertThat(contactListResponse.getBody()).isEmpty();
     }
 
+    @那麼("系統回傳 {int} 筆聯絡人與下一頁游標")
+    public void returnContactPageWithCursor(int size) {
+        assertThat(contactPageResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(contactPageResponse.getBody().items()).hasSize(size);
+        assertThat(contactPageResponse.getBody().nextCursor()).isNotBlank();
+    }
+
+    @那麼("系統回傳 {int} 筆聯絡人且無下一頁游標")
+    public void returnLastContactPage(int size) {
+        assertThat(contactPageResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(contactPageResponse.getBody().items()).hasSize(size);
+        assertThat(contactPageResponse.getBody().nextCursor()).isNull();
+    }
+
+    @那麼("系統回傳分頁參數錯誤訊息")
+    public void returnInvalidPageParameterMessage() {
+        assertThat(errorResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(errorResponse.getBody().message()).contains("游標");
+    }
+
+    @那麼("系統串流回傳 {int} 行聯絡人 JSON 資料")
+    public void returnNdjsonExport(int count) {
+        assertThat(exportResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exportResponse.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+        List<String> lines = new String(exportResponse.getBody(), StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(count);
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.contains("\"name\":\"聯絡人"));
+    }
+
+    @那麼("系統回傳 gzip 壓縮的 CSV，含標題列與 {int} 筆聯絡人資料列")
+    public void returnGzippedCsvExport(int count) throws IOException {
+        assertThat(exportResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exportResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        byte[] csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(exportResponse.getBody()))) {
+            csv = in.readAllBytes();
+        }
+        List<String> lines = new String(csv, StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(count + 1);
+        assertThat(lines.get(0)).isEqualTo("id,name,phone,address,createdAt,updatedAt,version");
+        assertThat(lines.get(1)).contains(",聯絡人1,0912345601,,");
+    }
+
     @那麼("系統回傳查無資料的適當訊息")
     public void returnNotFoundMessage() {
         assertThat(errorResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
@@ -309,6 +483,117 @@ public class ContactStepDefinitions extends CucumberSpringConfiguration {
         assertThat(contactResponse.getBody().address()).isEqualTo(address);
     }
 
+    @當("使用者以 Merge Patch 僅修改該聯絡人電話為「{word}」")
+    public void patchContactPhone(String phone) {
+        contactResponse = patchRestTemplate.exchange(
+            getBaseUrl() + "/api/contacts/" + savedContactId,
+            HttpMethod.PATCH,
+            mergePatch(Map.of("phone", phone)),
+            ContactResponse.class
+        );
+    }
+
+    @當("使用者以 Merge Patch 將該聯絡人姓名設為 null")
+    public void patchContactNameToNull() {
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("name", null);
+        errorResponse = patchRestTemplate.exchange(
+            getBaseUrl() + "/api/contacts/" + savedContactId,
+            HttpMethod.PATCH,
+            mergePatch(patch),
+            ErrorResponse.class
+        );
+    }
+
+    @而且("該聯絡人的 UPDATE 稽核日誌僅記錄「{word}」欄位")
+    public void updateAuditRecordsOnlyField(String field) throws Exception {
+        AuditLogJpaEntity auditLog = auditLogRepository.findByContactIdOrderByOperationTimeDesc(savedContactId).stream()
+            .filter(log -> log.getOperationType() == OperationType.UPDATE)
+            .findFirst()
+            .orElseThrow();
+        Map<String, Object> oldValue = objectMapper.readValue(auditLog.getBeforeData(), new TypeReference<>() { });
+        Map<String, Object> newValue = objectMapper.readValue(auditLog.getAfterData(), new TypeReference<>() { });
+        assertThat(oldValue.keySet()).containsExactlyInAnyOrder("id", field);
+        assertThat(newValue.keySet()).containsExactlyInAnyOrder("id", field);
+    }
+
+    private HttpEntity<Map<String, ?>> mergePatch(Map<String, ?> patch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/merge-patch+json"));
+        return new HttpEntity<>(patch, headers);
+    }
+
+    @那麼("系統回應該聯絡人未變更")
+    public void responseMarksContactUnchanged() {
+        assertThat(contactResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(contactResponse.getHeaders().getFirst("X-Contact-Modified")).isEqualTo("false");
+        assertThat(contactResponse.getHeaders().containsKey("X-Changed-Fields")).isFalse();
+    }
+
+    @而且("回應標示變更欄位為「{word}」")
+    public void responseListsChangedFields(String fields) {
+        assertThat(contactResponse.getHeaders().getFirst("X-Contact-Modified")).isEqualTo("true");
+        assertThat(contactResponse.getHeaders().getFirst("X-Changed-Fields")).isEqualTo(fields);
+    }
+
+    @而且("該聯絡人沒有任何稽核日誌")
+    public void contactHasNoAuditLogs() {
+        assertThat(auditLogRepository.findByContactIdOrderByOperationTimeDesc(savedContactId)).isEmpty();
+    }
+
+    @假設("使用者已取得該聯絡人的 ETag")
+    public void fetchContactETag() {
+        ResponseEntity<ContactResponse> response = restTemplate.getForEntity(
+            getBaseUrl() + "/api/contacts/" + savedContactId,
+            ContactResponse.class
+        );
+        savedETag = response.getHeaders().getETag();
+        assertThat(savedETag).isEqualTo("\"" + response.getBody().version() + "\"");
+    }
+
+    @而且("該聯絡人已被其他使用者修改")
+    public void contactModifiedConcurrently() {
+        ResponseEntity<ContactResponse> response = restTemplate.exchange(
+            getBaseUrl() + "/api/contacts/" + savedContactId,
+            HttpMethod.PUT,
+            new HttpEntity<>(new UpdateContactRequest("其他人改的", "0900000000", null)),
+            ContactResponse.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @當("使用者以該 ETag 修改聯絡人姓名為「{word}」")
+    public void updateContactWithETag(String name) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(savedETag);
+        ResponseEntity<String> response = restTemplate.exchange(
+            getBaseUrl() + "/api/contacts/" + savedContactId,
+            HttpMethod.PUT,
+            new HttpEntity<>(new UpdateContactRequest(name, "0912345678", "台北市"), headers),
+            String.class
+        );
+        conditionalStatus = response.getStatusCode();
+        if (conditionalStatus == HttpStatus.OK) {
+            contactResponse = restTemplate.getForEntity(
+                getBaseUrl() + "/api/contacts/" + savedContactId,
+                ContactResponse.class
+            );
+            updateETag = response.getHeaders().getETag();
+        }
+    }
+
+    @而且("回應的 ETag 為下一個版本")
+    public void responseETagIsNextVersion() {
+        long previous = Long.parseLong(savedETag.replace("\"", ""));
+        assertThat(updateETag).isEqualTo("\"" + (previous + 1) + "\"");
+        assertThat(contactResponse.getBody().version()).isEqualTo(previous + 1);
+    }
+
+    @那麼("系統回傳版本衝突訊息")
+    public void returnVersionConflict() {
+        assertThat(conditionalStatus).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
     // ============ User Story 4: Delete Contact ============
 
     private ResponseEntity<Void> deleteResponse;
@@ -323,6 +608,18 @@ public class ContactStepDefinitions extends CucumberSpringConfiguration {
         );
     }
 
+    @當("使用者以該 ETag 發送刪除請求")
+    public void deleteContactWithETag() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(savedETag);
+        conditionalStatus = restTemplate.exchange(
+            getBaseUrl() + "/api/contacts/" + savedContactId,
+            HttpMethod.DELETE,
+            new HttpEntity<>(headers),
+            String.class
+        ).getStatusCode();
+    }
+
     @當("使用者以 ID 為 {int} 發送刪除請求")
     public void deleteContactBySpecificId(int id) {
         errorResponse = restTemplate.exchange(
@@ -338,6 +635,11 @@ public class ContactStepDefinitions extends CucumberSpringConfiguration {
         assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
     }
 
+    @而且("該聯絡人仍存在於系統中")
+    public void verifyContactStillExists() {
+        assertThat(contactRepository.existsById(savedContactId)).isTrue();
+    }
+
     @而且("該聯絡人已從系統中移除")
     public void verifyContactDeleted() {
         assertThat(contactRepository.existsById(savedContactId)).isFalse();
@@ -1,11 +1,21 @@
 package com.example.contact.unit.application;
 
+import com.example.contact.application.port.in.BulkCreateResult;
+import com.example.contact.application.port.in.ContactPageQuery;
 import com.example.contact.application.port.in.CreateContactCommand;
+import com.example.contact.application.port.in.CursorPage;
+import com.example.contact.application.port.in.PatchContactCommand;
+import com.example.contact.application.port.in.UpdateContactCommand;
+import com.example.contact.application.port.in.UpdateContactResult;
 import com.example.contact.application.port.out.ContactRepository;
 import com.example.contact.application.port.out.DomainEventPublisher;
 import com.example.contact.application.service.ContactService;
 import com.example.contact.domain.event.ContactCreatedEvent;
+import com.example.contact.domain.event.ContactUpdatedEvent;
+import com.example.contact.domain.exception.ContactVersionConflictException;
+import com.example.contact.domain.exception.ValidationException;
 import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactChanges;
 import com.example.contact.domain.model.ContactId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,8 +26,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -103,7 +126,207 @@ class ContactServiceTest {
 
             ContactCreatedEvent event = eventCaptor.getValue();
             assertThat(event.getContactId()).isEqualTo(3L);
-            assertThat(event.getSnapshot()).containsEntry("name", "王五");
+            assertThat(event.getSnapshot().name()).isEqualTo("王五");
+        }
+    }
+
+    @Nested
+    @DisplayName("createContacts()")
+    class CreateContactsTests {
+
+        @Test
+        @DisplayName("should save valid contacts and report invalid ones per item")
+        void shouldReportInvalidItemsWithoutFailingOthers() {
+            // Given
+            List<CreateContactCommand> commands = List.of(
+                new CreateContactCommand("王小明", "0912345678", null),
+                new CreateContactCommand("", "0912345678", null),
+                new CreateContactCommand("李小華", "0987654321", "台北市")
+            );
+            when(contactRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                List<Contact> contacts = invocation.getArgument(0);
+                return List.of(contacts.get(0).withId(new ContactId(1L)), contacts.get(1).withId(new ContactId(2L)));
+            });
+
+            // When
+            BulkCreateResult result = contactService.createContacts(commands);
+
+            // Then
+            assertThat(result.createdCount()).isEqualTo(2);
+            assertThat(result.items()).extracting(BulkCreateResult.Item::created).containsExactly(true, false, true);
+            assertThat(result.items().get(1).field()).isEqualTo("name");
+            assertThat(result.items().get(2).contact().getId()).isEqualTo(new ContactId(2L));
+            verify(eventPublisher, times(2)).publish(any(ContactCreatedEvent.class));
+        }
+
+        @Test
+        @DisplayName("should reject more commands than the batch limit")
+        void shouldRejectOversizedBatch() {
+            List<CreateContactCommand> commands = Collections.nCopies(
+                ContactService.MAX_BATCH_SIZE + 1, new CreateContactCommand("王小明", "0912345678", null));
+
+            assertThatThrownBy(() -> contactService.createContacts(commands))
+                .isInstanceOf(ValidationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("updateContact()")
+    class UpdateContactTests {
+
+        private final ContactId id = new ContactId(1L);
+        private final Contact stored = Contact.create("王小明", "0912345678", "台北市").withId(id).withVersion(3L);
+
+        @Test
+        @DisplayName("should update conditionally on the expected version")
+        void shouldUpdateConditionally() {
+            when(contactRepository.findById(id)).thenReturn(Optional.of(stored));
+            when(contactRepository.updateIfVersion(any(Contact.class), any(ContactChanges.class), eq(3L)))
+                .thenAnswer(invocation -> Optional.of(((Contact) invocation.getArgument(0)).withVersion(4L)));
+
+            UpdateContactResult result = contactService.updateContact(
+                new UpdateContactCommand(id, "王大明", "0912345678", "台北市", 3L));
+
+            assertThat(result.modified()).isTrue();
+            assertThat(result.changes().fields()).containsExactly("name");
+            assertThat(result.contact().getVersion()).isEqualTo(4L);
+            assertThat(result.contact().getName()).isEqualTo("王大明");
+        }
+
+        @Test
+        @DisplayName("should skip the write and event when nothing changed")
+        void shouldSkipNoOpUpdate() {
+            when(contactRepository.findById(id)).thenReturn(Optional.of(stored));
+
+            UpdateContactResult result = contactService.updateContact(
+                new UpdateContactCommand(id, " 王小明 ", "0912345678", "台北市", 3L));
+
+            assertThat(result.modified()).isFalse();
+            assertThat(result.contact().getVersion()).isEqualTo(3L);
+            verify(contactRepository, never()).updateIfVersion(any(Contact.class), any(ContactChanges.class), anyLong());
+            verify(eventPublisher, never()).publish(any());
+        }
+
+        @Test
+        @DisplayName("should reject a stale expected version without writing")
+        void shouldRejectStaleVersion() {
+            when(contactRepository.findById(id)).thenReturn(Optional.of(stored));
+
+            assertThatThrownBy(() -> contactService.updateContact(
+                new UpdateContactCommand(id, "王大明", "0912345678", "台北市", 2L)))
+                .isInstanceOf(ContactVersionConflictException.class);
+            verify(contactRepository, never()).updateIfVersion(any(Contact.class), any(ContactChanges.class), anyLong());
+            verify(eventPublisher, never()).publish(any());
+        }
+
+        @Test
+        @DisplayName("should report a conflict when a concurrent write wins")
+        void shouldReportConcurrentWrite() {
+            when(contactRepository.findById(id)).thenReturn(Optional.of(stored));
+            when(contactRepository.updateIfVersion(any(Contact.class), any(ContactChanges.class), eq(3L))).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> contactService.updateContact(
+                new UpdateContactCommand(id, "王大明", "0912345678", "台北市")))
+                .isInstanceOf(ContactVersionConflictException.class);
+            verify(eventPublisher, never()).publish(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("patchContact()")
+    class PatchContactTests {
+
+        private final ContactId id = new ContactId(1L);
+        private final Contact stored = Contact.create("王小明", "0912345678", "台北市").withId(id).withVersion(3L);
+
+        @Test
+        @DisplayName("should write and publish only the supplied field")
+        void shouldPatchSuppliedFieldOnly() {
+            when(contactRepository.findById(id)).thenReturn(Optional.of(stored));
+            when(contactRepository.updateIfVersion(any(Contact.class), any(ContactChanges.class), eq(3L)))
+                .thenAnswer(invocation -> Optional.of(((Contact) invocation.getArgument(0)).withVersion(4L)));
+
+            UpdateContactResult result = contactService.patchContact(
+                new PatchContactCommand(id, Map.of("phone", "0987654321"), null));
+
+            ArgumentCaptor<ContactChanges> changes = ArgumentCaptor.forClass(ContactChanges.class);
+            verify(contactRepository).updateIfVersion(any(Contact.class), changes.capture(), eq(3L));
+            assertThat(changes.getValue().fields()).containsExactly("phone");
+
+            ArgumentCaptor<ContactUpdatedEvent> event = ArgumentCaptor.forClass(ContactUpdatedEvent.class);
+            verify(eventPublisher).publish(event.capture());
+            assertThat(event.getValue().getChangedFields()).containsExactly("phone");
+
+            assertThat(result.contact().getName()).isEqualTo("王小明");
+            assertThat(result.contact().getPhone()).isEqualTo("0987654321");
+            assertThat(result.contact().getAddress()).isEqualTo("台北市");
+        }
+
+        @Test
+        @DisplayName("should reject clearing a required field")
+        void shouldRejectNullRequiredField() {
+            when(contactRepository.findById(id)).thenReturn(Optional.of(stored));
+            Map<String, String> fields = new HashMap<>();
+            fields.put("name", null);
+
+            assertThatThrownBy(() -> contactService.patchContact(new PatchContactCommand(id, fields, null)))
+                .isInstanceOf(ValidationException.class);
+            verify(contactRepository, never()).updateIfVersion(any(Contact.class), any(ContactChanges.class), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("getContacts()")
+    class GetContactsTests {
+
+        @Test
+        @DisplayName("should return next cursor when more rows exist")
+        void shouldReturnNextCursorWhenMoreRowsExist() {
+            // Given - repository returns limit + 1 rows
+            when(contactRepository.findPageAfter(isNull(), eq(3))).thenReturn(contacts(1, 3));
+
+            // When
+            CursorPage<Contact> page = contactService.getContacts(ContactPageQuery.firstPage(2));
+
+            // Then
+            assertThat(page.items()).extracting(c -> c.getId().value()).containsExactly(1L, 2L);
+            assertThat(page.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should resume after the cursor position")
+        void shouldResumeAfterCursor() {
+            // Given
+            when(contactRepository.findPageAfter(isNull(), eq(3))).thenReturn(contacts(1, 3));
+            String cursor = contactService.getContacts(ContactPageQuery.firstPage(2)).nextCursor();
+            when(contactRepository.findPageAfter(eq(new ContactId(2L)), eq(3))).thenReturn(contacts(3, 3));
+
+            // When
+            CursorPage<Contact> page = contactService.getContacts(new ContactPageQuery(cursor, 2));
+
+            // Then
+            assertThat(page.items()).extracting(c -> c.getId().value()).containsExactly(3L);
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> contactService.getContacts(new ContactPageQuery("%%%", 10)))
+                .isInstanceOf(ValidationException.class);
+        }
+
+        @Test
+        @DisplayName("should reject limit above maximum")
+        void shouldRejectLimitAboveMaximum() {
+            assertThatThrownBy(() -> new ContactPageQuery(null, ContactPageQuery.MAX_LIMIT + 1))
+                .isInstanceOf(ValidationException.class);
+        }
+
+        private List<Contact> contacts(long fromId, long toId) {
+            return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> Contact.create("聯絡人" + id, "0912345678", null).withId(new ContactId(id)))
+                .toList();
         }
     }
 }
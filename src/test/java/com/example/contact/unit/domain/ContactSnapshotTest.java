@@ -0,0 +1,52 @@
+package com.example.contact.unit.domain;
+
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContactSnapshot Tests")
+class ContactSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("should encode the same JSON as Jackson, escapes included")
+    void shouldEncodeSameJsonAsJackson() throws Exception {
+        // Given
+        ContactSnapshot snapshot = ContactSnapshot.of(7L, "王\"小\\明\n", "0912\t345678", "台北市\u0001");
+
+        // When / Then
+        assertThat(snapshot.toJson()).isEqualTo(objectMapper.writeValueAsString(snapshot.toMap()));
+        assertThat(objectMapper.readTree(snapshot.toJson()).get("name").asText()).isEqualTo("王\"小\\明\n");
+    }
+
+    @Test
+    @DisplayName("should record a missing address as an empty string")
+    void shouldRecordMissingAddressAsEmptyString() {
+        // Given
+        Contact contact = Contact.create("李四", "0987654321", null).withId(new ContactId(2L));
+
+        // When
+        ContactSnapshot snapshot = ContactSnapshot.of(contact);
+
+        // Then
+        assertThat(snapshot.address()).isNull();
+        assertThat(snapshot.toJson()).isEqualTo("{\"id\":2,\"name\":\"李四\",\"phone\":\"0987654321\",\"address\":\"\"}");
+        assertThat(ContactSnapshot.of(2L, "李四", "0987654321", "")).isEqualTo(snapshot);
+    }
+
+    @Test
+    @DisplayName("should encode once and reuse the cached JSON")
+    void shouldCacheEncodedJson() {
+        // Given
+        ContactSnapshot snapshot = ContactSnapshot.of(1L, "張三", "0912345678", "台北市");
+
+        // When / Then
+        assertThat(snapshot.toJson()).isSameAs(snapshot.toJson());
+    }
+}
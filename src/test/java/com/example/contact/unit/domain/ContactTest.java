@@ -2,6 +2,7 @@ package com.example.contact.unit.domain;
 
 import com.example.contact.domain.exception.ValidationException;
 import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactChanges;
 import com.example.contact.domain.model.ContactId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -156,6 +157,34 @@ class ContactTest {
             // Then
             assertThat(contact.getUpdatedAt()).isAfter(originalUpdatedAt);
         }
+
+        @Test
+        @DisplayName("should report only the fields that changed")
+        void shouldReportChangedFields() {
+            // Given
+            Contact contact = Contact.create("張三", "0912345678", null);
+
+            // When
+            ContactChanges changes = contact.updateInfo("張三", "0987654321", null);
+
+            // Then
+            assertThat(changes.fields()).containsExactly(ContactChanges.PHONE);
+        }
+
+        @Test
+        @DisplayName("should leave updatedAt untouched when nothing changed")
+        void shouldIgnoreIdenticalUpdate() {
+            // Given
+            Contact contact = Contact.create("張三", "0912345678", "台北市");
+            var originalUpdatedAt = contact.getUpdatedAt();
+
+            // When
+            ContactChanges changes = contact.updateInfo(" 張三 ", "0912345678", "台北市");
+
+            // Then
+            assertThat(changes.isEmpty()).isTrue();
+            assertThat(contact.getUpdatedAt()).isEqualTo(originalUpdatedAt);
+        }
     }
 
     @Nested
@@ -0,0 +1,103 @@
+package com.example.contact.unit.domain;
+
+import com.example.contact.domain.model.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimeOrderedIdGenerator Tests")
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = 1_717_000_000_000L;
+
+    @Test
+    @DisplayName("should generate version 7 UUIDs carrying the creation time")
+    void shouldGenerateVersion7Uuids() {
+        // Given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> NOW);
+
+        // When
+        UUID id = generator.next();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(TimeOrderedIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.timestampOf(UUID.randomUUID()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should keep IDs strictly increasing within a millisecond, past counter overflow")
+    void shouldStayMonotonicWithinMillisecond() {
+        // Given - the clock never moves
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> NOW);
+
+        // When - more IDs than the 12-bit counter holds
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+
+        // Then
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+        assertThat(TimeOrderedIdGenerator.timestampOf(ids.get(ids.size() - 1))).isGreaterThan(NOW);
+    }
+
+    @Test
+    @DisplayName("should not go backwards when the clock does")
+    void shouldNotGoBackwardsWithClock() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get);
+        UUID before = generator.next();
+
+        // When
+        clock.set(NOW - 1_000);
+        UUID after = generator.next();
+
+        // Then
+        assertThat(after).isGreaterThan(before);
+        assertThat(TimeOrderedIdGenerator.timestampOf(after)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("should generate unique IDs across threads")
+    void shouldBeUniqueAcrossThreads() throws Exception {
+        // Given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> NOW);
+        List<List<UUID>> perThread = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            List<UUID> ids = new ArrayList<>();
+            perThread.add(ids);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    ids.add(generator.next());
+                }
+            }));
+        }
+
+        // When
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        HashSet<UUID> unique = new HashSet<>();
+        perThread.forEach(unique::addAll);
+        assertThat(unique).hasSize(8 * 5_000);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.domain.event.ContactUpdatedEvent;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.AuditPayloadFormat;
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.example.contact.infrastructure.audit.AuditPayloadProperties;
+import com.example.contact.infrastructure.event.AuditEventListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AuditEventListener Tests")
+class AuditEventListenerTest {
+
+    private static final ContactSnapshot BEFORE = ContactSnapshot.of(1L, "王小明", "0912345678", "台北市");
+
+    private final List<AuditLog> written = new ArrayList<>();
+
+    private final AuditEventListener listener = new AuditEventListener(
+        written::add, new ObjectMapper(), new AuditPayloadProperties("diff", 10));
+
+    @Test
+    @DisplayName("should store an update as a merge patch of the changed fields in diff format")
+    void shouldStoreMergePatchInDiffFormat() {
+        // When
+        listener.onContactUpdated(new ContactUpdatedEvent(contactAtVersion(3L), BEFORE));
+
+        // Then
+        AuditLog auditLog = written.get(0);
+        assertThat(auditLog.getPayloadFormat()).isEqualTo(AuditPayloadFormat.MERGE_PATCH);
+        assertThat(auditLog.getBeforeData()).isNull();
+        assertThat(auditLog.getAfterData()).isEqualTo("{\"phone\":\"0987654321\"}");
+    }
+
+    @Test
+    @DisplayName("should store full snapshots every checkpointInterval versions")
+    void shouldStoreCheckpointEveryInterval() {
+        // When
+        listener.onContactUpdated(new ContactUpdatedEvent(contactAtVersion(10L), BEFORE));
+
+        // Then
+        AuditLog auditLog = written.get(0);
+        assertThat(auditLog.getPayloadFormat()).isEqualTo(AuditPayloadFormat.CHECKPOINT);
+        assertThat(auditLog.getBeforeData()).contains("王小明", "0912345678", "台北市");
+        assertThat(auditLog.getAfterData()).contains("王小明", "0987654321", "台北市");
+    }
+
+    @Test
+    @DisplayName("should store a full replacement as a checkpoint in snapshot format")
+    void shouldStoreFullReplacementAsCheckpointInSnapshotFormat() {
+        // Given
+        AuditEventListener snapshotListener = new AuditEventListener(
+            written::add, new ObjectMapper(), new AuditPayloadProperties("snapshot", 10));
+
+        // When
+        snapshotListener.onContactUpdated(new ContactUpdatedEvent(contactAtVersion(3L), BEFORE));
+
+        // Then
+        assertThat(written.get(0).getPayloadFormat()).isEqualTo(AuditPayloadFormat.CHECKPOINT);
+        assertThat(written.get(0).getAfterData()).contains("王小明", "0987654321", "台北市");
+    }
+
+    private Contact contactAtVersion(Long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return Contact.reconstitute(new ContactId(1L), "王小明", "0987654321", "台北市", now, now, version);
+    }
+}
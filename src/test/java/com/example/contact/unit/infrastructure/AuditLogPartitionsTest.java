@@ -0,0 +1,113 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.infrastructure.adapter.out.persistence.AuditLogPartitions;
+import com.example.contact.infrastructure.adapter.out.persistence.PostgresAuditLogPartitions;
+import com.example.contact.infrastructure.adapter.out.persistence.UnpartitionedAuditLogPartitions;
+import com.example.contact.infrastructure.audit.AuditRetentionProperties;
+import com.example.contact.infrastructure.config.PersistenceConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Audit log partitions Tests")
+class AuditLogPartitionsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should detach each expired partition in its own transaction, keeping the rows replays need")
+    void shouldDetachExpiredPartitions() {
+        // Given
+        AtomicInteger transactions = new AtomicInteger();
+        TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(null);
+            }
+        };
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+            .thenReturn(List.of("audit_logs_p202312", "audit_logs_p202401", "audit_logs_p202402"));
+        PostgresAuditLogPartitions partitions =
+            new PostgresAuditLogPartitions(jdbcTemplate, transactionOperations, "audit_archive");
+
+        // When
+        long archived = partitions.archiveBefore(YearMonth.of(2024, 2));
+
+        // Then
+        LocalDateTime cutoff = LocalDateTime.of(2024, 2, 1, 0, 0);
+        assertThat(archived).isEqualTo(2);
+        assertThat(transactions).hasValue(2);
+        InOrder statements = inOrder(jdbcTemplate);
+        statements.verify(jdbcTemplate).execute("CREATE SCHEMA IF NOT EXISTS audit_archive");
+        statements.verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p202312");
+        statements.verify(jdbcTemplate).execute("ALTER TABLE audit_logs_p202312 SET SCHEMA audit_archive");
+        statements.verify(jdbcTemplate).update(contains("FROM audit_archive.audit_logs_p202312 a"), eq(cutoff));
+        statements.verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p202401");
+        statements.verify(jdbcTemplate).execute("ALTER TABLE audit_logs_p202401 SET SCHEMA audit_archive");
+        statements.verify(jdbcTemplate).update(contains("FROM audit_archive.audit_logs_p202401 a"), eq(cutoff));
+        statements.verify(jdbcTemplate).update(startsWith("DELETE FROM audit_logs"), eq(cutoff), eq(cutoff));
+        statements.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("should refuse retention on an unpartitioned PostgreSQL table rather than delete rows")
+    void shouldRefuseRetentionWithoutPartitions() throws Exception {
+        // Given
+        DataSource dataSource = postgres();
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+        PersistenceConfig config = new PersistenceConfig();
+
+        // When / Then
+        assertThatThrownBy(() -> config.auditLogPartitions(dataSource, jdbcTemplate,
+                TransactionOperations.withoutTransaction(), retention(true)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("partitioned");
+        AuditLogPartitions partitions = config.auditLogPartitions(dataSource, jdbcTemplate,
+            TransactionOperations.withoutTransaction(), retention(false));
+        assertThat(partitions).isInstanceOf(UnpartitionedAuditLogPartitions.class);
+        assertThatThrownBy(() -> partitions.archiveBefore(YearMonth.of(2024, 1)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static DataSource postgres() throws Exception {
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static AuditRetentionProperties retention(boolean enabled) {
+        return new AuditRetentionProperties(enabled, 24, 3, "audit_archive", "0 30 2 * * *", 5000);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.audit.AuditWriteProperties;
+import com.example.contact.infrastructure.audit.BatchingAuditLogWriter;
+import com.example.contact.infrastructure.audit.HttpAuditContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchingAuditLogWriter Tests")
+class BatchingAuditLogWriterTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private final List<List<AuditLog>> flushedBatches = new CopyOnWriteArrayList<>();
+
+    private final DriverManagerDataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:batching-writer;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+    private BatchingAuditLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should flush queued audit logs in batches of at most batchSize")
+    void shouldFlushInBatches() {
+        // Given - long flush interval so only batch size triggers a flush
+        writer = newWriter(100, 3, Duration.ofSeconds(30));
+        recordFlushes();
+        writer.start();
+
+        // When
+        for (long i = 1; i <= 7; i++) {
+            writer.write(auditLog(i));
+        }
+        writer.stop();
+
+        // Then
+        assertThat(flushedBatches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+        assertThat(flushedBatches.stream().mapToInt(List::size).sum()).isEqualTo(7);
+        assertThat(writer.getWrittenCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("should drain the queue on shutdown")
+    void shouldDrainOnShutdown() {
+        // Given
+        writer = newWriter(100, 500, Duration.ofSeconds(30));
+        recordFlushes();
+        writer.start();
+        for (long i = 1; i <= 5; i++) {
+            writer.write(auditLog(i));
+        }
+
+        // When
+        writer.stop();
+
+        // Then
+        assertThat(writer.getQueueSize()).isZero();
+        assertThat(flushedBatches.stream().mapToInt(List::size).sum()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should write inline when the writer is not running")
+    void shouldWriteInlineWhenNotRunning() {
+        // Given
+        writer = newWriter(1, 10, Duration.ofMillis(10));
+        recordFlushes();
+
+        // When
+        writer.write(auditLog(1L));
+
+        // Then
+        assertThat(writer.getInlineWriteCount()).isEqualTo(1);
+        assertThat(flushedBatches).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should hold audit logs of an API request until its response status is known")
+    void shouldAttachResponseStatusOfApiRequest() {
+        // Given - writer not running, so each queued audit log is written inline
+        writer = newWriter(1, 10, Duration.ofMillis(10));
+        recordFlushes();
+        HttpAuditContext context = HttpAuditContext.open("/api/contacts", "POST", "127.0.0.1", "curl/8.0");
+
+        // When
+        writer.write(auditLog(1L));
+        assertThat(flushedBatches).isEmpty();
+        context.complete(201);
+
+        // Then
+        assertThat(flushedBatches).hasSize(1);
+        assertThat(flushedBatches.get(0).get(0).getRequestMetadata()).satisfies(request -> {
+            assertThat(request.httpMethod()).isEqualTo("POST");
+            assertThat(request.apiEndpoint()).isEqualTo("/api/contacts");
+            assertThat(request.responseStatus()).isEqualTo(201);
+            assertThat(request.executionTimeMs()).isNotNull();
+        });
+        assertThat(HttpAuditContext.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should write inline in a new transaction once the business transaction has committed")
+    void shouldWriteInlineInNewTransactionAfterCommit() {
+        // Given - writer not running, so the audit log is written inline in afterCommit
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS audited (contact_id BIGINT)");
+        jdbcTemplate.update("DELETE FROM audited");
+        writer = newWriter(1, 10, Duration.ofMillis(10));
+        List<Connection> connections = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            connections.add(DataSourceUtils.getConnection(dataSource));
+            List<AuditLog> batch = invocation.getArgument(0);
+            batch.forEach(auditLog -> jdbcTemplate.update("INSERT INTO audited VALUES (?)", auditLog.getContactId()));
+            return null;
+        }).when(auditLogRepository).saveAll(any());
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            connections.add(DataSourceUtils.getConnection(dataSource));
+            jdbcTemplate.update("INSERT INTO audited VALUES (0)");
+            writer.write(auditLog(1L));
+        });
+
+        // Then - joining the committed transaction would reuse its connection, whose work is never committed
+        assertThat(writer.getInlineWriteCount()).isEqualTo(1);
+        assertThat(connections).hasSize(2).doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForList("SELECT contact_id FROM audited ORDER BY contact_id", Long.class))
+            .containsExactly(0L, 1L);
+    }
+
+    private BatchingAuditLogWriter newWriter(int capacity, int batchSize, Duration flushInterval) {
+        AuditWriteProperties properties = new AuditWriteProperties(
+            "async", capacity, batchSize, flushInterval, Duration.ofMillis(10), Duration.ofSeconds(5));
+        return new BatchingAuditLogWriter(auditLogRepository, transactionManager, properties);
+    }
+
+    private void recordFlushes() {
+        doAnswer(invocation -> {
+            flushedBatches.add(List.copyOf(invocation.getArgument(0)));
+            return null;
+        }).when(auditLogRepository).saveAll(anyList());
+    }
+
+    private AuditLog auditLog(Long contactId) {
+        return AuditLog.create(contactId, OperationType.CREATE, null, "{\"id\":" + contactId + "}");
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.application.port.in.DeleteContactUseCase;
+import com.example.contact.application.port.in.GetContactUseCase;
+import com.example.contact.application.port.in.PatchContactCommand;
+import com.example.contact.application.port.in.PatchContactUseCase;
+import com.example.contact.application.port.in.UpdateContactCommand;
+import com.example.contact.application.port.in.UpdateContactUseCase;
+import com.example.contact.domain.event.ContactUpdatedEvent;
+import com.example.contact.domain.exception.ContactNotFoundException;
+import com.example.contact.domain.exception.ContactVersionConflictException;
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.example.contact.infrastructure.cache.CachingGetContactUseCase;
+import com.example.contact.infrastructure.cache.ContactCache;
+import com.example.contact.infrastructure.cache.ContactCacheInvalidator;
+import com.example.contact.infrastructure.cache.ContactCacheProperties;
+import com.example.contact.infrastructure.cache.InvalidatingContactWriteUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CachingGetContactUseCase Tests")
+class CachingGetContactUseCaseTest {
+
+    private final ContactId id = new ContactId(1L);
+    private final Contact contact = Contact.create("王小明", "0912345678", "台北市").withId(id);
+
+    private GetContactUseCase delegate;
+    private ContactCache cache;
+    private CachingGetContactUseCase useCase;
+    private ContactCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(GetContactUseCase.class);
+        cache = new ContactCache(new ContactCacheProperties(true, 100, Duration.ofMinutes(10)));
+        useCase = new CachingGetContactUseCase(delegate, cache);
+        invalidator = new ContactCacheInvalidator(cache);
+    }
+
+    @Test
+    @DisplayName("should serve repeated reads from cache")
+    void shouldServeRepeatedReadsFromCache() {
+        when(delegate.getContactById(id)).thenReturn(contact);
+
+        useCase.getContactById(id);
+        Contact second = useCase.getContactById(id);
+
+        assertThat(second).isSameAs(contact);
+        verify(delegate, times(1)).getContactById(id);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reload contact after change event")
+    void shouldReloadAfterChangeEvent() {
+        when(delegate.getContactById(id)).thenReturn(contact);
+        useCase.getContactById(id);
+
+        invalidator.afterContactChangeCompleted(new ContactUpdatedEvent(contact, ContactSnapshot.of(contact)));
+        useCase.getContactById(id);
+
+        verify(delegate, times(2)).getContactById(id);
+    }
+
+    @Test
+    @DisplayName("should reload contact once an update returns, before any event arrives")
+    void shouldReloadAfterUpdateReturns() {
+        // Given - events only reach the invalidator later, e.g. through the outbox relay
+        UpdateContactUseCase service = mock(UpdateContactUseCase.class);
+        InvalidatingContactWriteUseCase writes = new InvalidatingContactWriteUseCase(
+            service, mock(PatchContactUseCase.class), mock(DeleteContactUseCase.class), cache);
+        when(delegate.getContactById(id)).thenReturn(contact);
+        useCase.getContactById(id);
+
+        // When
+        writes.updateContact(new UpdateContactCommand(id, "王大明", "0912345678", "台北市"));
+        useCase.getContactById(id);
+
+        // Then
+        verify(service).updateContact(new UpdateContactCommand(id, "王大明", "0912345678", "台北市"));
+        verify(delegate, times(2)).getContactById(id);
+    }
+
+    @Test
+    @DisplayName("should reload contact once a patch returns, before the ring buffer handler runs")
+    void shouldReloadAfterPatchReturns() {
+        // Given
+        PatchContactCommand command = new PatchContactCommand(id, Map.of("phone", "0987654321"), null);
+        InvalidatingContactWriteUseCase writes = new InvalidatingContactWriteUseCase(
+            mock(UpdateContactUseCase.class), mock(PatchContactUseCase.class), mock(DeleteContactUseCase.class), cache);
+        when(delegate.getContactById(id)).thenReturn(contact);
+        useCase.getContactById(id);
+
+        // When
+        writes.patchContact(command);
+        useCase.getContactById(id);
+        invalidator.onEvent(new ContactUpdatedEvent(contact, ContactSnapshot.of(contact)), null, true);
+        useCase.getContactById(id);
+
+        // Then
+        verify(delegate, times(3)).getContactById(id);
+    }
+
+    @Test
+    @DisplayName("should reload contact after a failed deletion")
+    void shouldReloadAfterFailedDeletion() {
+        // Given
+        DeleteContactUseCase service = mock(DeleteContactUseCase.class);
+        doThrow(new ContactVersionConflictException(id, 1L)).when(service).deleteContact(id, 1L);
+        InvalidatingContactWriteUseCase writes = new InvalidatingContactWriteUseCase(
+            mock(UpdateContactUseCase.class), mock(PatchContactUseCase.class), service, cache);
+        when(delegate.getContactById(id)).thenReturn(contact);
+        useCase.getContactById(id);
+
+        // When
+        assertThatThrownBy(() -> writes.deleteContact(id, 1L)).isInstanceOf(ContactVersionConflictException.class);
+        useCase.getContactById(id);
+
+        // Then
+        verify(delegate, times(2)).getContactById(id);
+    }
+
+    @Test
+    @DisplayName("should not cache missing contacts")
+    void shouldNotCacheMissingContacts() {
+        when(delegate.getContactById(id)).thenThrow(new ContactNotFoundException(id));
+
+        assertThatThrownBy(() -> useCase.getContactById(id)).isInstanceOf(ContactNotFoundException.class);
+        assertThatThrownBy(() -> useCase.getContactById(id)).isInstanceOf(ContactNotFoundException.class);
+
+        verify(delegate, times(2)).getContactById(id);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.infrastructure.coalesce.CoalescingInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("CoalescingInterceptor Tests")
+class CoalescingInterceptorTest {
+
+    private final CoalescingInterceptor interceptor = new CoalescingInterceptor();
+
+    @Test
+    @DisplayName("should run concurrent identical calls once and share the result")
+    void shouldShareInFlightCall() throws Exception {
+        SlowLookup target = new SlowLookup();
+        Lookup lookup = proxy(target);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            // Given - the first call blocks until released
+            List<CompletableFuture<String>> results = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> lookup.find(1L), callers))
+                .toList();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> interceptor.getSharedCount() == 7);
+
+            // When
+            target.release.countDown();
+
+            // Then
+            assertThat(results).extracting(CompletableFuture::join).containsOnly("contact-1");
+            assertThat(target.invocations).hasValue(1);
+            assertThat(interceptor.getCallCount()).isEqualTo(8);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should not share calls with different arguments or after completion")
+    void shouldNotShareDistinctCalls() {
+        SlowLookup target = new SlowLookup();
+        target.release.countDown();
+        Lookup lookup = proxy(target);
+
+        lookup.find(1L);
+        lookup.find(2L);
+        lookup.find(1L);
+
+        assertThat(target.invocations).hasValue(3);
+        assertThat(interceptor.getSharedCount()).isZero();
+    }
+
+    private Lookup proxy(SlowLookup target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvice(interceptor);
+        return (Lookup) factory.getProxy();
+    }
+
+    interface Lookup {
+        String find(Long id);
+    }
+
+    static class SlowLookup implements Lookup {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public String find(Long id) {
+            invocations.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "contact-" + id;
+        }
+    }
+}
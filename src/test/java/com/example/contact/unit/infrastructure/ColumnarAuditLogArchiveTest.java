@@ -0,0 +1,172 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.application.port.out.AuditLogCriteria;
+import com.example.contact.application.port.out.AuditLogRepository;
+import com.example.contact.domain.model.AuditLog;
+import com.example.contact.domain.model.OperationType;
+import com.example.contact.infrastructure.adapter.out.analytics.ColumnarAuditLogArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ColumnarAuditLogArchive Tests")
+class ColumnarAuditLogArchiveTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+    private static final LocalDateTime START = MONTH.atDay(1).atStartOfDay();
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @TempDir
+    private Path directory;
+
+    private ColumnarAuditLogArchive archive;
+
+    private final List<AuditLog> month = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 10 audit logs a day over 10 days: contact ID = day, every 5th a CREATE
+        for (int day = 0; day < 10; day++) {
+            for (int i = 0; i < 10; i++) {
+                long id = day * 10L + i + 1;
+                month.add(AuditLog.reconstitute(id, (long) day + 1, START.plusDays(day).plusMinutes(i).plusNanos(123_000),
+                    i % 5 == 0 ? OperationType.CREATE : OperationType.UPDATE, "{}", "{}"));
+            }
+        }
+        // Row groups of one day each
+        archive = new ColumnarAuditLogArchive(auditLogRepository, TransactionOperations.withoutTransaction(),
+            directory, 10);
+    }
+
+    @Test
+    @DisplayName("should read back every exported audit log without payloads")
+    void shouldRoundTripExportedMonth() {
+        // Given
+        exportMonth();
+
+        // When
+        List<AuditLog> scanned = scan(new AuditLogCriteria(null, null, null, null, null));
+
+        // Then
+        assertThat(scanned).hasSize(100);
+        assertThat(scanned).usingRecursiveFieldByFieldElementComparatorOnFields(
+                "id", "contactId", "operationTime", "operationType")
+            .containsExactlyElementsOf(month);
+        assertThat(scanned).allSatisfy(auditLog -> assertThat(auditLog.getAfterData()).isNull());
+        assertThat(archive.isExported(MONTH)).isTrue();
+        assertThat(archive.isExported(MONTH.plusMonths(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should skip row groups whose statistics cannot match the filters")
+    void shouldSkipNonMatchingRowGroups() {
+        // Given
+        exportMonth();
+
+        // When - days 3 and 4 only, contact 4 only
+        List<AuditLog> scanned = scan(new AuditLogCriteria(4L, OperationType.UPDATE,
+            START.plusDays(2), START.plusDays(4), null));
+
+        // Then
+        assertThat(scanned).hasSize(8)
+            .allSatisfy(auditLog -> {
+                assertThat(auditLog.getContactId()).isEqualTo(4L);
+                assertThat(auditLog.getOperationType()).isEqualTo(OperationType.UPDATE);
+            });
+        assertThat(archive.getRowGroupsRead()).isEqualTo(1);
+        assertThat(archive.getRowGroupsSkipped()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("should not open months outside the time range")
+    void shouldPruneMonthsOutsideTimeRange() {
+        // Given
+        exportMonth();
+
+        // When
+        List<AuditLog> scanned = scan(new AuditLogCriteria(null, null, START.plusMonths(1), null, null));
+
+        // Then
+        assertThat(scanned).isEmpty();
+        assertThat(archive.getRowGroupsRead() + archive.getRowGroupsSkipped()).isZero();
+    }
+
+    @Test
+    @Timeout(value = 10, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    @DisplayName("should reject a truncated column chunk instead of waiting for more input")
+    void shouldRejectTruncatedChunk() throws Exception {
+        // Given - the footer of the first row group records a one-byte contact ID chunk
+        exportMonth();
+        try (FileChannel channel = FileChannel.open(directory.resolve("audit-logs-2024-03.acol"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(trailer, channel.size() - 8);
+            long footer = channel.size() - 8 - trailer.flip().getInt();
+            // Group count, then rows, contact ID and time bounds, type mask, then the ID chunk's entry
+            long contactIdChunkLength = footer + 4 + 40 + 16 + Long.BYTES;
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 1), contactIdChunkLength);
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> scan(new AuditLogCriteria(null, null, null, null, null)))
+            .isInstanceOf(UncheckedIOException.class)
+            .hasRootCauseMessage("Corrupt column chunk");
+    }
+
+    @Test
+    @DisplayName("should reject a file written in an unknown layout version")
+    void shouldRejectUnknownVersion() throws Exception {
+        // Given - the version byte follows the 4-byte magic
+        exportMonth();
+        try (FileChannel channel = FileChannel.open(directory.resolve("audit-logs-2024-03.acol"),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {2}), 4);
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> scan(new AuditLogCriteria(null, null, null, null, null)))
+            .isInstanceOf(UncheckedIOException.class)
+            .hasRootCauseMessage("Unsupported columnar audit log file version 2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exportMonth() {
+        doAnswer(invocation -> {
+            month.forEach(invocation.<Consumer<AuditLog>>getArgument(2));
+            return null;
+        }).when(auditLogRepository).forEachBetween(eq(START), eq(START.plusMonths(1)), any(Consumer.class));
+        assertThat(archive.export(MONTH)).isEqualTo(100);
+    }
+
+    private List<AuditLog> scan(AuditLogCriteria criteria) {
+        List<AuditLog> scanned = new ArrayList<>();
+        archive.scan(criteria, scanned::add);
+        return scanned;
+    }
+}
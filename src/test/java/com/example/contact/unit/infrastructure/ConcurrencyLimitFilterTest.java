@@ -0,0 +1,79 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.infrastructure.adapter.in.web.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("should release the slot after each request")
+    void shouldReleaseSlot() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), objectMapper);
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request(), response, (req, res) -> { });
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+        assertThat(filter.getInFlight()).isZero();
+        assertThat(filter.getRejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject with 503 when all slots stay busy past the timeout")
+    void shouldRejectWhenSaturated() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), objectMapper);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Given - one request holds the only slot
+        CompletableFuture<Void> busy = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, (req, res) -> { });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("Service Unavailable");
+        assertThat(filter.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        busy.get(5, TimeUnit.SECONDS);
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/contacts");
+    }
+}
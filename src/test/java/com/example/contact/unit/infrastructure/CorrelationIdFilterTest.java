@@ -0,0 +1,61 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.domain.model.TimeOrderedIdGenerator;
+import com.example.contact.infrastructure.adapter.in.web.CorrelationIdFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CorrelationIdFilter Tests")
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter(new TimeOrderedIdGenerator());
+
+    @Test
+    @DisplayName("should keep a well-formed inbound correlation ID")
+    void shouldKeepInboundCorrelationId() throws Exception {
+        // Given
+        MockHttpServletRequest request = request();
+        request.addHeader(CorrelationIdFilter.HEADER, "order-42.retry_1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> logged.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        // Then
+        assertThat(logged.get()).isEqualTo("order-42.retry_1");
+        assertThat(response.getHeader(CorrelationIdFilter.HEADER)).isEqualTo("order-42.retry_1");
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("should replace a missing or malformed correlation ID with a generated one")
+    void shouldGenerateCorrelationId() throws Exception {
+        // Given - a header that would forge a log line
+        MockHttpServletRequest request = request();
+        request.addHeader(CorrelationIdFilter.HEADER, "abc\nINFO forged");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> logged.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        // Then
+        String generated = response.getHeader(CorrelationIdFilter.HEADER);
+        assertThat(UUID.fromString(generated).version()).isEqualTo(7);
+        assertThat(logged.get()).isEqualTo(generated);
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isNull();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/contacts");
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.domain.event.ContactCreatedEvent;
+import com.example.contact.domain.event.ContactDeletedEvent;
+import com.example.contact.domain.event.ContactEvent;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.example.contact.infrastructure.event.DispatchingDomainEventPublisher;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DispatchingDomainEventPublisher Tests")
+class DispatchingDomainEventPublisherTest {
+
+    private final RecordingListener listener = new RecordingListener();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DispatchingDomainEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("recordingListener", listener);
+        publisher = new DispatchingDomainEventPublisher(beanFactory);
+        publisher.bindTo(meterRegistry);
+        publisher.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("should run plain listeners on publish and transactional ones in their phase")
+    void shouldRunHandlersInTheirPhases() {
+        // Given
+        beginTransaction();
+
+        // When
+        publisher.publish(created());
+
+        // Then - ordered plain listeners first, nothing transactional yet
+        assertThat(listener.calls).containsExactly("first", "any");
+
+        // When
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Then
+        assertThat(listener.calls).containsExactly("first", "any", "beforeCommit", "afterCommit");
+    }
+
+    @Test
+    @DisplayName("should run rollback handlers only when the transaction rolls back")
+    void shouldRunRollbackHandlers() {
+        // Given
+        beginTransaction();
+        publisher.publish(created());
+
+        // When
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertThat(listener.calls).containsExactly("first", "any", "afterRollback");
+    }
+
+    @Test
+    @DisplayName("should run only fallback transactional handlers without a transaction")
+    void shouldFallBackWithoutTransaction() {
+        // When
+        publisher.publish(created());
+
+        // Then
+        assertThat(listener.calls).startsWith("first").containsExactlyInAnyOrder("first", "any", "afterCommit");
+    }
+
+    @Test
+    @DisplayName("should dispatch by event class and time each handler, errors included")
+    void shouldDispatchByEventClassAndTimeHandlers() {
+        // When
+        assertThatThrownBy(() -> publisher.publish(
+            new ContactDeletedEvent("e-2", LocalDateTime.now(), 2L, ContactSnapshot.of(2L, "李四", "0912", null))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("deleted");
+
+        // Then
+        assertThat(listener.calls).startsWith("first").containsExactlyInAnyOrder("first", "any", "deleted");
+        FunctionTimer timer = meterRegistry.get("contact.events.handler.latency")
+            .tag("handler", "RecordingListener.onDeleted")
+            .tag("phase", "immediate")
+            .functionTimer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("contact.events.handler.errors")
+            .tag("handler", "RecordingListener.onDeleted").functionCounter().count()).isEqualTo(1);
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private static ContactCreatedEvent created() {
+        return new ContactCreatedEvent("e-1", LocalDateTime.now(), 1L, ContactSnapshot.of(1L, "王小明", "0987", null));
+    }
+
+    static class RecordingListener {
+
+        final List<String> calls = new ArrayList<>();
+
+        @EventListener
+        public void onAny(ContactEvent event) {
+            calls.add("any");
+        }
+
+        @EventListener
+        @Order(1)
+        public void onFirst(ContactEvent event) {
+            calls.add("first");
+        }
+
+        @EventListener
+        public void onDeleted(ContactDeletedEvent event) {
+            calls.add("deleted");
+            throw new IllegalStateException("deleted");
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+        public void beforeCommit(ContactCreatedEvent event) {
+            calls.add("beforeCommit");
+        }
+
+        @TransactionalEventListener(fallbackExecution = true)
+        public void afterCommit(ContactCreatedEvent event) {
+            calls.add("afterCommit");
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+        public void afterRollback(ContactCreatedEvent event) {
+            calls.add("afterRollback");
+        }
+
+        @EventListener
+        public void onOtherEvent(String ignored) {
+            calls.add("string");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.domain.event.ContactCreatedEvent;
+import com.example.contact.domain.event.ContactDeletedEvent;
+import com.example.contact.domain.event.ContactUpdatedEvent;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.Contact;
+import com.example.contact.domain.model.ContactId;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.example.contact.infrastructure.event.DomainEventSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DomainEventSerializer Tests")
+class DomainEventSerializerTest {
+
+    private final DomainEventSerializer serializer = new DomainEventSerializer(new ObjectMapper());
+
+    private final Contact contact = Contact.create("王小明", "0912345678", "台北市")
+            .withId(new ContactId(7L));
+
+    @Test
+    @DisplayName("should restore created event with original identity")
+    void shouldRoundTripCreatedEvent() {
+        ContactCreatedEvent event = new ContactCreatedEvent(contact);
+
+        DomainEvent restored = roundTrip(event);
+
+        assertThat(restored).isInstanceOf(ContactCreatedEvent.class);
+        ContactCreatedEvent created = (ContactCreatedEvent) restored;
+        assertThat(created.getEventId()).isEqualTo(event.getEventId());
+        assertThat(created.getOccurredAt()).isEqualTo(event.getOccurredAt());
+        assertThat(created.getContactId()).isEqualTo(7L);
+        assertThat(created.getSnapshot()).isEqualTo(ContactSnapshot.of(contact));
+    }
+
+    @Test
+    @DisplayName("should restore before snapshot of updated event")
+    void shouldRoundTripUpdatedEvent() {
+        ContactUpdatedEvent event = new ContactUpdatedEvent(contact, ContactSnapshot.of(7L, "王大明", "0912345678", null));
+
+        ContactUpdatedEvent restored = (ContactUpdatedEvent) roundTrip(event);
+
+        assertThat(restored.getBeforeSnapshot().name()).isEqualTo("王大明");
+        assertThat(restored.getBeforeSnapshot().address()).isNull();
+        assertThat(restored.getSnapshot().phone()).isEqualTo("0912345678");
+    }
+
+    @Test
+    @DisplayName("should restore changed fields of a partial update")
+    void shouldRoundTripChangedFields() {
+        ContactUpdatedEvent event = new ContactUpdatedEvent(contact, ContactSnapshot.of(7L, "王小明", "0900000000", "台北市"), Set.of("phone"));
+
+        ContactUpdatedEvent restored = (ContactUpdatedEvent) roundTrip(event);
+
+        assertThat(restored.getChangedFields()).containsExactly("phone");
+        assertThat(((ContactUpdatedEvent) roundTrip(new ContactUpdatedEvent(contact, ContactSnapshot.of(contact)))).getChangedFields()).isNull();
+    }
+
+    @Test
+    @DisplayName("should restore deleted event")
+    void shouldRoundTripDeletedEvent() {
+        ContactDeletedEvent event = new ContactDeletedEvent(7L, ContactSnapshot.of(contact));
+
+        DomainEvent restored = roundTrip(event);
+
+        assertThat(restored).isInstanceOf(ContactDeletedEvent.class);
+        assertThat(serializer.aggregateId(restored)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("should reject unknown event type")
+    void shouldRejectUnknownEventType() {
+        assertThatThrownBy(() -> serializer.deserialize("UnknownEvent", "id", null, "{}"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DomainEvent roundTrip(DomainEvent event) {
+        String payload = serializer.serialize(event);
+        return serializer.deserialize(event.getEventType(), event.getEventId(), event.getOccurredAt(), payload);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.domain.exception.ContactNotFoundException;
+import com.example.contact.domain.model.RequestMetadata;
+import com.example.contact.infrastructure.adapter.in.web.HttpAuditAspect;
+import com.example.contact.infrastructure.audit.HttpAuditContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HttpAuditAspect Tests")
+class HttpAuditAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private final HttpAuditAspect aspect = new HttpAuditAspect();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/contacts/1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final List<RequestMetadata> completed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("should record the status the exception handler sent, not a blanket 500")
+    void shouldRecordMappedStatusOfFailedHandler() throws Throwable {
+        // Given - the handler's transaction committed audit logs, then it threw
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            HttpAuditContext.current().orElseThrow().afterCompletion(completed::add);
+            throw new ContactNotFoundException(1L);
+        });
+
+        // When
+        assertThatThrownBy(() -> aspect.captureRequest(joinPoint)).isInstanceOf(ContactNotFoundException.class);
+        assertThat(completed).isEmpty();
+        response.setStatus(404);
+        aspect.afterCompletion(request, response, null, null);
+
+        // Then
+        assertThat(completed).singleElement()
+            .satisfies(metadata -> assertThat(metadata.responseStatus()).isEqualTo(404));
+        assertThat(HttpAuditContext.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should record 500 for an exception no handler mapped")
+    void shouldRecordServerErrorForUnhandledException() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            HttpAuditContext.current().orElseThrow().afterCompletion(completed::add);
+            throw new IllegalStateException("boom");
+        });
+
+        // When
+        assertThatThrownBy(() -> aspect.captureRequest(joinPoint)).isInstanceOf(IllegalStateException.class);
+        aspect.afterCompletion(request, response, null, new IllegalStateException("boom"));
+
+        // Then
+        assertThat(completed).singleElement()
+            .satisfies(metadata -> assertThat(metadata.responseStatus()).isEqualTo(500));
+    }
+
+    @Test
+    @DisplayName("should return the handler's result even when completing the audit trail fails")
+    void shouldNotFailCommittedRequestOnCompletionError() throws Throwable {
+        // Given
+        ResponseEntity<String> ok = ResponseEntity.ok("updated");
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            HttpAuditContext context = HttpAuditContext.current().orElseThrow();
+            context.afterCompletion(metadata -> {
+                throw new IllegalStateException("audit flush failed");
+            });
+            context.afterCompletion(completed::add);
+            return ok;
+        });
+
+        // When
+        Object result = aspect.captureRequest(joinPoint);
+
+        // Then
+        assertThat(result).isSameAs(ok);
+        assertThat(completed).singleElement()
+            .satisfies(metadata -> assertThat(metadata.responseStatus()).isEqualTo(200));
+        assertThat(HttpAuditContext.current()).isEmpty();
+    }
+}
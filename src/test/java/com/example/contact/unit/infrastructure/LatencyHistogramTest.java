@@ -0,0 +1,63 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.infrastructure.metrics.LatencyHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("should report percentiles within bucket resolution")
+    void shouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // 1..1000 microseconds, one call each
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(1000);
+        assertThat(snapshot.max()).isEqualTo(1_000_000);
+        assertThat((double) snapshot.p50()).isCloseTo(500_000, within(500_000 * 0.125));
+        assertThat((double) snapshot.p99()).isCloseTo(990_000, within(990_000 * 0.125));
+        assertThat(snapshot.p999()).isLessThanOrEqualTo(snapshot.max());
+        assertThat(snapshot.meanNanos()).isCloseTo(500_500, within(1.0));
+    }
+
+    @Test
+    @DisplayName("should not lose counts under concurrent recording")
+    void shouldCountConcurrentRecords() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+            .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            }))
+            .toArray(CompletableFuture[]::new)).join();
+
+        assertThat(histogram.snapshot().count()).isEqualTo(80_000);
+        assertThat(histogram.snapshot().max()).isEqualTo(9_999);
+    }
+
+    @Test
+    @DisplayName("should clear counts on reset")
+    void shouldReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.recordError();
+
+        histogram.reset();
+
+        assertThat(histogram.snapshot()).isEqualTo(new LatencyHistogram.Snapshot(0, 0, 0, 0, 0, 0, 0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.infrastructure.adapter.in.web.export.ExportFormat;
+import com.example.contact.infrastructure.adapter.in.web.export.RecordExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecordExporter Tests")
+class RecordExporterTest {
+
+    record Row(Long id, String name, String note) {
+    }
+
+    private final RecordExporter exporter = new RecordExporter(new ObjectMapper());
+
+    private final List<Row> rows = List.of(
+        new Row(1L, "王小明", null),
+        new Row(2L, "Lee, \"Tom\"", "line1\nline2")
+    );
+
+    @Test
+    @DisplayName("should write CSV header and quote special characters")
+    void shouldWriteEscapedCsv() throws IOException {
+        ResponseEntity<StreamingResponseBody> response =
+            exporter.export("rows", Row.class, ExportFormat.CSV, null, rows::forEach);
+
+        assertThat(body(response)).isEqualTo(
+            "id,name,note\r\n"
+                + "1,王小明,\r\n"
+                + "2,\"Lee, \"\"Tom\"\"\",\"line1\nline2\"\r\n");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    @DisplayName("should write one JSON object per line")
+    void shouldWriteNdjson() throws IOException {
+        ResponseEntity<StreamingResponseBody> response =
+            exporter.export("rows", Row.class, ExportFormat.NDJSON, null, rows::forEach);
+
+        assertThat(body(response).lines().toList()).containsExactly(
+            "{\"id\":1,\"name\":\"王小明\",\"note\":null}",
+            "{\"id\":2,\"name\":\"Lee, \\\"Tom\\\"\",\"note\":\"line1\\nline2\"}");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("rows.ndjson");
+    }
+
+    @Test
+    @DisplayName("should gzip only when the client accepts it")
+    void shouldNegotiateGzip() {
+        assertThat(exporter.export("rows", Row.class, ExportFormat.CSV, "br, gzip;q=0.8", rows::forEach)
+            .getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(exporter.export("rows", Row.class, ExportFormat.CSV, "gzip;q=0", rows::forEach)
+            .getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    private static String body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
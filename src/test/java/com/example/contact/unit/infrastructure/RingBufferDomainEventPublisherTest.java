@@ -0,0 +1,269 @@
+package com.example.contact.unit.infrastructure;
+
+import com.example.contact.domain.event.ContactCreatedEvent;
+import com.example.contact.domain.event.DomainEvent;
+import com.example.contact.domain.model.ContactSnapshot;
+import com.example.contact.domain.model.RequestMetadata;
+import com.example.contact.infrastructure.event.EventRingBuffer;
+import com.example.contact.infrastructure.event.RingBufferDomainEventPublisher;
+import com.example.contact.infrastructure.event.RingBufferProperties;
+import com.example.contact.infrastructure.event.RingEventHandler;
+import com.example.contact.infrastructure.event.RingWaitStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RingBufferDomainEventPublisher Tests")
+class RingBufferDomainEventPublisherTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 5_000;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("should deliver every event to every handler in publication order, whatever the wait strategy")
+    void shouldDeliverEveryEventInOrder() throws InterruptedException {
+        for (RingWaitStrategy waitStrategy : RingWaitStrategy.values()) {
+            // Given - a ring much smaller than the burst, so producers wait for the handlers
+            RecordingHandler first = new RecordingHandler("first");
+            RecordingHandler second = new RecordingHandler("second");
+            EventRingBuffer ring = new EventRingBuffer(64, EventRingBuffer.ProducerType.MULTI, waitStrategy,
+                List.of(first, second));
+            ring.start(Thread::new);
+
+            // When
+            CountDownLatch done = new CountDownLatch(PRODUCERS);
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                long contactId = producer;
+                new Thread(() -> {
+                    for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                        ring.publish(created(contactId), null);
+                    }
+                    done.countDown();
+                }).start();
+            }
+            done.await();
+
+            // Then
+            assertThat(ring.stop(Duration.ofSeconds(10))).isTrue();
+            assertThat(first.events).as(waitStrategy.name()).hasSize(PRODUCERS * EVENTS_PER_PRODUCER)
+                .containsExactlyElementsOf(second.events);
+            assertThat(first.batches).isPositive().isLessThanOrEqualTo(first.events.size());
+            assertThat(ring.handled(0)).isEqualTo(PRODUCERS * EVENTS_PER_PRODUCER);
+            assertThat(ring.backlog(1)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("should count handler failures and keep handling")
+    void shouldSurviveHandlerFailures() {
+        // Given
+        RecordingHandler failing = new RecordingHandler("failing") {
+            @Override
+            public void onEvent(DomainEvent event, RequestMetadata request, boolean endOfBatch) {
+                super.onEvent(event, request, endOfBatch);
+                throw new IllegalStateException("boom");
+            }
+        };
+        EventRingBuffer ring = new EventRingBuffer(8, EventRingBuffer.ProducerType.SINGLE,
+            RingWaitStrategy.SLEEPING, List.of(failing));
+        ring.start(Thread::new);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            ring.publish(created(1L), null);
+        }
+
+        // Then
+        assertThat(ring.stop(Duration.ofSeconds(10))).isTrue();
+        assertThat(failing.events).hasSize(20);
+        assertThat(ring.errors(0)).isEqualTo(20);
+    }
+
+    @Test
+    @Timeout(value = 10, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    @DisplayName("should keep handling after a handler throws an Error")
+    void shouldSurviveHandlerErrors() {
+        // Given - more events than slots, so publishers would wait forever on a dead consumer
+        RecordingHandler failing = new RecordingHandler("failing") {
+            @Override
+            public void onEvent(DomainEvent event, RequestMetadata request, boolean endOfBatch) {
+                super.onEvent(event, request, endOfBatch);
+                throw new AssertionError("boom");
+            }
+        };
+        EventRingBuffer ring = new EventRingBuffer(8, EventRingBuffer.ProducerType.SINGLE,
+            RingWaitStrategy.SLEEPING, List.of(failing));
+        ring.start(Thread::new);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            ring.publish(created(1L), null);
+        }
+
+        // Then
+        assertThat(ring.stop(Duration.ofSeconds(5))).isTrue();
+        assertThat(failing.events).hasSize(20);
+        assertThat(ring.errors(0)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("should handle every event published while stopping, on the ring or inline")
+    void shouldNotDropEventsPublishedWhileStopping() throws InterruptedException {
+        // Given
+        RecordingHandler handler = new RecordingHandler("recording");
+        RingBufferDomainEventPublisher publisher = new RingBufferDomainEventPublisher(List.of(handler),
+            new RingBufferProperties(64, EventRingBuffer.ProducerType.MULTI, RingWaitStrategy.YIELDING, 10,
+                Duration.ofSeconds(10)));
+        publisher.start();
+        AtomicBoolean stopping = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(PRODUCERS);
+        for (int producer = 0; producer < PRODUCERS; producer++) {
+            long contactId = producer;
+            new Thread(() -> {
+                for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                    publisher.publish(created(contactId));
+                    if (i == EVENTS_PER_PRODUCER / 2) {
+                        stopping.set(true);
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        // When - stop half way through the producers' bursts
+        while (!stopping.get()) {
+            Thread.onSpinWait();
+        }
+        publisher.stop();
+        done.await();
+
+        // Then
+        assertThat(publisher.isRunning()).isFalse();
+        assertThat(handler.events).hasSize(PRODUCERS * EVENTS_PER_PRODUCER);
+    }
+
+    @Test
+    @DisplayName("should publish transactional events only once the transaction commits")
+    void shouldPublishOnCommitOnly() {
+        // Given
+        RecordingHandler handler = new RecordingHandler("recording");
+        RingBufferDomainEventPublisher publisher = new RingBufferDomainEventPublisher(List.of(handler),
+            new RingBufferProperties(16, EventRingBuffer.ProducerType.MULTI, RingWaitStrategy.BLOCKING, 10,
+                Duration.ofSeconds(10)));
+        publisher.start();
+        ContactCreatedEvent committed = created(1L);
+
+        // When - one transaction rolls back, the next commits
+        beginTransaction();
+        publisher.publish(created(2L));
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        beginTransaction();
+        publisher.publish(committed);
+        assertThat(TransactionSynchronizationManager.hasResource(publisher)).isTrue();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        publisher.stop();
+
+        // Then
+        assertThat(handler.events).containsExactly(committed);
+        assertThat(TransactionSynchronizationManager.hasResource(publisher)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should handle events inline once stopped")
+    void shouldHandleInlineWhenStopped() {
+        // Given
+        RecordingHandler handler = new RecordingHandler("recording");
+        RingBufferDomainEventPublisher publisher = new RingBufferDomainEventPublisher(List.of(handler),
+            new RingBufferProperties(16, EventRingBuffer.ProducerType.MULTI, RingWaitStrategy.SLEEPING, 10,
+                Duration.ofSeconds(10)));
+
+        // When
+        publisher.publish(created(1L));
+
+        // Then
+        assertThat(publisher.isRunning()).isFalse();
+        assertThat(handler.events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should keep handling inline after a handler throws an Error")
+    void shouldSurviveHandlerErrorsInline() {
+        // Given - not started, so events are handled inline
+        RecordingHandler failing = new RecordingHandler("failing") {
+            @Override
+            public void onEvent(DomainEvent event, RequestMetadata request, boolean endOfBatch) {
+                super.onEvent(event, request, endOfBatch);
+                throw new AssertionError("boom");
+            }
+        };
+        RecordingHandler recording = new RecordingHandler("recording");
+        RingBufferDomainEventPublisher publisher = new RingBufferDomainEventPublisher(List.of(failing, recording),
+            new RingBufferProperties(16, EventRingBuffer.ProducerType.MULTI, RingWaitStrategy.SLEEPING, 10,
+                Duration.ofSeconds(10)));
+
+        // When
+        publisher.publish(created(1L));
+
+        // Then
+        assertThat(failing.events).hasSize(1);
+        assertThat(recording.events).hasSize(1);
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private static ContactCreatedEvent created(long contactId) {
+        return new ContactCreatedEvent("e-" + contactId, LocalDateTime.now(), contactId,
+            ContactSnapshot.of(contactId, "王小明", "0987", null));
+    }
+
+    static class RecordingHandler implements RingEventHandler {
+
+        final List<DomainEvent> events = new ArrayList<>();
+        final String name;
+        int batches;
+
+        RecordingHandler(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void onEvent(DomainEvent event, RequestMetadata request, boolean endOfBatch) {
+            events.add(event);
+            if (endOfBatch) {
+                batches++;
+            }
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+}
@@ -13,6 +13,7 @@
     那麼 系統自動產生一筆 CREATE 類型的稽核日誌
     而且 稽核日誌包含新增的聯絡人 ID
     而且 稽核日誌包含操作時間
+    而且 稽核日誌記錄來源請求為 POST「/api/contacts」
 
   場景: 修改聯絡人時自動記錄稽核日誌
     假設 系統中已存在聯絡人「王小明」
@@ -26,3 +27,15 @@
     當 使用者以該聯絡人 ID 發送刪除請求
     那麼 系統自動產生一筆 DELETE 類型的稽核日誌
     而且 稽核日誌包含刪除的聯絡人 ID
+    而且 稽核日誌記錄來源請求為 DELETE「/api/contacts/{id}」
+
+  場景: 由事件儲存重建稽核日誌
+    假設 事件儲存為空
+    而且 系統中已存在聯絡人「王小明」
+    當 使用者修改該聯絡人姓名為「王大明」、電話為「0987654321」、地址為「新北市」
+    而且 使用者以該聯絡人 ID 發送刪除請求
+    那麼 事件儲存中的事件序號依序為「1, 2」
+    當 由事件儲存重建稽核日誌
+    那麼 重建結果包含 2 筆事件
+    而且 重建後的稽核日誌與重建前相同
+    而且 重建後今日的稽核日誌統計為修改 1 筆、刪除 1 筆
@@ -24,7 +24,91 @@
     當 管理員以操作類型 CREATE 發送查詢稽核日誌請求
     那麼 系統僅回傳 CREATE 類型的稽核日誌
 
+  場景: 以差異格式儲存的稽核日誌回傳完整的變更前後資料
+    假設 系統中已有聯絡人 ID 為 7 以差異格式儲存的修改記錄
+    當 管理員以聯絡人 ID 為 7 發送查詢稽核日誌請求
+    那麼 最新一筆稽核日誌的變更前資料包含「孫八」、「0922222222」、「台中市」
+    而且 最新一筆稽核日誌的變更後資料包含「孫八」、「0922222222」、「高雄市」
+
+  場景: 一次查詢多位聯絡人以差異格式儲存的稽核日誌
+    假設 系統中已有聯絡人 ID 為 7 以差異格式儲存的修改記錄
+    而且 系統中已有聯絡人 ID 為 8 跨月以差異格式儲存的修改記錄
+    當 管理員發送查詢所有稽核日誌請求
+    那麼 聯絡人 ID 為 7 最新一筆稽核日誌的變更後資料包含「孫八」、「0922222222」、「高雄市」
+    而且 聯絡人 ID 為 8 最新一筆稽核日誌的變更後資料包含「周九」、「0933333333」、「高雄市」
+
+  場景: 依稽核日誌重建聯絡人在過去時間點的狀態
+    假設 系統中已有聯絡人 ID 為 8 經多次修改後刪除的稽核日誌
+    當 管理員查詢聯絡人 ID 為 8 於「2024-01-15T13:30:00」的狀態
+    那麼 系統回傳該時間點的聯絡人電話「0933333333」與地址「高雄市」
+
+  場景: 查詢聯絡人刪除後時間點的狀態
+    假設 系統中已有聯絡人 ID 為 8 經多次修改後刪除的稽核日誌
+    當 管理員查詢聯絡人 ID 為 8 於「2024-01-15T14:30:00」的狀態
+    那麼 系統回傳該時間點聯絡人不存在
+
+  場景: 保留期限外的稽核日誌於保留作業中移除
+    假設 系統中已有 2023 年 12 月與 2024 年 1 月的稽核日誌記錄
+    當 執行稽核日誌保留作業並保留 2024 年 1 月起的資料，移除 3 筆
+    那麼 系統僅保留 2024 年 1 月起的稽核日誌
+
+  場景: 保留作業保留還原狀態所需的檢查點
+    假設 系統中已有聯絡人 ID 為 8 經多次修改後刪除的稽核日誌
+    當 執行稽核日誌保留作業並保留 2024 年 2 月起的資料，移除 2 筆
+    而且 管理員查詢聯絡人 ID 為 8 於「2024-01-15T13:30:00」的狀態
+    那麼 系統回傳該時間點的聯絡人電話「0933333333」與地址「高雄市」
+
+  場景: 封存分割區後仍能還原狀態與差異格式的完整資料
+    假設 系統中已有聯絡人 ID 為 8 跨月以差異格式儲存的修改記錄
+    當 以分割區封存 2024 年 1 月前的稽核日誌，封存 1 個分割區
+    而且 管理員查詢聯絡人 ID 為 8 於「2024-01-15T13:30:00」的狀態
+    那麼 系統回傳該時間點的聯絡人電話「0933333333」與地址「高雄市」
+    當 管理員以聯絡人 ID 為 8 發送查詢稽核日誌請求
+    那麼 最新一筆稽核日誌的變更前資料包含「周九」、「0933333333」、「台中市」
+    而且 最新一筆稽核日誌的變更後資料包含「周九」、「0933333333」、「高雄市」
+
+  場景: 以匯出的欄式檔案統計稽核日誌
+    假設 系統中已有 2024 年 2 月多位聯絡人的稽核日誌記錄
+    當 匯出 2024 年 2 月的稽核日誌供分析後清除主資料庫的稽核日誌
+    而且 管理員查詢 2024 年 2 月的稽核日誌統計
+    那麼 統計結果為新增 2 筆、修改 3 筆、刪除 1 筆
+    而且 修改最多的聯絡人為 ID 11 共 2 次
+    而且 2024 年 2 月 3 日的修改次數為 2
+
+  場景: 稽核日誌寫入時即時累加時間區間統計
+    假設 系統已寫入 2024 年 4 月 1 日上午不同時段的稽核日誌
+    當 管理員以 HOUR 粒度查詢「2024-04-01T00:00:00」至「2024-04-02T00:00:00」的稽核日誌統計
+    那麼 統計區間「2024-04-01T10:00」共 3 筆，其中 UPDATE 2 筆
+    而且 統計區間「2024-04-01T11:00」共 1 筆，其中 DELETE 1 筆
+
+  場景: 稽核日誌統計增量併入彙總後統計不變
+    假設 系統已寫入 2024 年 4 月 2 日上午不同時段的稽核日誌
+    當 稽核日誌統計增量併入彙總
+    而且 管理員以 HOUR 粒度查詢「2024-04-02T00:00:00」至「2024-04-03T00:00:00」的稽核日誌統計
+    那麼 統計區間「2024-04-02T10:00」共 3 筆，其中 UPDATE 2 筆
+    而且 統計區間「2024-04-02T11:00」共 1 筆，其中 DELETE 1 筆
+
+  場景: 由稽核日誌重建時間區間統計
+    假設 系統中已有聯絡人 ID 為 23 於 2024 年 5 月 2 日未列入統計的 3 筆 UPDATE 記錄
+    當 管理員重建「2024-05-02」至「2024-05-03」的稽核日誌統計
+    而且 管理員以 DAY 粒度查詢聯絡人 ID 23 於「2024-05-01T00:00:00」至「2024-05-04T00:00:00」的稽核日誌統計
+    那麼 統計區間「2024-05-02T00:00」共 3 筆，其中 UPDATE 3 筆
+
+  場景: 以過細的粒度查詢單一聯絡人的統計
+    當 管理員以 MINUTE 粒度查詢聯絡人 ID 23 於「2024-05-01T00:00:00」至「2024-05-02T00:00:00」的稽核日誌統計
+    那麼 系統回傳統計查詢參數錯誤訊息
+
   場景: 查詢無稽核日誌記錄
     假設 系統中無任何稽核日誌記錄
     當 管理員發送查詢所有稽核日誌請求
     那麼 系統回傳空的稽核日誌列表
+
+  場景: 以時間區間與組合條件分頁查詢稽核日誌
+    假設 系統中已有聯絡人 ID 為 5 於同一時間的 5 筆 UPDATE 記錄
+    而且 系統中已有其他聯絡人、其他類型與時間區間外的稽核日誌記錄
+    當 管理員以聯絡人 ID 5、操作類型 UPDATE 與時間區間每頁 2 筆逐頁查詢稽核日誌
+    那麼 系統分 3 頁回傳 5 筆不重複的稽核日誌
+
+  場景: 以無效時間區間查詢稽核日誌
+    當 管理員以結束時間早於起始時間查詢稽核日誌
+    那麼 系統回傳稽核查詢參數錯誤訊息
@@ -27,3 +27,10 @@
     當 使用者未提供電話發送新增請求
     那麼 系統回傳驗證錯誤訊息
     而且 錯誤訊息說明電話為必填欄位
+
+  場景: 批次新增聯絡人並逐筆回報驗證錯誤
+    假設 系統正常運作且無任何聯絡人
+    當 使用者批次新增 3 筆聯絡人，其中第 2 筆姓名空白
+    那麼 系統回報成功新增 2 筆、失敗 1 筆
+    而且 第 2 筆結果說明姓名為必填欄位
+    而且 成功新增的每筆聯絡人皆產生一筆 CREATE 稽核日誌
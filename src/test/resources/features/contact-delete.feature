@@ -18,3 +18,11 @@
     假設 系統中不存在 ID 為 99999 的聯絡人
     當 使用者以 ID 為 99999 發送刪除請求
     那麼 系統回傳查無資料的適當訊息
+
+  場景: 以過期的 ETag 刪除聯絡人失敗
+    假設 系統中已存在聯絡人「王小明」
+    而且 使用者已取得該聯絡人的 ETag
+    而且 該聯絡人已被其他使用者修改
+    當 使用者以該 ETag 發送刪除請求
+    那麼 系統回傳版本衝突訊息
+    而且 該聯絡人仍存在於系統中
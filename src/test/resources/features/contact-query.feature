@@ -23,3 +23,24 @@
     假設 系統中不存在 ID 為 999 的聯絡人
     當 使用者以 ID 為 999 發送查詢請求
     那麼 系統回傳查無資料的適當訊息
+
+  場景: 以游標分頁查詢聯絡人
+    假設 系統中已存在 3 筆聯絡人記錄
+    當 使用者以每頁 2 筆發送分頁查詢請求
+    那麼 系統回傳 2 筆聯絡人與下一頁游標
+    當 使用者以下一頁游標發送分頁查詢請求
+    那麼 系統回傳 1 筆聯絡人且無下一頁游標
+
+  場景: 以無效游標查詢聯絡人
+    當 使用者以無效游標發送分頁查詢請求
+    那麼 系統回傳分頁參數錯誤訊息
+
+  場景: 以 NDJSON 串流匯出聯絡人
+    假設 系統中已存在 3 筆聯絡人記錄
+    當 使用者以 ndjson 格式匯出聯絡人
+    那麼 系統串流回傳 3 行聯絡人 JSON 資料
+
+  場景: 以 gzip 壓縮的 CSV 串流匯出聯絡人
+    假設 系統中已存在 3 筆聯絡人記錄
+    當 使用者以 csv 格式並要求 gzip 壓縮匯出聯絡人
+    那麼 系統回傳 gzip 壓縮的 CSV，含標題列與 3 筆聯絡人資料列
@@ -22,6 +22,25 @@
     那麼 系統回傳更新後的聯絡人資訊
     而且 回應狀態碼為 200
     而且 聯絡人電話為「0911222333」
+    而且 回應標示變更欄位為「phone」
+
+  場景: 以相同資料修改聯絡人不產生寫入
+    當 使用者修改該聯絡人姓名為「王小明」、電話為「0912345678」、地址為「台北市」
+    那麼 系統回應該聯絡人未變更
+    而且 該聯絡人沒有任何稽核日誌
+
+  場景: 以 Merge Patch 僅修改聯絡人電話
+    當 使用者以 Merge Patch 僅修改該聯絡人電話為「0922333444」
+    那麼 系統回傳更新後的聯絡人資訊
+    而且 聯絡人姓名為「王小明」
+    而且 聯絡人電話為「0922333444」
+    而且 回應標示變更欄位為「phone」
+    而且 該聯絡人的 UPDATE 稽核日誌僅記錄「phone」欄位
+
+  場景: 以 Merge Patch 清除必填欄位失敗
+    當 使用者以 Merge Patch 將該聯絡人姓名設為 null
+    那麼 系統回傳驗證錯誤訊息
+    而且 錯誤訊息說明姓名為必填欄位
 
   場景: 修改不存在的聯絡人
     當 使用者嘗試修改 ID 為 99999 的不存在聯絡人
@@ -36,3 +55,15 @@
     當 使用者將該聯絡人電話修改為空白
     那麼 系統回傳驗證錯誤訊息
     而且 錯誤訊息說明電話為必填欄位
+
+  場景: 以相符的 ETag 修改聯絡人
+    假設 使用者已取得該聯絡人的 ETag
+    當 使用者以該 ETag 修改聯絡人姓名為「王中明」
+    那麼 系統回傳更新後的聯絡人資訊
+    而且 回應的 ETag 為下一個版本
+
+  場景: 以過期的 ETag 修改聯絡人失敗
+    假設 使用者已取得該聯絡人的 ETag
+    而且 該聯絡人已被其他使用者修改
+    當 使用者以該 ETag 修改聯絡人姓名為「王中明」
+    那麼 系統回傳版本衝突訊息